@@ -0,0 +1,61 @@
+#!/bin/sh
+# 프로필 서버 JVM 실행 프로필 (docs/JVM.md)
+# 모든 값은 환경변수로 바꿀 수 있고, JAVA_OPTS 는 마지막에 붙으므로 같은 옵션을 다시 주면 그쪽이 우선한다.
+set -eu
+
+# GC: G1(기본) | ZGC | Parallel
+JAVA_GC="${JAVA_GC:-G1}"
+# 컨테이너 메모리 한도 대비 힙 비율. 나머지는 메타스페이스, 스레드 스택, 다이렉트 버퍼(Kafka/Tomcat), CDS 아카이브 몫
+JAVA_MAX_RAM_PERCENTAGE="${JAVA_MAX_RAM_PERCENTAGE:-70}"
+# 초기 힙을 최대와 같게 두어 기동 직후 힙 확장(Full GC 유발 가능)을 피한다
+JAVA_INITIAL_RAM_PERCENTAGE="${JAVA_INITIAL_RAM_PERCENTAGE:-70}"
+# G1 목표 정지 시간 (ms)
+JAVA_MAX_GC_PAUSE_MILLIS="${JAVA_MAX_GC_PAUSE_MILLIS:-100}"
+# G1 young 영역 최소 비율(%). 요청마다 짧게 사는 DTO/JSON 버퍼가 대부분이라 young 을 넉넉히 두어 young GC 빈도를 줄인다
+JAVA_G1_NEW_SIZE_PERCENT="${JAVA_G1_NEW_SIZE_PERCENT:-30}"
+# 닉네임/도시/장르 이름 등 같은 문자열이 캐시(near cache)에 반복 보관되므로 중복 제거
+JAVA_STRING_DEDUPLICATION="${JAVA_STRING_DEDUPLICATION:-true}"
+# GC 로그 (파일 5개 x 20MB 순환). 부하 테스트로 할당률/정지 시간을 볼 때 켠다
+JAVA_GC_LOG="${JAVA_GC_LOG:-false}"
+JAVA_GC_LOG_DIR="${JAVA_GC_LOG_DIR:-/app/logs}"
+# Dockerfile 학습 실행으로 만든 AppCDS 아카이브 (docs/STARTUP.md)
+JAVA_CDS_ARCHIVE="${JAVA_CDS_ARCHIVE:-/app/app.jsa}"
+
+opts="-XX:MaxRAMPercentage=${JAVA_MAX_RAM_PERCENTAGE} -XX:InitialRAMPercentage=${JAVA_INITIAL_RAM_PERCENTAGE}"
+opts="$opts -XX:+ExitOnOutOfMemoryError"
+
+case "$JAVA_GC" in
+  G1)
+    opts="$opts -XX:+UseG1GC -XX:MaxGCPauseMillis=${JAVA_MAX_GC_PAUSE_MILLIS}"
+    opts="$opts -XX:+UnlockExperimentalVMOptions -XX:G1NewSizePercent=${JAVA_G1_NEW_SIZE_PERCENT}"
+    ;;
+  ZGC)
+    opts="$opts -XX:+UseZGC -XX:+ZGenerational"
+    ;;
+  Parallel)
+    opts="$opts -XX:+UseParallelGC"
+    ;;
+  *)
+    echo "Unknown JAVA_GC '$JAVA_GC' (expected G1, ZGC or Parallel)" >&2
+    exit 1
+    ;;
+esac
+
+if [ "$JAVA_STRING_DEDUPLICATION" = "true" ]; then
+  opts="$opts -XX:+UseStringDeduplication"
+fi
+
+if [ "$JAVA_GC_LOG" = "true" ]; then
+  mkdir -p "$JAVA_GC_LOG_DIR"
+  opts="$opts -Xlog:gc*,gc+age=trace,safepoint:file=${JAVA_GC_LOG_DIR}/gc.log:time,uptime,level,tags:filecount=5,filesize=20m"
+fi
+
+if [ -f "$JAVA_CDS_ARCHIVE" ]; then
+  opts="$opts -XX:SharedArchiveFile=${JAVA_CDS_ARCHIVE}"
+fi
+
+# 옵션 문자열의 * (-Xlog:gc*) 가 파일 이름으로 펼쳐지지 않도록
+set -f
+# exec 로 java 를 PID 1 로 만들어 SIGTERM 을 직접 받게 한다 (graceful shutdown)
+# shellcheck disable=SC2086
+exec java $opts ${JAVA_OPTS:-} -jar /app/app.jar "$@"
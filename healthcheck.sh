@@ -47,6 +47,11 @@ check_service "MariaDB" "mariadb" "docker exec mariadb mysqladmin -uroot -p'pass
 # Redis 확인
 check_service "Redis" "redis" "docker exec redis redis-cli ping"
 
+# 프로필 서버 확인 (준비 상태: DB 풀, Kafka 소비 지연, 이름 테이블 적재)
+check_service "Profile-1" "profile-server-1" "docker exec profile-server-1 curl -fs http://localhost:8080/health/ready"
+check_service "Profile-2" "profile-server-2" "docker exec profile-server-2 curl -fs http://localhost:8080/health/ready"
+check_service "Profile-3" "profile-server-3" "docker exec profile-server-3 curl -fs http://localhost:8080/health/ready"
+
 echo ""
 echo " Kafka 클러스터 상태:"
 if docker exec kafka-1 kafka-topics --list --bootstrap-server localhost:9091 > /dev/null 2>&1; then
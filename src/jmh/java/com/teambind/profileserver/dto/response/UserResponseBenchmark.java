@@ -0,0 +1,73 @@
+package com.teambind.profileserver.dto.response;
+
+import com.teambind.profileserver.entity.UserInfo;
+import com.teambind.profileserver.entity.attribute.nameTable.GenreNameTable;
+import com.teambind.profileserver.entity.attribute.nameTable.InstrumentNameTable;
+import com.teambind.profileserver.utils.InitTableMapper;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * UserResponse.fromEntity 변환 비용 벤치마크
+ *
+ * <p>단건 조회/검색 결과마다 실행되는 경로다. 장르/악기 이름은 InitTableMapper 의 메모리 테이블에서 찾으므로 setUp 에서 이름 테이블을
+ * 채워 둔다. attributes 는 장르와 악기 각각의 개수다.
+ *
+ * <p>실행: ./gradlew jmh -Pjmh.includes=UserResponse
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserResponseBenchmark {
+
+  private static final int NAME_TABLE_SIZE = 30;
+
+  @Param({"0", "3"})
+  private int attributes;
+
+  private UserInfo userInfo;
+
+  @Setup
+  public void setUp() {
+    HashMap<Integer, GenreNameTable> genres = new HashMap<>();
+    HashMap<Integer, InstrumentNameTable> instruments = new HashMap<>();
+    for (int id = 1; id <= NAME_TABLE_SIZE; id++) {
+      genres.put(id, new GenreNameTable(id, "GENRE_" + id));
+      instruments.put(id, new InstrumentNameTable(id, "INSTRUMENT_" + id));
+    }
+    HashMap<String, String> locations = new HashMap<>();
+    locations.put("SEOUL", "서울");
+    InitTableMapper.genreNameTable = genres;
+    InitTableMapper.instrumentNameTable = instruments;
+    InitTableMapper.locationNamesTable = locations;
+
+    userInfo =
+        UserInfo.builder()
+            .userId("1234567890123456789")
+            .nickname("bench_user")
+            .city("SEOUL")
+            .sex('M')
+            .introduction("벤치마크용 자기소개")
+            .profileImageUrl("https://cdn.example.com/profile/1234567890123456789.jpg")
+            .isPublic(true)
+            .isChatable(true)
+            .build();
+    for (int id = 1; id <= attributes; id++) {
+      userInfo.addGenre(genres.get(id));
+      userInfo.addInstrument(instruments.get(id));
+    }
+  }
+
+  @Benchmark
+  public UserResponse fromEntity() {
+    return UserResponse.fromEntity(userInfo);
+  }
+}
@@ -0,0 +1,73 @@
+package com.teambind.profileserver.entity;
+
+import com.teambind.profileserver.entity.attribute.nameTable.GenreNameTable;
+import com.teambind.profileserver.entity.attribute.nameTable.InstrumentNameTable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * UserInfo.addGenre / addInstrument 비용 벤치마크
+ *
+ * <p>추가할 때마다 기존 목록을 stream().anyMatch 로 훑어 중복을 확인하므로 count 개를 추가하는 비용은 O(count^2) 이다. 실제 요청은
+ * 최대 3개(genres/instruments.validation.max-size)지만 제한을 늘릴 때의 증가폭을 보려고 큰 값도 함께 잰다. 매 호출마다 새
+ * UserInfo 에 추가하므로 생성 비용이 포함된다.
+ *
+ * <p>실행: ./gradlew jmh -Pjmh.includes=UserInfoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserInfoBenchmark {
+
+  @Param({"3", "10", "50"})
+  private int count;
+
+  private GenreNameTable[] genres;
+  private InstrumentNameTable[] instruments;
+
+  @Setup
+  public void setUp() {
+    genres = new GenreNameTable[count];
+    instruments = new InstrumentNameTable[count];
+    for (int i = 0; i < count; i++) {
+      genres[i] = new GenreNameTable(i + 1, "GENRE_" + (i + 1));
+      instruments[i] = new InstrumentNameTable(i + 1, "INSTRUMENT_" + (i + 1));
+    }
+  }
+
+  @Benchmark
+  public UserInfo addGenres() {
+    UserInfo userInfo = UserInfo.builder().userId("1234567890123456789").build();
+    for (GenreNameTable genre : genres) {
+      userInfo.addGenre(genre);
+    }
+    return userInfo;
+  }
+
+  @Benchmark
+  public UserInfo addInstruments() {
+    UserInfo userInfo = UserInfo.builder().userId("1234567890123456789").build();
+    for (InstrumentNameTable instrument : instruments) {
+      userInfo.addInstrument(instrument);
+    }
+    return userInfo;
+  }
+
+  /** 이미 있는 항목을 다시 추가 (요청에 같은 ID 가 반복된 경우) - 중복 확인만 수행 */
+  @Benchmark
+  public UserInfo addDuplicateGenres() {
+    UserInfo userInfo = UserInfo.builder().userId("1234567890123456789").build();
+    for (GenreNameTable genre : genres) {
+      userInfo.addGenre(genre);
+      userInfo.addGenre(genre);
+    }
+    return userInfo;
+  }
+}
@@ -0,0 +1,64 @@
+package com.teambind.profileserver.events.serde;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.teambind.profileserver.events.event.UserNickNameChangedEvent;
+import com.teambind.profileserver.utils.json.JsonUtilWithObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 발행 이벤트 형식별 인코딩 시간과 이벤트당 바이트 수 벤치마크
+ *
+ * <p>인코딩 시간은 기본 지표로, 이벤트당 바이트 수는 보조 카운터(bytesPerEvent)로 출력한다. 브로커 압축(zstd/lz4)은 배치 단위로 적용되므로
+ * 여기서는 압축 전 크기만 비교한다.
+ *
+ * <p>실행: ./gradlew jmh -Pjmh.includes=EventFormat
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventFormatBenchmark {
+
+  @Param({JsonEventFormat.NAME, SmileEventFormat.NAME})
+  private String format;
+
+  private EventSerializationFormat encoder;
+  private UserNickNameChangedEvent event;
+
+  @Setup
+  public void setUp() {
+    encoder =
+        format.equals(SmileEventFormat.NAME)
+            ? new SmileEventFormat(JsonMapper.builder().findAndAddModules().build())
+            : new JsonEventFormat(new JsonUtilWithObjectMapper());
+    event = new UserNickNameChangedEvent("1234567890123456789", "새로운닉네임");
+  }
+
+  /** 마지막으로 인코딩한 이벤트 크기. AverageTime 모드에서 반복 평균으로 보고된다 */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Size {
+    public long bytesPerEvent;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytesPerEvent = 0;
+    }
+  }
+
+  @Benchmark
+  public byte[] encode(Size size) {
+    byte[] payload = encoder.encode(event);
+    size.bytesPerEvent = payload.length;
+    return payload;
+  }
+}
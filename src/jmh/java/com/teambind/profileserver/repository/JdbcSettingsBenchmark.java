@@ -0,0 +1,131 @@
+package com.teambind.profileserver.repository;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * MariaDB 드라이버 URL 옵션별 왕복 비용 벤치마크 (application-prod.yaml 근거 자료)
+ *
+ * <p>baseline(드라이버 기본값)과 prod(서버 측 prepared statement 캐시 + bulk 배치)로 같은 쿼리를 실행해 비교한다. 실제 MariaDB
+ * 가 필요하며 접속 정보는 환경 변수(포크된 JVM 에도 전달됨)로 받는다. user_info 에 데이터가 있어야 단건 조회가 의미 있다.
+ *
+ * <p>실행: BENCH_DB_URL=jdbc:mariadb://localhost:3306/profiles BENCH_DB_USER=root
+ * BENCH_DB_PASSWORD=... ./gradlew jmh -Pjmh.includes=JdbcSettings
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JdbcSettingsBenchmark {
+
+  static final String PROD_OPTIONS =
+      "useServerPrepStmts=true&cachePrepStmts=true&prepStmtCacheSize=250&useBulkStmts=true";
+
+  private static final String SCRATCH_TABLE = "bench_jdbc_batch";
+  private static final String SELECT_BY_ID =
+      "SELECT user_id, nickname, city, sex, is_public FROM user_info WHERE user_id = ?";
+
+  @Param({"baseline", "prod"})
+  public String options;
+
+  @Param({"100"})
+  public int batchRows;
+
+  private HikariDataSource dataSource;
+  private List<String> userIds;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    String url = Objects.requireNonNull(System.getenv("BENCH_DB_URL"), "BENCH_DB_URL");
+    if ("prod".equals(options)) {
+      url += (url.contains("?") ? "&" : "?") + PROD_OPTIONS;
+    }
+    HikariConfig config = new HikariConfig();
+    config.setJdbcUrl(url);
+    config.setUsername(System.getenv("BENCH_DB_USER"));
+    config.setPassword(System.getenv("BENCH_DB_PASSWORD"));
+    config.setMaximumPoolSize(1);
+    dataSource = new HikariDataSource(config);
+
+    userIds = new ArrayList<>();
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      try (ResultSet rs = statement.executeQuery("SELECT user_id FROM user_info LIMIT 1000")) {
+        while (rs.next()) {
+          userIds.add(rs.getString(1));
+        }
+      }
+      statement.execute(
+          "CREATE TABLE IF NOT EXISTS "
+              + SCRATCH_TABLE
+              + " (id BIGINT PRIMARY KEY, user_id VARCHAR(255), val VARCHAR(255)) ENGINE=InnoDB");
+    }
+    if (userIds.isEmpty()) {
+      userIds.add("missing-user");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS " + SCRATCH_TABLE);
+    }
+    dataSource.close();
+  }
+
+  /** 프로필 단건 조회와 같은 형태. 매번 prepareStatement 를 다시 호출하는 JPA 사용 패턴을 그대로 따른다 */
+  @Benchmark
+  public String selectByPrimaryKey() throws SQLException {
+    String userId = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement ps = connection.prepareStatement(SELECT_BY_ID)) {
+      ps.setString(1, userId);
+      try (ResultSet rs = ps.executeQuery()) {
+        return rs.next() ? rs.getString(2) : null;
+      }
+    }
+  }
+
+  /** Hibernate jdbc.batch_size 로 묶인 INSERT 와 같은 형태. 테이블을 비우기 위해 롤백한다 */
+  @Benchmark
+  public int[] batchInsert() throws SQLException {
+    long base = ThreadLocalRandom.current().nextLong(1L << 40);
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (PreparedStatement ps =
+          connection.prepareStatement(
+              "INSERT INTO " + SCRATCH_TABLE + " (id, user_id, val) VALUES (?, ?, ?)")) {
+        for (int i = 0; i < batchRows; i++) {
+          ps.setLong(1, base + i);
+          ps.setString(2, "user-" + i);
+          ps.setString(3, "value-" + i);
+          ps.addBatch();
+        }
+        return ps.executeBatch();
+      } finally {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.teambind.profileserver.repository.dsl;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.teambind.profileserver.entity.QUserInfo;
+import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 검색 조건 -> QueryDSL 술어 생성 비용 벤치마크 (ProfileSearchRepositoryImpl.buildWhere)
+ *
+ * <p>DB 없이 요청마다 실행되는 CPU 구간만 잰다. buildWhere 는 술어 트리만 만들고, renderJpql 은 EntityManager 없는 JPAQuery 로
+ * JPQL 문자열까지 직렬화한다(실제 조회 시 Hibernate 에 넘기기 전 단계). filters 는 조건 조합이다.
+ *
+ * <p>실행: ./gradlew jmh -Pjmh.includes=ProfileSearchWhere
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProfileSearchWhereBenchmark {
+
+  private static final QUserInfo ui = QUserInfo.userInfo;
+
+  @Param({"none", "city", "city_genres", "all"})
+  private String filters;
+
+  private ProfileSearchCriteria criteria;
+
+  @Setup
+  public void setUp() {
+    criteria =
+        switch (filters) {
+          case "none" -> ProfileSearchCriteria.builder().build();
+          case "city" -> ProfileSearchCriteria.builder().city("SEOUL").build();
+          case "city_genres" ->
+              ProfileSearchCriteria.builder().city("SEOUL").genres(List.of(1, 3, 5)).build();
+          default ->
+              ProfileSearchCriteria.builder()
+                  .city("SEOUL")
+                  .sex('F')
+                  .nickName("drum")
+                  .genres(List.of(1, 3, 5))
+                  .instruments(List.of(2, 4))
+                  .build();
+        };
+  }
+
+  @Benchmark
+  public BooleanBuilder buildWhere() {
+    return ProfileSearchRepositoryImpl.buildWhere(criteria);
+  }
+
+  @Benchmark
+  public String renderJpql() {
+    return new JPAQuery<>()
+        .select(ui)
+        .from(ui)
+        .where(ProfileSearchRepositoryImpl.buildWhere(criteria))
+        .orderBy(ui.userId.desc())
+        .toString();
+  }
+}
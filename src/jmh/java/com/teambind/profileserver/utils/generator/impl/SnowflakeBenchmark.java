@@ -0,0 +1,48 @@
+package com.teambind.profileserver.utils.generator.impl;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Snowflake ID 생성 처리량 벤치마크
+ *
+ * <p>ms 당 시퀀스(4096개)를 다 쓰면 다음 ms 까지 대기하므로 처리량 상한은 약 4,096 ops/ms 다. 단일 스레드와 경합(4 스레드) 상황에서
+ * 락 비용과 상한에 얼마나 가까운지를 본다.
+ *
+ * <p>실행: ./gradlew jmh -Pjmh.includes=Snowflake
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnowflakeBenchmark {
+
+  private Snowflake snowflake;
+
+  @Setup
+  public void setUp() {
+    snowflake = new Snowflake();
+  }
+
+  @Benchmark
+  public long nextId() {
+    return snowflake.nextId();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public long nextIdContended() {
+    return snowflake.nextId();
+  }
+
+  @Benchmark
+  public String generateKey() {
+    return snowflake.generateKey();
+  }
+}
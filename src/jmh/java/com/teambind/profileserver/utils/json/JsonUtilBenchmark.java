@@ -0,0 +1,66 @@
+package com.teambind.profileserver.utils.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.profileserver.events.event.ProfileImageChanged;
+import com.teambind.profileserver.events.event.UserNickNameChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 이벤트 1건당 직렬화/역직렬화 비용 벤치마크
+ *
+ * <p>기존 경로(ObjectMapper 로 String 생성 -> StringSerializer 가 UTF-8 인코딩, 수신 시 StringDeserializer
+ * 가 디코딩 -> 다시 파싱)와 바이트 경로(캐시된 ObjectWriter/ObjectReader 로 byte[] 직접 처리)를 비교한다.
+ *
+ * <p>실행: ./gradlew jmh -Pjmh.includes=JsonUtil
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonUtilBenchmark {
+
+  private ObjectMapper plainMapper;
+  private JsonUtil jsonUtil;
+  private UserNickNameChangedEvent outgoing;
+  private byte[] incoming;
+
+  @Setup
+  public void setUp() {
+    plainMapper = new ObjectMapper();
+    jsonUtil = new JsonUtilWithObjectMapper();
+    outgoing = new UserNickNameChangedEvent("1234567890123456789", "새로운닉네임");
+    incoming =
+        ("{\"referenceId\":\"1234567890123456789\","
+                + "\"imageUrl\":\"https://cdn.example.com/profile/1234567890123456789.jpg\","
+                + "\"imageId\":\"img-0001\"}")
+            .getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public byte[] serializeViaString() throws Exception {
+    return plainMapper.writeValueAsString(outgoing).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public byte[] serializeBytes() {
+    return jsonUtil.toJsonBytes(outgoing);
+  }
+
+  @Benchmark
+  public ProfileImageChanged deserializeViaString() throws Exception {
+    String json = new String(incoming, StandardCharsets.UTF_8);
+    return plainMapper.readValue(json, ProfileImageChanged.class);
+  }
+
+  @Benchmark
+  public ProfileImageChanged deserializeBytes() {
+    return jsonUtil.fromJson(incoming, ProfileImageChanged.class);
+  }
+}
@@ -0,0 +1,104 @@
+package com.teambind.profileserver.validator;
+
+import com.teambind.profileserver.entity.attribute.nameTable.GenreNameTable;
+import com.teambind.profileserver.exceptions.ProfileException;
+import com.teambind.profileserver.utils.InitTableMapper;
+import jakarta.validation.Payload;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * AttributeValidator 단독 벤치마크
+ *
+ * <p>정상 ID 목록, 최대 개수 초과(크기 검사에서 바로 false), 존재하지 않는 ID(ProfileException 생성 - 스택 트레이스 포함)
+ * 세 경우를 비교한다. maxSize 는 Spring 이 @Value 로 주입하는 필드라 setUp 에서 리플렉션으로 채운다.
+ *
+ * <p>실행: ./gradlew jmh -Pjmh.includes=AttributeValidator
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AttributeValidatorBenchmark {
+
+  private static final int MAX_SIZE = 3;
+
+  private final List<Integer> validIds = List.of(1, 5, 9);
+  private final List<Integer> tooManyIds = List.of(1, 2, 3, 4);
+  private final List<Integer> unknownIds = List.of(1, 999);
+
+  private AttributeValidator validator;
+
+  @Setup
+  public void setUp() throws ReflectiveOperationException {
+    HashMap<Integer, GenreNameTable> genres = new HashMap<>();
+    for (int id = 1; id <= 30; id++) {
+      genres.put(id, new GenreNameTable(id, "GENRE_" + id));
+    }
+    InitTableMapper.genreNameTable = genres;
+
+    validator = new AttributeValidator();
+    validator.initialize(attribute("GENRE"));
+    Field maxSize = AttributeValidator.class.getDeclaredField("maxSize");
+    maxSize.setAccessible(true);
+    maxSize.setInt(validator, MAX_SIZE);
+  }
+
+  @Benchmark
+  public boolean validIds() {
+    return validator.isValid(validIds, null);
+  }
+
+  @Benchmark
+  public boolean tooManyIds() {
+    return validator.isValid(tooManyIds, null);
+  }
+
+  @Benchmark
+  public Object unknownId() {
+    try {
+      return validator.isValid(unknownIds, null);
+    } catch (ProfileException e) {
+      return e;
+    }
+  }
+
+  private static Attribute attribute(String value) {
+    return new Attribute() {
+      @Override
+      public String value() {
+        return value;
+      }
+
+      @Override
+      public String message() {
+        return "";
+      }
+
+      @Override
+      public Class<?>[] groups() {
+        return new Class<?>[0];
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public Class<? extends Payload>[] payload() {
+        return new Class[0];
+      }
+
+      @Override
+      public Class<? extends Annotation> annotationType() {
+        return Attribute.class;
+      }
+    };
+  }
+}
@@ -0,0 +1,54 @@
+package com.teambind.profileserver.validator;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * NickNameValidator 단독 벤치마크
+ *
+ * <p>기존 방식(String.matches 로 매번 컴파일), 미리 컴파일한 Pattern, 문자 클래스 스캐너를 같은 입력으로 비교한다. 검증 컨텍스트는 사용하지
+ * 않으므로 null 을 넘긴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NickNameValidatorBenchmark {
+
+  private static final String DEFAULT_REGEX = "^[a-zA-Z0-9_]{3,15}$";
+  // 의미는 같지만 스캐너 조건에 맞지 않아 정규식 경로를 타는 규칙
+  private static final String GROUPED_REGEX = "^(?:[a-zA-Z0-9_]){3,15}$";
+
+  @Param({"valid_name_15", "bad-name", "way_too_long_nickname_value"})
+  private String nickname;
+
+  private NickNameValidator scannerValidator;
+  private NickNameValidator patternValidator;
+
+  @Setup
+  public void setUp() {
+    scannerValidator = new NickNameValidator(DEFAULT_REGEX);
+    patternValidator = new NickNameValidator(GROUPED_REGEX);
+  }
+
+  @Benchmark
+  public boolean recompileEachCall() {
+    return nickname.matches(DEFAULT_REGEX);
+  }
+
+  @Benchmark
+  public boolean precompiledPattern() {
+    return patternValidator.isValid(nickname, null);
+  }
+
+  @Benchmark
+  public boolean charClassScanner() {
+    return scannerValidator.isValid(nickname, null);
+  }
+}
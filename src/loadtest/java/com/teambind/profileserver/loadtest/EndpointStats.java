@@ -0,0 +1,65 @@
+package com.teambind.profileserver.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 엔드포인트별 지연 시간/오류 집계
+ *
+ * <p>지연은 HdrHistogram Recorder 로 마이크로초 단위 기록한다 (1us ~ 60s, 유효 숫자 3자리). 부하 드라이버는 요청을 "보냈어야 할
+ * 시각"부터 응답까지를 기록하므로, 서버가 밀려 요청이 늦게 나간 시간도 지연에 포함된다 (coordinated omission 보정).
+ */
+final class EndpointStats {
+
+  private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+  private final String name;
+  private final Recorder recorder = new Recorder(1, MAX_LATENCY_MICROS, 3);
+  private final LongAdder errors = new LongAdder();
+  private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+  private Histogram accumulated = new Histogram(1, MAX_LATENCY_MICROS, 3);
+
+  EndpointStats(String name) {
+    this.name = name;
+  }
+
+  void record(long latencyNanos, String outcome, boolean success) {
+    long micros = Math.max(1, Math.min(MAX_LATENCY_MICROS, latencyNanos / 1_000));
+    recorder.recordValue(micros);
+    if (!success) errors.increment();
+    outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+  }
+
+  /** 워밍업 구간 기록 버림 */
+  synchronized void reset() {
+    recorder.getIntervalHistogram();
+    accumulated = new Histogram(1, MAX_LATENCY_MICROS, 3);
+    errors.reset();
+    outcomes.clear();
+  }
+
+  synchronized Histogram snapshot() {
+    accumulated.add(recorder.getIntervalHistogram());
+    return accumulated.copy();
+  }
+
+  String name() {
+    return name;
+  }
+
+  long errors() {
+    return errors.sum();
+  }
+
+  /** 상태 코드(또는 예외 이름)별 건수 */
+  Map<String, Long> outcomes() {
+    Map<String, Long> result = new TreeMap<>();
+    outcomes.forEach((key, count) -> result.put(key, count.sum()));
+    return result;
+  }
+}
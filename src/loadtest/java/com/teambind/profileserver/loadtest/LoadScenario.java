@@ -0,0 +1,408 @@
+package com.teambind.profileserver.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+/**
+ * 프로필 서버 부하 시나리오 (고정 도착률)
+ *
+ * <p>초당 rate 건을 일정 간격으로 보내는 open model 이다. 응답을 기다리지 않고 다음 요청을 예정 시각에 보내며(가상 스레드), 지연은 예정
+ * 시각부터 측정하므로 서버가 밀리면 그대로 지연에 반영된다. 요청 종류와 대상은 seed 로 정해지는 하나의 난수열에서 뽑아 같은 설정이면 같은 요청
+ * 순서가 재현된다.
+ *
+ * <ul>
+ *   <li>get: GET /api/v1/profiles/{userId} - 대상은 Zipf (인기 프로필 쏠림)
+ *   <li>search: GET /api/v1/profiles?city&genres&size=20 - 30% 는 cursor 를 붙인 다음 페이지
+ *   <li>batch: POST /api/v1/profiles/batch - 20명, 30% 는 detail=true
+ *   <li>update: PUT /api/v1/profiles/{userId} - 자기소개/지역/장르/악기 변경, 대상은 균등 분포
+ *   <li>replay: profile-image-changed 토픽에 이미지 변경 이벤트 발행 (브로커 ack 까지의 지연, 소비 지연은 별도)
+ * </ul>
+ *
+ * <p>대상 사용자는 SyntheticDataGenerator 와 같은 ID 규칙(prefix + 순번)과 users 값으로 정해진다. 장르/악기 ID 는 Data.sql 의
+ * 1~10 번을 사용한다.
+ *
+ * <p>실행: ./gradlew loadTest -Dloadtest.base-url=http://localhost:8080 -Dloadtest.rate=300
+ * -Dloadtest.duration=120s -Dloadtest.mix=get=50,search=25,batch=10,update=10,replay=5
+ * -Dloadtest.kafka-bootstrap=localhost:29091
+ */
+public final class LoadScenario {
+
+  enum Operation {
+    GET,
+    SEARCH,
+    BATCH,
+    UPDATE,
+    REPLAY
+  }
+
+  private static final int ATTRIBUTE_IDS = 10;
+  private static final int BATCH_SIZE = 20;
+  private static final String IMAGE_TOPIC = "profile-image-changed";
+  // 인기 순위 -> 사용자 순번. 인기 사용자가 연속된 ID 에 몰리지 않도록 소수 곱으로 흩뜨린다
+  private static final long SCATTER_PRIME = 1_000_003L;
+
+  private final String baseUrl;
+  private final String prefix;
+  private final long users;
+  private final Duration requestTimeout;
+  private final SplittableRandom random;
+  private final ZipfDistribution popularity;
+  private final Map<Operation, Integer> weights;
+  private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+  private final HttpClient httpClient;
+  private final KafkaProducer<String, byte[]> producer;
+  private long sequence;
+
+  LoadScenario(
+      String baseUrl,
+      String prefix,
+      long users,
+      Duration requestTimeout,
+      long seed,
+      Map<Operation, Integer> weights,
+      String kafkaBootstrap,
+      ExecutorService executor) {
+    this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    this.prefix = prefix;
+    this.users = users;
+    this.requestTimeout = requestTimeout;
+    this.random = new SplittableRandom(seed);
+    this.popularity = new ZipfDistribution((int) Math.min(users, Integer.MAX_VALUE), 0.9);
+    this.weights = weights;
+    for (Operation operation : Operation.values()) {
+      stats.put(operation, new EndpointStats(operation.name().toLowerCase()));
+    }
+    this.httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executor)
+            .build();
+    this.producer = kafkaBootstrap == null ? null : createProducer(kafkaBootstrap);
+  }
+
+  public static void main(String[] args) throws Exception {
+    String kafkaBootstrap = LoadTestProperties.get("kafka-bootstrap", null);
+    Map<Operation, Integer> weights =
+        parseMix(LoadTestProperties.get("mix", "get=50,search=25,batch=10,update=10,replay=5"));
+    if (kafkaBootstrap == null && weights.getOrDefault(Operation.REPLAY, 0) > 0) {
+      System.out.println("loadtest.kafka-bootstrap not set - replay disabled");
+      weights.put(Operation.REPLAY, 0);
+    }
+    int rate = LoadTestProperties.getInt("rate", 200);
+    Duration warmup = LoadTestProperties.getDuration("warmup", Duration.ofSeconds(15));
+    Duration duration = LoadTestProperties.getDuration("duration", Duration.ofSeconds(60));
+    int maxInFlight = LoadTestProperties.getInt("max-in-flight", 5_000);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      LoadScenario scenario =
+          new LoadScenario(
+              LoadTestProperties.get("base-url", "http://localhost:8080"),
+              LoadTestProperties.get("id-prefix", "lt"),
+              LoadTestProperties.getLong("users", 1_000_000L),
+              LoadTestProperties.getDuration("request-timeout", Duration.ofSeconds(10)),
+              LoadTestProperties.getLong("seed", 42L),
+              weights,
+              kafkaBootstrap,
+              executor);
+      System.out.printf(
+          "Load: %d req/s, warmup %ds, measure %ds, mix %s%n",
+          rate, warmup.toSeconds(), duration.toSeconds(), weights);
+      double measuredSeconds = scenario.run(executor, rate, warmup, duration, maxInFlight);
+      scenario.report(
+          measuredSeconds, Path.of(LoadTestProperties.get("report-dir", "build/loadtest")));
+      scenario.close();
+    }
+  }
+
+  /**
+   * @return 측정 구간 길이(초)
+   */
+  double run(
+      ExecutorService executor, int rate, Duration warmup, Duration duration, int maxInFlight)
+      throws InterruptedException {
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+    long start = System.nanoTime();
+    long measureStart = start + warmup.toNanos();
+    long end = measureStart + duration.toNanos();
+    boolean measuring = warmup.isZero();
+
+    for (long n = 0; ; n++) {
+      long intended = start + n * intervalNanos;
+      if (intended >= end) break;
+      if (!measuring && intended >= measureStart) {
+        stats.values().forEach(EndpointStats::reset);
+        measuring = true;
+      }
+      long wait = intended - System.nanoTime();
+      if (wait > 0) LockSupport.parkNanos(wait);
+
+      Operation operation = pick();
+      Runnable request = plan(operation, intended);
+      // 동시 요청 상한을 넘으면 보내지 않고 클라이언트 포화로 기록 (드라이버 메모리 보호)
+      if (!inFlight.tryAcquire()) {
+        stats.get(operation).record(System.nanoTime() - intended, "client-saturated", false);
+        continue;
+      }
+      executor.execute(
+          () -> {
+            try {
+              request.run();
+            } finally {
+              inFlight.release();
+            }
+          });
+    }
+    long drainDeadline = System.nanoTime() + requestTimeout.toNanos() + TimeUnit.SECONDS.toNanos(5);
+    while (inFlight.availablePermits() < maxInFlight && System.nanoTime() < drainDeadline) {
+      Thread.sleep(50);
+    }
+    return duration.toNanos() / 1e9;
+  }
+
+  private Operation pick() {
+    int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+    int roll = random.nextInt(total);
+    for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+      roll -= entry.getValue();
+      if (roll < 0) return entry.getKey();
+    }
+    return Operation.GET;
+  }
+
+  // 요청 내용은 스케줄링 스레드에서 정해 재현성을 유지하고, 전송만 가상 스레드에서 한다
+  private Runnable plan(Operation operation, long intended) {
+    return switch (operation) {
+      case GET -> {
+        HttpRequest request = get("/api/v1/profiles/" + popularUser());
+        yield () -> send(operation, request, intended);
+      }
+      case SEARCH -> {
+        HttpRequest request = get("/api/v1/profiles?" + searchQuery());
+        yield () -> send(operation, request, intended);
+      }
+      case BATCH -> {
+        StringJoiner ids = new StringJoiner("\",\"", "[\"", "\"]");
+        for (int i = 0; i < BATCH_SIZE; i++) ids.add(popularUser());
+        boolean detail = random.nextInt(100) < 30;
+        HttpRequest request = post("/api/v1/profiles/batch?detail=" + detail, ids.toString());
+        yield () -> send(operation, request, intended);
+      }
+      case UPDATE -> {
+        String userId = LoadTestProperties.userId(prefix, random.nextLong(users));
+        HttpRequest request = put("/api/v1/profiles/" + userId, updateBody());
+        yield () -> send(operation, request, intended);
+      }
+      case REPLAY -> {
+        String userId = popularUser();
+        byte[] payload = imageChangedPayload(userId);
+        yield () -> publish(operation, userId, payload, intended);
+      }
+    };
+  }
+
+  private String popularUser() {
+    long rank = popularity.sample(random);
+    return LoadTestProperties.userId(prefix, (rank * SCATTER_PRIME) % users);
+  }
+
+  private String searchQuery() {
+    List<String> params = new ArrayList<>();
+    List<String> cities = SyntheticDataGenerator.CITY_RANK;
+    if (random.nextInt(100) < 80) {
+      params.add("city=" + cities.get(Math.min(cities.size() - 1, random.nextInt(6))));
+    }
+    if (random.nextInt(100) < 50) {
+      params.add("genres=" + (1 + random.nextInt(ATTRIBUTE_IDS)));
+    }
+    if (random.nextInt(100) < 20) {
+      params.add("instruments=" + (1 + random.nextInt(ATTRIBUTE_IDS)));
+    }
+    if (random.nextInt(100) < 30) {
+      params.add("cursor=" + LoadTestProperties.userId(prefix, random.nextLong(users)));
+    }
+    params.add("size=20");
+    return String.join("&", params);
+  }
+
+  private String updateBody() {
+    long n = ++sequence;
+    String city = SyntheticDataGenerator.CITY_RANK.get(random.nextInt(6));
+    return "{\"introduction\":\"load test update "
+        + n
+        + "\",\"city\":\""
+        + city
+        + "\",\"chattable\":true,\"publicProfile\":true,\"genres\":"
+        + distinctIds(1 + random.nextInt(3))
+        + ",\"instruments\":"
+        + distinctIds(1 + random.nextInt(2))
+        + "}";
+  }
+
+  private String distinctIds(int count) {
+    LinkedHashSet<Integer> ids = new LinkedHashSet<>();
+    while (ids.size() < count) ids.add(1 + random.nextInt(ATTRIBUTE_IDS));
+    return ids.toString().replace(" ", "");
+  }
+
+  private byte[] imageChangedPayload(String userId) {
+    long n = ++sequence;
+    return ("{\"referenceId\":\""
+            + userId
+            + "\",\"imageUrl\":\"https://cdn.example.com/profile/"
+            + userId
+            + "-"
+            + n
+            + ".jpg\",\"imageId\":\"img-"
+            + n
+            + "\"}")
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  private HttpRequest get(String path) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(requestTimeout).GET().build();
+  }
+
+  private HttpRequest post(String path, String json) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(requestTimeout)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(json))
+        .build();
+  }
+
+  private HttpRequest put(String path, String json) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(requestTimeout)
+        .header("Content-Type", "application/json")
+        .PUT(HttpRequest.BodyPublishers.ofString(json))
+        .build();
+  }
+
+  private void send(Operation operation, HttpRequest request, long intended) {
+    try {
+      HttpResponse<Void> response =
+          httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+      int status = response.statusCode();
+      stats
+          .get(operation)
+          .record(System.nanoTime() - intended, String.valueOf(status), status / 100 == 2);
+    } catch (IOException e) {
+      stats
+          .get(operation)
+          .record(System.nanoTime() - intended, e.getClass().getSimpleName(), false);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void publish(Operation operation, String userId, byte[] payload, long intended) {
+    try {
+      producer
+          .send(new ProducerRecord<>(IMAGE_TOPIC, userId, payload))
+          .get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+      stats.get(operation).record(System.nanoTime() - intended, "acked", true);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      stats
+          .get(operation)
+          .record(System.nanoTime() - intended, e.getClass().getSimpleName(), false);
+    }
+  }
+
+  void report(double measuredSeconds, Path reportDir) throws IOException {
+    Files.createDirectories(reportDir);
+    String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    StringBuilder csv =
+        new StringBuilder(
+            "endpoint,count,throughput_rps,errors,p50_ms,p90_ms,p99_ms,p999_ms,max_ms\n");
+
+    System.out.printf(
+        "%n%-8s %10s %10s %8s %9s %9s %9s %9s %9s%n",
+        "endpoint", "count", "req/s", "errors", "p50", "p90", "p99", "p99.9", "max");
+    for (EndpointStats endpoint : stats.values()) {
+      Histogram histogram = endpoint.snapshot();
+      long count = histogram.getTotalCount();
+      if (count == 0) continue;
+      double rps = count / measuredSeconds;
+      double[] ms = {
+        millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9)
+      };
+      double max = histogram.getMaxValue() / 1000.0;
+      System.out.printf(
+          "%-8s %10d %10.1f %8d %8.1fms %8.1fms %8.1fms %8.1fms %8.1fms  %s%n",
+          endpoint.name(), count, rps, endpoint.errors(), ms[0], ms[1], ms[2], ms[3], max,
+          endpoint.outcomes());
+      csv.append(
+          String.format(
+              "%s,%d,%.1f,%d,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+              endpoint.name(), count, rps, endpoint.errors(), ms[0], ms[1], ms[2], ms[3], max));
+      // 전체 백분위 분포 (HdrHistogram 플로터로 실행 간 비교)
+      Path hgrm = reportDir.resolve("loadtest-" + timestamp + "-" + endpoint.name() + ".hgrm");
+      try (PrintStream out = new PrintStream(hgrm.toFile(), StandardCharsets.UTF_8)) {
+        histogram.outputPercentileDistribution(out, 1000.0);
+      }
+    }
+    Path csvFile = reportDir.resolve("loadtest-" + timestamp + ".csv");
+    Files.writeString(csvFile, csv);
+    System.out.println("\nReport written to " + csvFile);
+  }
+
+  private static double millis(Histogram histogram, double percentile) {
+    return histogram.getValueAtPercentile(percentile) / 1000.0;
+  }
+
+  private void close() {
+    if (producer != null) producer.close(Duration.ofSeconds(5));
+  }
+
+  private static KafkaProducer<String, byte[]> createProducer(String bootstrap) {
+    Properties props = new Properties();
+    props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrap);
+    props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+    props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+    props.put(ProducerConfig.ACKS_CONFIG, "all");
+    props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+    return new KafkaProducer<>(props);
+  }
+
+  static Map<Operation, Integer> parseMix(String mix) {
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (String part : mix.split(",")) {
+      String[] kv = part.trim().split("=");
+      weights.put(Operation.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+    }
+    return weights;
+  }
+}
@@ -0,0 +1,50 @@
+package com.teambind.profileserver.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 - 시스템 프로퍼티(-Dloadtest.xxx)로 받고 없으면 기본값을 쓴다.
+ *
+ * <p>Gradle 태스크(generateLoadTestData, loadTest)는 실행 시 넘긴 loadtest.* 시스템 프로퍼티를 그대로 전달한다.
+ */
+final class LoadTestProperties {
+
+  private LoadTestProperties() {}
+
+  static String get(String name, String defaultValue) {
+    String value = System.getProperty("loadtest." + name);
+    return value == null || value.isBlank() ? defaultValue : value.trim();
+  }
+
+  static int getInt(String name, int defaultValue) {
+    return Integer.parseInt(get(name, String.valueOf(defaultValue)).replace("_", ""));
+  }
+
+  static long getLong(String name, long defaultValue) {
+    return Long.parseLong(get(name, String.valueOf(defaultValue)).replace("_", ""));
+  }
+
+  static double getDouble(String name, double defaultValue) {
+    return Double.parseDouble(get(name, String.valueOf(defaultValue)));
+  }
+
+  static boolean getBoolean(String name, boolean defaultValue) {
+    return Boolean.parseBoolean(get(name, String.valueOf(defaultValue)));
+  }
+
+  /** 30s, 5m, 250ms 형식 */
+  static Duration getDuration(String name, Duration defaultValue) {
+    String value = get(name, null);
+    if (value == null) return defaultValue;
+    String lower = value.toLowerCase();
+    if (lower.endsWith("ms")) return Duration.ofMillis(Long.parseLong(lower.replace("ms", "")));
+    if (lower.endsWith("s")) return Duration.ofSeconds(Long.parseLong(lower.replace("s", "")));
+    if (lower.endsWith("m")) return Duration.ofMinutes(Long.parseLong(lower.replace("m", "")));
+    return Duration.ofSeconds(Long.parseLong(lower));
+  }
+
+  /** 생성기와 부하 드라이버가 같은 규칙으로 사용자 ID 를 만든다 (ID 목록 파일 없이 재현 가능) */
+  static String userId(String prefix, long index) {
+    return prefix + String.format("%09d", index);
+  }
+}
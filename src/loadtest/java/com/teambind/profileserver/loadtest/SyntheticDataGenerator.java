@@ -0,0 +1,293 @@
+package com.teambind.profileserver.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 대량 합성 프로필 데이터 생성기
+ *
+ * <p>user_info / user_genres / user_instruments 에 JDBC 배치 INSERT 로 사용자를 채운다. 같은 seed 면 같은 데이터가
+ * 만들어지고, 사용자 ID 는 {@code <prefix><9자리 순번>} 이라 부하 드라이버(LoadScenario)가 ID 목록 없이 같은 사용자를
+ * 조회한다.
+ *
+ * <ul>
+ *   <li>지역: 인구 순위 기준 Zipf (서울·경기에 집중)
+ *   <li>장르/악기: 사용자당 0~3개 (평균 약 1.65개씩, 100만 명이면 매핑 약 330만 행), 항목은 Zipf
+ *   <li>닉네임: 인기 단어(Zipf) + "_" + 순번(36진수) - 부분 검색 시 단어별 적중 수가 치우치도록
+ *   <li>성별 M/F/O = 48/48/4, 공개 90%, 채팅 가능 70%, 자기소개 있음 60%
+ * </ul>
+ *
+ * <p>이름 테이블(location_names, genre_name, instrument_name)은 채워져 있어야 한다 (MariaDB 는 schema.sql +
+ * Data.sql). H2 처럼 빈 DB 면 -Dloadtest.create-schema=true 로 테이블을 만들고 sql/Data.sql 의 이름 데이터를 넣는다.
+ *
+ * <p>실행: ./gradlew generateLoadTestData
+ * -Dloadtest.jdbc-url=jdbc:mariadb://localhost:4000/profiles?useBulkStmts=true
+ * -Dloadtest.jdbc-user=root -Dloadtest.jdbc-password=... -Dloadtest.users=1000000
+ */
+public final class SyntheticDataGenerator {
+
+  // 지역 인구 순위 (Zipf 순위로 사용). 목록에 없는 지역은 뒤에 붙는다
+  static final List<String> CITY_RANK =
+      List.of(
+          "SEOUL", "GYEONGGI", "BUSAN", "GYEONGNAM", "INCHEON", "GYEONGBUK", "DAEGU", "CHUNGNAM",
+          "JEONNAM", "JEONBUK", "CHUNGBUK", "GANGWON", "DAEJEON", "GWANGJU", "ULSAN", "JEJU",
+          "SEJONG", "ETC");
+  private static final List<String> NICKNAME_WORDS =
+      List.of(
+          "rock", "drum", "bass", "jazz", "guitar", "piano", "indie", "vocal", "beat", "soul",
+          "funk", "metal", "blues", "pop", "synth", "keys", "folk", "punk", "lofi", "violin");
+  private static final int[] ATTRIBUTE_COUNT_WEIGHTS = {10, 35, 35, 20};
+
+  private static final String INSERT_USER =
+      "INSERT INTO user_info (user_id, profile_image_url, sex, nickname, city, introduction,"
+          + " version, created_at, last_updated_at, is_public, is_chatable)"
+          + " VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?)";
+  private static final String INSERT_GENRE =
+      "INSERT INTO user_genres (user_id, genre_id, version) VALUES (?, ?, 0)";
+  private static final String INSERT_INSTRUMENT =
+      "INSERT INTO user_instruments (user_id, instrument_id, version) VALUES (?, ?, 0)";
+
+  private final String prefix;
+  private final long users;
+  private final int batchSize;
+  private final SplittableRandom random;
+  private final LocalDateTime now = LocalDateTime.now();
+
+  private List<String> cities;
+  private List<Integer> genreIds;
+  private List<Integer> instrumentIds;
+  private ZipfDistribution cityZipf;
+  private ZipfDistribution genreZipf;
+  private ZipfDistribution instrumentZipf;
+  private final ZipfDistribution wordZipf = new ZipfDistribution(NICKNAME_WORDS.size(), 1.0);
+
+  SyntheticDataGenerator(String prefix, long users, int batchSize, long seed) {
+    this.prefix = prefix;
+    this.users = users;
+    this.batchSize = batchSize;
+    this.random = new SplittableRandom(seed);
+  }
+
+  public static void main(String[] args) throws Exception {
+    String url =
+        LoadTestProperties.get("jdbc-url", "jdbc:h2:file:./build/loadtest/profiles;MODE=MariaDB");
+    String user = LoadTestProperties.get("jdbc-user", "sa");
+    String password = LoadTestProperties.get("jdbc-password", "");
+    SyntheticDataGenerator generator =
+        new SyntheticDataGenerator(
+            LoadTestProperties.get("id-prefix", "lt"),
+            LoadTestProperties.getLong("users", 1_000_000L),
+            LoadTestProperties.getInt("batch-size", 1000),
+            LoadTestProperties.getLong("seed", 42L));
+
+    try (Connection connection = DriverManager.getConnection(url, user, password)) {
+      if (LoadTestProperties.getBoolean("create-schema", false)) {
+        createSchema(connection);
+      }
+      if (LoadTestProperties.getBoolean("truncate", true)) {
+        generator.deleteExisting(connection);
+      }
+      generator.generate(connection);
+    }
+  }
+
+  void generate(Connection connection) throws SQLException {
+    loadNameTables(connection);
+    connection.setAutoCommit(false);
+    long started = System.nanoTime();
+    long attributeRows = 0;
+    try (PreparedStatement userStmt = connection.prepareStatement(INSERT_USER);
+        PreparedStatement genreStmt = connection.prepareStatement(INSERT_GENRE);
+        PreparedStatement instrumentStmt = connection.prepareStatement(INSERT_INSTRUMENT)) {
+      for (long i = 0; i < users; i++) {
+        String userId = LoadTestProperties.userId(prefix, i);
+        addUser(userStmt, userId, i);
+        attributeRows += addAttributes(genreStmt, userId, genreIds, genreZipf);
+        attributeRows += addAttributes(instrumentStmt, userId, instrumentIds, instrumentZipf);
+
+        if ((i + 1) % batchSize == 0 || i + 1 == users) {
+          // 매핑 테이블은 user_info 를 참조하므로 사용자를 먼저 보낸다
+          userStmt.executeBatch();
+          genreStmt.executeBatch();
+          instrumentStmt.executeBatch();
+          connection.commit();
+        }
+        if ((i + 1) % 100_000 == 0) {
+          System.out.printf("  %,d users (%,d attribute rows)%n", i + 1, attributeRows);
+        }
+      }
+    }
+    double seconds = (System.nanoTime() - started) / 1e9;
+    System.out.printf(
+        "Generated %,d users and %,d attribute rows in %.1fs (%,.0f users/s)%n",
+        users, attributeRows, seconds, users / seconds);
+  }
+
+  private void addUser(PreparedStatement stmt, String userId, long index) throws SQLException {
+    Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextLong(60L * 24 * 730)));
+    int sexRoll = random.nextInt(100);
+    stmt.setString(1, userId);
+    stmt.setString(
+        2, random.nextInt(100) < 80 ? "https://cdn.example.com/profile/" + userId + ".jpg" : null);
+    stmt.setString(3, sexRoll < 48 ? "M" : sexRoll < 96 ? "F" : "O");
+    stmt.setString(4, nickname(index));
+    stmt.setString(5, cities.get(cityZipf.sample(random)));
+    stmt.setString(6, random.nextInt(100) < 60 ? "합성 데이터 자기소개 " + index : null);
+    stmt.setTimestamp(7, createdAt);
+    stmt.setTimestamp(8, createdAt);
+    stmt.setBoolean(9, random.nextInt(100) < 90);
+    stmt.setBoolean(10, random.nextInt(100) < 70);
+    stmt.addBatch();
+  }
+
+  // 닉네임 규칙(^[a-zA-Z0-9_]{3,15}$)에 맞추고, 순번을 붙여 UNIQUE 를 보장한다
+  private String nickname(long index) {
+    return NICKNAME_WORDS.get(wordZipf.sample(random)) + "_" + Long.toString(index, 36);
+  }
+
+  private int addAttributes(
+      PreparedStatement stmt, String userId, List<Integer> ids, ZipfDistribution zipf)
+      throws SQLException {
+    int count = Math.min(attributeCount(), ids.size());
+    Set<Integer> chosen = new LinkedHashSet<>();
+    while (chosen.size() < count) {
+      chosen.add(ids.get(zipf.sample(random)));
+    }
+    for (Integer id : chosen) {
+      stmt.setString(1, userId);
+      stmt.setInt(2, id);
+      stmt.addBatch();
+    }
+    return chosen.size();
+  }
+
+  private int attributeCount() {
+    int roll = random.nextInt(100);
+    for (int count = 0; count < ATTRIBUTE_COUNT_WEIGHTS.length; count++) {
+      roll -= ATTRIBUTE_COUNT_WEIGHTS[count];
+      if (roll < 0) return count;
+    }
+    return ATTRIBUTE_COUNT_WEIGHTS.length - 1;
+  }
+
+  private void loadNameTables(Connection connection) throws SQLException {
+    List<String> cityIds = queryStrings(connection, "SELECT city_id FROM location_names");
+    cityIds.sort(
+        Comparator.comparingInt(
+            (String city) -> CITY_RANK.contains(city) ? CITY_RANK.indexOf(city) : CITY_RANK.size())
+            .thenComparing(Comparator.naturalOrder()));
+    cities = cityIds;
+    genreIds = queryInts(connection, "SELECT genre_id FROM genre_name ORDER BY genre_id");
+    instrumentIds =
+        queryInts(connection, "SELECT instrument_id FROM instrument_name ORDER BY instrument_id");
+    if (cities.isEmpty() || genreIds.isEmpty() || instrumentIds.isEmpty()) {
+      throw new IllegalStateException(
+          "Name tables are empty - load sql/Data.sql or run with -Dloadtest.create-schema=true");
+    }
+    cityZipf = new ZipfDistribution(cities.size(), 1.1);
+    genreZipf = new ZipfDistribution(genreIds.size(), 1.0);
+    instrumentZipf = new ZipfDistribution(instrumentIds.size(), 1.0);
+  }
+
+  // 매핑 테이블은 ON DELETE CASCADE 지만 H2 스키마 생성 경로와 동일하게 명시적으로 지운다
+  void deleteExisting(Connection connection) throws SQLException {
+    String like = prefix + "%";
+    for (String table : List.of("user_genres", "user_instruments", "user_info")) {
+      try (PreparedStatement stmt =
+          connection.prepareStatement("DELETE FROM " + table + " WHERE user_id LIKE ?")) {
+        stmt.setString(1, like);
+        int deleted = stmt.executeUpdate();
+        if (deleted > 0) System.out.printf("Deleted %,d rows from %s%n", deleted, table);
+      }
+    }
+  }
+
+  /** H2 등 빈 DB 용 최소 스키마 (schema.sql 과 같은 컬럼, MariaDB 전용 구문 제외) + 이름 테이블 데이터 */
+  static void createSchema(Connection connection) throws SQLException, IOException {
+    try (Statement stmt = connection.createStatement()) {
+      stmt.execute(
+          "CREATE TABLE IF NOT EXISTS user_info (user_id VARCHAR(255) PRIMARY KEY,"
+              + " profile_image_url VARCHAR(500), sex CHAR(1),"
+              + " nickname VARCHAR(100) NOT NULL UNIQUE, city VARCHAR(100), introduction TEXT,"
+              + " version INT NOT NULL DEFAULT 0,"
+              + " created_at TIMESTAMP, last_updated_at TIMESTAMP, is_public BOOLEAN,"
+              + " is_chatable BOOLEAN)");
+      stmt.execute(
+          "CREATE TABLE IF NOT EXISTS location_names (city_id VARCHAR(50) PRIMARY KEY,"
+              + " city_name VARCHAR(100) NOT NULL)");
+      stmt.execute(
+          "CREATE TABLE IF NOT EXISTS genre_name (genre_id INT PRIMARY KEY,"
+              + " genre_name VARCHAR(100) NOT NULL, version INT NOT NULL DEFAULT 0)");
+      stmt.execute(
+          "CREATE TABLE IF NOT EXISTS instrument_name (instrument_id INT PRIMARY KEY,"
+              + " instrument_name VARCHAR(100) NOT NULL, version INT NOT NULL DEFAULT 0)");
+      stmt.execute(
+          "CREATE TABLE IF NOT EXISTS user_genres (user_id VARCHAR(255) NOT NULL,"
+              + " genre_id INT NOT NULL, version INT NOT NULL DEFAULT 0,"
+              + " PRIMARY KEY (user_id, genre_id))");
+      stmt.execute(
+          "CREATE TABLE IF NOT EXISTS user_instruments (user_id VARCHAR(255) NOT NULL,"
+              + " instrument_id INT NOT NULL, version INT NOT NULL DEFAULT 0,"
+              + " PRIMARY KEY (user_id, instrument_id))");
+      stmt.execute("CREATE INDEX IF NOT EXISTS idx_user_city ON user_info (city)");
+      stmt.execute("CREATE INDEX IF NOT EXISTS idx_genres_genre ON user_genres (genre_id)");
+      stmt.execute(
+          "CREATE INDEX IF NOT EXISTS idx_instruments_instrument"
+              + " ON user_instruments (instrument_id)");
+
+      if (queryStrings(connection, "SELECT city_id FROM location_names").isEmpty()) {
+        for (String insert : nameTableInserts()) {
+          stmt.execute(insert);
+        }
+      }
+    }
+  }
+
+  private static List<String> nameTableInserts() throws IOException {
+    try (InputStream in =
+        SyntheticDataGenerator.class.getClassLoader().getResourceAsStream("sql/Data.sql")) {
+      if (in == null) throw new IllegalStateException("sql/Data.sql not found on classpath");
+      String script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      List<String> inserts = new ArrayList<>();
+      for (String statement : script.replaceAll("(?m)^--.*$", "").split(";")) {
+        String trimmed = statement.strip();
+        if (trimmed.regionMatches(true, 0, "INSERT", 0, 6)) inserts.add(trimmed);
+      }
+      return inserts;
+    }
+  }
+
+  private static List<String> queryStrings(Connection connection, String sql)
+      throws SQLException {
+    List<String> values = new ArrayList<>();
+    try (Statement stmt = connection.createStatement();
+        ResultSet rs = stmt.executeQuery(sql)) {
+      while (rs.next()) values.add(rs.getString(1));
+    }
+    return values;
+  }
+
+  private static List<Integer> queryInts(Connection connection, String sql) throws SQLException {
+    List<Integer> values = new ArrayList<>();
+    try (Statement stmt = connection.createStatement();
+        ResultSet rs = stmt.executeQuery(sql)) {
+      while (rs.next()) values.add(rs.getInt(1));
+    }
+    return values;
+  }
+}
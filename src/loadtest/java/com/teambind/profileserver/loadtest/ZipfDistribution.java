@@ -0,0 +1,39 @@
+package com.teambind.profileserver.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf 분포 표본 추출기 - 순위 k(0부터)의 확률이 1/(k+1)^exponent 에 비례한다.
+ *
+ * <p>지역·장르·악기 선택과 인기 프로필 조회처럼 소수 항목에 트래픽이 몰리는 분포를 흉내 낸다. 누적 분포를 미리 계산하고 이진 탐색하므로 항목
+ * 수가 수백만이어도 추출은 O(log n) 이다.
+ */
+final class ZipfDistribution {
+
+  private final double[] cumulative;
+
+  ZipfDistribution(int size, double exponent) {
+    if (size <= 0) throw new IllegalArgumentException("size must be positive: " + size);
+    cumulative = new double[size];
+    double sum = 0;
+    for (int rank = 0; rank < size; rank++) {
+      sum += 1.0 / Math.pow(rank + 1, exponent);
+      cumulative[rank] = sum;
+    }
+    for (int rank = 0; rank < size; rank++) {
+      cumulative[rank] /= sum;
+    }
+  }
+
+  /** 0 ~ size-1 사이의 순위 */
+  int sample(RandomGenerator random) {
+    int index = Arrays.binarySearch(cumulative, random.nextDouble());
+    int rank = index >= 0 ? index : -index - 1;
+    return Math.min(rank, cumulative.length - 1);
+  }
+
+  int size() {
+    return cumulative.length;
+  }
+}
@@ -0,0 +1,14 @@
+package com.teambind.profileserver.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정 - @Async 는 Spring Boot 의 applicationTaskExecutor 를 사용한다.
+ *
+ * <p>spring.threads.virtual.enabled=true 이면 Tomcat 요청 스레드, applicationTaskExecutor, 스케줄러, Kafka 리스너
+ * 컨테이너(배치 팩토리 포함, configurer 를 거치므로)가 모두 가상 스레드로 전환된다. 자세한 내용은 docs/VIRTUAL_THREADS.md
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {}
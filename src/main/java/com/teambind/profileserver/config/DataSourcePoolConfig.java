@@ -0,0 +1,16 @@
+package com.teambind.profileserver.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/** 커넥션 풀 설정 - 크기를 명시하지 않은 Hikari 풀은 코어 수 기준으로 맞춘다 */
+@Configuration
+public class DataSourcePoolConfig {
+
+  // BeanPostProcessor 는 다른 빈보다 먼저 만들어져야 하므로 static 으로 등록
+  @Bean
+  public static HikariPoolSizer hikariPoolSizer(Environment environment) {
+    return new HikariPoolSizer(environment);
+  }
+}
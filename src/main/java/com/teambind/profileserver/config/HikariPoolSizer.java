@@ -0,0 +1,59 @@
+package com.teambind.profileserver.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+
+/**
+ * HikariCP 풀 크기 자동 설정
+ *
+ * <p>spring.datasource.hikari.maximum-pool-size 를 명시하지 않은 경우 HikariCP 권장식
+ * (DB 코어 수 * 2 + 유효 스핀들 수) 으로 고정 크기 풀(minimum-idle = maximum-pool-size)을 만든다. 코어 수는
+ * datasource.pool.db-cores 가 없으면 애플리케이션 JVM 이 보는 코어 수로 대신한다. 등록은 DataSourcePoolConfig 참고.
+ */
+@Slf4j
+public class HikariPoolSizer implements BeanPostProcessor {
+
+  static final String MAX_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+  static final String MIN_IDLE = "spring.datasource.hikari.minimum-idle";
+
+  private final Environment environment;
+
+  public HikariPoolSizer(Environment environment) {
+    this.environment = environment;
+  }
+
+  /** HikariCP 권장식: connections = (core_count * 2) + effective_spindle_count */
+  static int poolSize(int cores, int effectiveSpindles) {
+    return Math.max(2, cores * 2 + Math.max(0, effectiveSpindles));
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!(bean instanceof HikariDataSource dataSource)) {
+      return bean;
+    }
+    if (!environment.getProperty("datasource.pool.auto-size", Boolean.class, true)
+        || environment.containsProperty(MAX_POOL_SIZE)) {
+      return bean;
+    }
+    int cores =
+        environment.getProperty(
+            "datasource.pool.db-cores", Integer.class, Runtime.getRuntime().availableProcessors());
+    int spindles = environment.getProperty("datasource.pool.effective-spindles", Integer.class, 1);
+    int size = poolSize(cores, spindles);
+
+    dataSource.setMaximumPoolSize(size);
+    if (!environment.containsProperty(MIN_IDLE)) {
+      dataSource.setMinimumIdle(size);
+    }
+    log.info(
+        "Hikari pool '{}' sized to {} (cores={}, effective spindles={})",
+        dataSource.getPoolName() == null ? beanName : dataSource.getPoolName(),
+        size,
+        cores,
+        spindles);
+    return bean;
+  }
+}
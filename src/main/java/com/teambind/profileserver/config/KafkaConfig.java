@@ -0,0 +1,83 @@
+package com.teambind.profileserver.config;
+
+import com.teambind.profileserver.events.event.ProfileCreateRequest;
+import com.teambind.profileserver.events.event.ProfileImageChanged;
+import com.teambind.profileserver.events.event.UserDeletedEvent;
+import com.teambind.profileserver.events.serde.EventDeserializer;
+import com.teambind.profileserver.utils.diagnostics.QueryBudget;
+import com.teambind.profileserver.utils.diagnostics.QueryCountKafkaInterceptor;
+import com.teambind.profileserver.utils.json.JsonUtil;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaConsumerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.DelegatingByTopicDeserializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+/** Kafka 리스너 컨테이너 설정 - 기본 팩토리는 Spring Boot 자동 설정을 사용하고, 배치 소비용 팩토리만 추가한다 */
+@Configuration
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaConfig {
+
+  public static final String BATCH_LISTENER_FACTORY = "batchKafkaListenerContainerFactory";
+
+  @Bean(BATCH_LISTENER_FACTORY)
+  public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+      ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+      ConsumerFactory<Object, Object> consumerFactory,
+      QueryCountKafkaInterceptor queryCountKafkaInterceptor) {
+    ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    // spring.kafka.listener.* 설정을 그대로 적용한 뒤 배치 모드로 전환
+    configurer.configure(factory, consumerFactory);
+    factory.setBatchListener(true);
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+    factory.setBatchInterceptor(queryCountKafkaInterceptor);
+    return factory;
+  }
+
+  /** 레코드/배치별 SQL 문 수 집계. 기본(단건) 팩토리에는 Spring Boot 가 RecordInterceptor 빈으로 등록한다 */
+  @Bean
+  public QueryCountKafkaInterceptor queryCountKafkaInterceptor(QueryBudget queryBudget) {
+    return new QueryCountKafkaInterceptor(queryBudget);
+  }
+
+  /**
+   * 토픽별 타입 지정 역직렬화기. spring.kafka.consumer.value-deserializer 대신 사용되며, 역직렬화 실패는
+   * ErrorHandlingDeserializer 가 잡아 컨테이너 에러 핸들러(로그 후 건너뜀)로 넘긴다. 등록되지 않은 토픽은 byte[] 그대로 전달.
+   */
+  @Bean
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public DefaultKafkaConsumerFactoryCustomizer eventDeserializerCustomizer(JsonUtil jsonUtil) {
+    return consumerFactory -> {
+      ((DefaultKafkaConsumerFactory) consumerFactory)
+          .setValueDeserializerSupplier(
+              () -> new ErrorHandlingDeserializer<>(eventDeserializer(jsonUtil)));
+    };
+  }
+
+  // 토픽명은 KafkaConsumer 의 @KafkaListener 와 일치해야 한다
+  static DelegatingByTopicDeserializer eventDeserializer(JsonUtil jsonUtil) {
+    Map<Pattern, Deserializer<?>> delegates = new LinkedHashMap<>();
+    delegates.put(
+        Pattern.compile("profile-image-changed"),
+        new EventDeserializer<>(ProfileImageChanged.class, 1, jsonUtil));
+    delegates.put(
+        Pattern.compile("user-created"),
+        new EventDeserializer<>(ProfileCreateRequest.class, 1, jsonUtil));
+    delegates.put(
+        Pattern.compile("user-deleted"),
+        new EventDeserializer<>(UserDeletedEvent.class, 1, jsonUtil));
+    return new DelegatingByTopicDeserializer(delegates, new ByteArrayDeserializer());
+  }
+}
@@ -0,0 +1,72 @@
+package com.teambind.profileserver.config;
+
+import com.teambind.profileserver.config.datasource.ReplicaLagMonitor;
+import com.teambind.profileserver.utils.concurrent.SingleFlight;
+import com.teambind.profileserver.utils.diagnostics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자체 카운터를 가진 컴포넌트를 Micrometer 지표로 노출한다. 조회 시점에 값을 읽는 함수형 지표라 각 컴포넌트는 MeterRegistry 에 의존하지 않는다.
+ * 서비스/저장소 경로의 타이머는 각 클래스에서 직접 기록한다 (docs/METRICS.md).
+ */
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public MeterBinder singleFlightMetrics(List<SingleFlight<?, ?>> singleFlights) {
+    return registry -> {
+      for (SingleFlight<?, ?> singleFlight : singleFlights) {
+        String name = singleFlight.getName();
+        FunctionCounter.builder(
+                "profile.single-flight.calls", singleFlight, SingleFlight::getLeaderCount)
+            .tag("name", name)
+            .tag("role", "leader")
+            .register(registry);
+        FunctionCounter.builder(
+                "profile.single-flight.calls", singleFlight, SingleFlight::getMergedCount)
+            .tag("name", name)
+            .tag("role", "merged")
+            .register(registry);
+        FunctionCounter.builder(
+                "profile.single-flight.timeouts", singleFlight, SingleFlight::getTimeoutCount)
+            .tag("name", name)
+            .register(registry);
+        Gauge.builder(
+                "profile.single-flight.in-flight", singleFlight, SingleFlight::getInFlightCount)
+            .tag("name", name)
+            .register(registry);
+      }
+    };
+  }
+
+  @Bean
+  public MeterBinder diagnosticsMetrics(
+      ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor,
+      ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+    return registry -> {
+      pinningMonitor.ifAvailable(
+          monitor ->
+              FunctionCounter.builder(
+                      "jvm.threads.virtual.pinned.slow",
+                      monitor,
+                      VirtualThreadPinningMonitor::getPinnedCount)
+                  .description("임계값 이상 캐리어 스레드를 붙잡은 가상 스레드 pinning 횟수")
+                  .register(registry));
+      replicaLagMonitor.ifAvailable(
+          monitor ->
+              Gauge.builder(
+                      "profile.datasource.replica.lag",
+                      monitor,
+                      ReplicaLagMonitor::getLastLagSeconds)
+                  .baseUnit("seconds")
+                  .description("마지막으로 확인한 레플리카 복제 지연 (확인 실패 시 -1)")
+                  .register(registry));
+    };
+  }
+}
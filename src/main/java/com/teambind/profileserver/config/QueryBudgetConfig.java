@@ -0,0 +1,18 @@
+package com.teambind.profileserver.config;
+
+import com.teambind.profileserver.utils.diagnostics.QueryCountInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QueryBudgetConfig {
+
+  // Hibernate 가 실행하는 SQL 마다 QueryCounter 에 집계 (범위가 열린 스레드에서만 센다)
+  @Bean
+  public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+    return properties ->
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+  }
+}
@@ -0,0 +1,44 @@
+package com.teambind.profileserver.config;
+
+import com.teambind.profileserver.service.search.RedisProfileStore;
+import com.teambind.profileserver.utils.json.JsonUtil;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 프로필 캐시 공유 계층(Redis) 설정 - profile.cache.remote.enabled=true 일 때만 활성화된다.
+ *
+ * <p>nginx 가 요청을 세 노드에 나눠 보내므로 노드별 캐시만으로는 적중률이 낮다. 공유 계층은 모든 노드가 같이 채우고, 무효화는 pub/sub 으로
+ * 모든 노드의 near cache 에 전달된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "profile.cache.remote.enabled", havingValue = "true")
+public class RedisProfileCacheConfig {
+
+  @Bean
+  public RedisProfileStore redisProfileStore(
+      StringRedisTemplate redisTemplate,
+      JsonUtil jsonUtil,
+      @Value("${profile.cache.remote.ttl:1m}") Duration ttl,
+      @Value("${profile.cache.remote.fill-guard:10s}") Duration fillGuard,
+      @Value("${profile.cache.remote.channel:profile:cache:invalidate}") String channel) {
+    return new RedisProfileStore(redisTemplate, jsonUtil, ttl, fillGuard, channel);
+  }
+
+  @Bean
+  public RedisMessageListenerContainer profileCacheListenerContainer(
+      RedisConnectionFactory connectionFactory, RedisProfileStore redisProfileStore) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        redisProfileStore, new ChannelTopic(redisProfileStore.getChannel()));
+    return container;
+  }
+}
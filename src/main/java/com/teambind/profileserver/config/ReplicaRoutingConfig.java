@@ -0,0 +1,72 @@
+package com.teambind.profileserver.config;
+
+import com.teambind.profileserver.config.datasource.ReadWriteRoutingDataSource;
+import com.teambind.profileserver.config.datasource.ReadWriteRoutingDataSource.Route;
+import com.teambind.profileserver.config.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기/쓰기 분리 설정 - datasource.replica.url 이 있을 때만 활성화된다.
+ *
+ * <p>spring.datasource.* 는 프라이머리, datasource.replica.* 는 레플리카 풀이 되며, 애플리케이션이 주입받는 DataSource 는 두 풀
+ * 앞에 놓인 라우팅 DataSource(LazyConnectionDataSourceProxy) 하나다. 읽기 전용 트랜잭션만 레플리카로 간다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class ReplicaRoutingConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @ConfigurationProperties("datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(
+      @Value("${datasource.replica.url}") String url,
+      @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+      @Value("${datasource.replica.password:${spring.datasource.password:}}") String password) {
+    return DataSourceBuilder.create()
+        .type(HikariDataSource.class)
+        .url(url)
+        .username(username)
+        .password(password)
+        .build();
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      @Value("${datasource.replica.max-lag:5s}") Duration maxLag,
+      @Value("${datasource.replica.lag-check.enabled:true}") boolean lagCheckEnabled) {
+    return new ReplicaLagMonitor(replicaDataSource, maxLag, lagCheckEnabled);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      ReplicaLagMonitor replicaLagMonitor) {
+    ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicaLagMonitor);
+    routing.setTargetDataSources(
+        Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+    routing.setDefaultTargetDataSource(primaryDataSource);
+    routing.afterPropertiesSet();
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+}
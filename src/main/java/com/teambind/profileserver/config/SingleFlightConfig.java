@@ -0,0 +1,28 @@
+package com.teambind.profileserver.config;
+
+import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.service.search.ProfileSearchCache;
+import com.teambind.profileserver.utils.concurrent.SingleFlight;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Slice;
+
+@Configuration
+public class SingleFlightConfig {
+
+  // 인기 프로필 공유 시 같은 userId 단건 조회가 몰리면 한 번만 조회하고 결과를 나눠 받는다
+  @Bean
+  public SingleFlight<String, UserResponse> profileByIdSingleFlight(
+      @Value("${profile.single-flight.timeout:2s}") Duration timeout) {
+    return new SingleFlight<>("profile-by-id", timeout);
+  }
+
+  // 캐시가 빈 인기 검색 조합의 첫 페이지 동시 미스를 한 번의 조회로 합친다 (ProfileSearchCache)
+  @Bean
+  public SingleFlight<ProfileSearchCache.Key, Slice<UserResponse>> searchFirstPageSingleFlight(
+      @Value("${profile.single-flight.timeout:2s}") Duration timeout) {
+    return new SingleFlight<>("search-first-page", timeout);
+  }
+}
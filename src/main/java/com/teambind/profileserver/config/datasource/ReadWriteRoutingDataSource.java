@@ -0,0 +1,39 @@
+package com.teambind.profileserver.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ *
+ * <p>읽기 전용 트랜잭션은 레플리카로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출)는 프라이머리로 보낸다. 레플리카 지연이 허용치를 넘었거나
+ * ReplicaRoutingContext 로 프라이머리가 지정된 경우에는 읽기도 프라이머리로 보낸다. 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 반드시
+ * LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  public enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  private final ReplicaLagMonitor lagMonitor;
+
+  public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+    this.lagMonitor = lagMonitor;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return route();
+  }
+
+  Route route() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        || ReplicaRoutingContext.isPrimaryForced()
+        || !lagMonitor.isReplicaUsable()) {
+      return Route.PRIMARY;
+    }
+    return Route.REPLICA;
+  }
+}
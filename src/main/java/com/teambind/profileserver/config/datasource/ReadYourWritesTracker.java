@@ -0,0 +1,103 @@
+package com.teambind.profileserver.config.datasource;
+
+import com.teambind.profileserver.events.local.ProfileChangedEvent;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 최근에 프로필을 쓴 사용자 추적 (read-your-writes)
+ *
+ * <p>ProfileChangedEvent 를 받아 쓰기 트랜잭션이 커밋된 뒤 window 동안 해당 사용자의 조회는 프라이머리에서 읽도록 한다. 레플리카가
+ * 설정되지 않았으면 아무것도 기록하지 않는다.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+  // 이 크기를 넘으면 기록할 때 만료된 항목을 정리
+  private static final int PURGE_THRESHOLD = 10_000;
+
+  private final Map<String, Long> writtenUntil = new ConcurrentHashMap<>();
+  private final boolean enabled;
+  private final long windowMillis;
+  private final Clock clock;
+
+  @Autowired
+  public ReadYourWritesTracker(
+      @Value("${datasource.replica.url:}") String replicaUrl,
+      @Value("${datasource.replica.read-your-writes-window:5s}") Duration window) {
+    this(!replicaUrl.isBlank(), window, Clock.systemUTC());
+  }
+
+  ReadYourWritesTracker(boolean enabled, Duration window, Clock clock) {
+    this.enabled = enabled;
+    this.windowMillis = window.toMillis();
+    this.clock = clock;
+  }
+
+  @EventListener
+  public void onProfileChanged(ProfileChangedEvent event) {
+    event.userIds().forEach(this::markWritten);
+  }
+
+  /** 현재 트랜잭션이 커밋되면(트랜잭션 밖이면 즉시) userId 를 최근 쓰기로 기록 */
+  public void markWritten(String userId) {
+    if (!enabled || userId == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              record(userId);
+            }
+          });
+    } else {
+      record(userId);
+    }
+  }
+
+  public boolean isRecentlyWritten(String userId) {
+    if (!enabled || userId == null || writtenUntil.isEmpty()) {
+      return false;
+    }
+    Long until = writtenUntil.get(userId);
+    if (until == null) {
+      return false;
+    }
+    if (until < clock.millis()) {
+      writtenUntil.remove(userId, until);
+      return false;
+    }
+    return true;
+  }
+
+  public boolean anyRecentlyWritten(Collection<String> userIds) {
+    if (!enabled || writtenUntil.isEmpty()) {
+      return false;
+    }
+    for (String userId : userIds) {
+      if (isRecentlyWritten(userId)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void record(String userId) {
+    long now = clock.millis();
+    writtenUntil.put(userId, now + windowMillis);
+    if (writtenUntil.size() > PURGE_THRESHOLD) {
+      writtenUntil.values().removeIf(until -> until < now);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.teambind.profileserver.config.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 레플리카 복제 지연 감시
+ *
+ * <p>레플리카에서 SHOW SLAVE STATUS 의 Seconds_Behind_Master 를 주기적으로 읽어, 복제가 멈췄거나(NULL) 지연이 max-lag 를
+ * 넘었거나 레플리카에 접속할 수 없으면 읽기를 프라이머리로 돌린다. 다음 검사에서 회복되면 다시 레플리카를 사용한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+  static final String LAG_QUERY = "SHOW SLAVE STATUS";
+  static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+  private final DataSource replica;
+  private final long maxLagSeconds;
+  private final boolean enabled;
+
+  private volatile boolean usable = true;
+  private volatile long lastLagSeconds = 0L;
+
+  public ReplicaLagMonitor(DataSource replica, Duration maxLag, boolean enabled) {
+    this.replica = replica;
+    this.maxLagSeconds = maxLag.toSeconds();
+    this.enabled = enabled;
+  }
+
+  /** 읽기 전용 트랜잭션을 레플리카로 보내도 되면 true */
+  public boolean isReplicaUsable() {
+    return usable;
+  }
+
+  /** 마지막으로 확인한 지연(초). 확인 실패 시 -1 */
+  public long getLastLagSeconds() {
+    return lastLagSeconds;
+  }
+
+  @Scheduled(
+      fixedDelayString = "${datasource.replica.lag-check-interval-ms:2000}",
+      initialDelayString = "${datasource.replica.lag-check-interval-ms:2000}")
+  public void check() {
+    if (!enabled) {
+      return;
+    }
+    long lag = readLagSeconds();
+    lastLagSeconds = lag;
+    boolean nowUsable = lag >= 0 && lag <= maxLagSeconds;
+    if (nowUsable != usable) {
+      if (nowUsable) {
+        log.info("Replica back in rotation (lag {}s)", lag);
+      } else {
+        log.warn("Replica taken out of rotation (lag {}s, max {}s)", lag, maxLagSeconds);
+      }
+    }
+    usable = nowUsable;
+  }
+
+  void markUsable(boolean usable) {
+    this.usable = usable;
+  }
+
+  // 복제 중단(NULL), 레플리카 아님(빈 결과), 조회 실패는 모두 -1
+  private long readLagSeconds() {
+    try (Connection connection = replica.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+      if (!rs.next()) {
+        return -1L;
+      }
+      long lag = rs.getLong(LAG_COLUMN);
+      return rs.wasNull() ? -1L : lag;
+    } catch (Exception e) {
+      log.warn("Replica lag check failed: {}", e.getMessage());
+      return -1L;
+    }
+  }
+}
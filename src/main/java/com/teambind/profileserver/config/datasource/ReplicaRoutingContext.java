@@ -0,0 +1,33 @@
+package com.teambind.profileserver.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 읽기 라우팅 힌트
+ *
+ * <p>읽기 전용 트랜잭션이라도 방금 쓴 데이터를 읽어야 하는 경우(read-your-writes) 프라이머리로 보내도록 표시한다. 커넥션은
+ * LazyConnectionDataSourceProxy 로 첫 쿼리 시점에 얻으므로 트랜잭션 메서드 본문 안에서 설정해도 적용된다.
+ */
+public final class ReplicaRoutingContext {
+
+  private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+  private ReplicaRoutingContext() {}
+
+  /** condition 이 true 면 action 실행 동안 읽기도 프라이머리로 보낸다 */
+  public static <T> T usePrimaryIf(boolean condition, Supplier<T> action) {
+    if (!condition || isPrimaryForced()) {
+      return action.get();
+    }
+    PRIMARY.set(Boolean.TRUE);
+    try {
+      return action.get();
+    } finally {
+      PRIMARY.remove();
+    }
+  }
+
+  static boolean isPrimaryForced() {
+    return Boolean.TRUE.equals(PRIMARY.get());
+  }
+}
@@ -0,0 +1,30 @@
+package com.teambind.profileserver.controller;
+
+import com.teambind.profileserver.utils.diagnostics.SlowQuery;
+import com.teambind.profileserver.utils.diagnostics.SlowQueryRecorder;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/** 운영 진단용 엔드포인트. nginx 에서 외부 접근을 막고 노드에 직접 요청한다 */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin")
+public class AdminDiagnosticsController {
+
+  private final SlowQueryRecorder slowQueryRecorder;
+
+  @GetMapping("/slow-queries")
+  public ResponseEntity<List<SlowQuery>> getSlowQueries(
+      @RequestParam(required = false, defaultValue = "50") int limit) {
+    List<SlowQuery> recent = slowQueryRecorder.recent();
+    return ResponseEntity.ok(recent.subList(0, Math.min(Math.max(limit, 0), recent.size())));
+  }
+
+  @DeleteMapping("/slow-queries")
+  public ResponseEntity<Void> clearSlowQueries() {
+    slowQueryRecorder.clear();
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -1,18 +1,41 @@
 package com.teambind.profileserver.controller;
 
-import lombok.extern.slf4j.Slf4j;
+import com.teambind.profileserver.utils.diagnostics.ReadinessMonitor;
+import com.teambind.profileserver.utils.diagnostics.ReadinessMonitor.Snapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * 헬스체크 - 프로브가 수시로 호출하므로 로그를 남기지 않고 DB 에도 접근하지 않는다.
+ *
+ * <p>/health/live 는 프로세스가 요청을 처리할 수 있는지만, /health/ready 는 {@link ReadinessMonitor} 가 주기적으로 확인해 둔
+ * 의존성 상태를 돌려준다 (미준비 시 503). /health 는 기존 호출자를 위한 liveness 다.
+ */
 @RestController
-@Slf4j
+@RequiredArgsConstructor
 @RequestMapping("/health")
 public class HealthCheckController {
+
+  private final ReadinessMonitor readinessMonitor;
+
   @GetMapping()
   public String healthCheck() {
-
-    log.info("Server is running");
     return "Server is Running";
   }
+
+  @GetMapping("/live")
+  public String live() {
+    return "UP";
+  }
+
+  @GetMapping("/ready")
+  public ResponseEntity<Snapshot> ready() {
+    Snapshot snapshot = readinessMonitor.current();
+    HttpStatus status = snapshot.ready() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+    return ResponseEntity.status(status).body(snapshot);
+  }
 }
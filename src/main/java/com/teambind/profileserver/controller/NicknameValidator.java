@@ -1,6 +1,9 @@
 package com.teambind.profileserver.controller;
 
+import com.teambind.profileserver.exceptions.ProfileErrorCode;
+import com.teambind.profileserver.exceptions.ProfileException;
 import com.teambind.profileserver.service.update.ProfileUpdateService;
+import com.teambind.profileserver.validator.BlockedTermFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,11 +16,16 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/profiles")
 public class NicknameValidator {
   private final ProfileUpdateService profileUpdateService;
+  private final BlockedTermFilter blockedTermFilter;
 
   @GetMapping("/validate")
   public ResponseEntity<Boolean> validateNickname(
       @RequestParam("type") String type, @RequestParam("value") String value) {
     if (type.equals("nickname")) {
+      // 금칙어가 포함된 닉네임은 중복 여부와 관계없이 사용할 수 없음
+      if (blockedTermFilter.containsBlockedTerm(value)) {
+        throw new ProfileException(ProfileErrorCode.NICKNAME_INVALID);
+      }
       return ResponseEntity.ok(profileUpdateService.isNickNameExist(value));
     }
     return ResponseEntity.ok(false);
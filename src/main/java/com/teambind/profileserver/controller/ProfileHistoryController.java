@@ -0,0 +1,24 @@
+package com.teambind.profileserver.controller;
+
+import com.teambind.profileserver.dto.response.HistoryPageResponse;
+import com.teambind.profileserver.service.history.HistoryQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/profiles")
+public class ProfileHistoryController {
+
+  private final HistoryQueryService historyQueryService;
+
+  @GetMapping("/{userId}/history")
+  public ResponseEntity<HistoryPageResponse> getHistory(
+      @PathVariable("userId") String userId,
+      @RequestParam(required = false) String fieldName,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") int size) {
+    return ResponseEntity.ok(historyQueryService.getHistory(userId, fieldName, cursor, size));
+  }
+}
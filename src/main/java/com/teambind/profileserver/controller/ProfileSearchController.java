@@ -1,13 +1,20 @@
 package com.teambind.profileserver.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.exceptions.ProfileErrorCode;
+import com.teambind.profileserver.exceptions.ProfileException;
 import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
 import com.teambind.profileserver.service.search.ProfileSearchService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -15,6 +22,18 @@ import org.springframework.web.bind.annotation.*;
 public class ProfileSearchController {
 
   private final ProfileSearchService profileSearchService;
+  private final ObjectMapper objectMapper;
+
+  // 이보다 많은 ID 를 요청하면 전체 목록을 만들지 않고 chunk-size 명씩 조회하면서 바로 JSON 으로 내보낸다
+  @Value("${profile.batch.stream-threshold:500}")
+  private int streamThreshold;
+
+  @Value("${profile.batch.chunk-size:500}")
+  private int chunkSize;
+
+  // 한 번에 조회할 수 있는 최대 ID 수. 스트리밍도 비동기 요청 제한 시간(spring.mvc.async.request-timeout) 안에 끝나야 한다
+  @Value("${profile.batch.max-size:5000}")
+  private int maxBatchSize;
 
   @GetMapping("/{userId}")
   public ResponseEntity<UserResponse> getProfile(@PathVariable("userId") String userId) {
@@ -56,6 +75,14 @@ public class ProfileSearchController {
   public ResponseEntity<?> getProfilesBatch(
       @RequestBody List<String> userIds,
       @RequestParam(required = false, defaultValue = "false") boolean detail) {
+    if (userIds.size() > maxBatchSize) {
+      throw new ProfileException(ProfileErrorCode.BATCH_SIZE_EXCEEDED);
+    }
+    if (userIds.size() > streamThreshold) {
+      return ResponseEntity.ok()
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(streamBatch(userIds, detail));
+    }
     if (detail) {
       var result = profileSearchService.searchDetailProfilesByIds(userIds);
       return ResponseEntity.ok(result);
@@ -64,4 +91,23 @@ public class ProfileSearchController {
       return ResponseEntity.ok(result);
     }
   }
+
+  // 응답은 MVC 비동기 실행기에서 쓰이며 조회 트랜잭션은 조각마다 열고 닫는다(쓰는 동안 커넥션을 잡지 않음). 본문을 쓰기 시작한 뒤의
+  // 실패는 상태 코드를 바꿀 수 없으므로 배열을 닫지 않은 채 끊어(AUTO_CLOSE_JSON_CONTENT 끔) 호출자가 JSON 파싱 실패로 알 수 있게 한다
+  private StreamingResponseBody streamBatch(List<String> userIds, boolean detail) {
+    return out -> {
+      try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.writeStartArray();
+        if (detail) {
+          profileSearchService.streamDetailProfilesByIds(
+              userIds, chunkSize, generator::writeObject);
+        } else {
+          profileSearchService.streamProfilesByIds(userIds, chunkSize, generator::writeObject);
+        }
+        generator.writeEndArray();
+      }
+    };
+  }
 }
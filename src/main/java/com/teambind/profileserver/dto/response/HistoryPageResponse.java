@@ -0,0 +1,18 @@
+package com.teambind.profileserver.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HistoryPageResponse {
+  private List<HistoryResponse> content;
+  private boolean hasNext;
+  // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+  private String nextCursor;
+}
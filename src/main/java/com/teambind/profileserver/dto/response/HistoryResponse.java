@@ -0,0 +1,19 @@
+package com.teambind.profileserver.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HistoryResponse {
+  private Long historyId;
+  private String fieldName;
+  private String oldVal;
+  private String newVal;
+  private LocalDateTime updatedAt;
+}
@@ -1,6 +1,10 @@
 package com.teambind.profileserver.dto.response;
 
 import com.teambind.profileserver.entity.UserInfo;
+import com.teambind.profileserver.entity.attribute.UserGenres;
+import com.teambind.profileserver.entity.attribute.UserInstruments;
+import com.teambind.profileserver.entity.attribute.nameTable.GenreNameTable;
+import com.teambind.profileserver.entity.attribute.nameTable.InstrumentNameTable;
 import com.teambind.profileserver.utils.InitTableMapper;
 import java.util.List;
 import lombok.*;
@@ -34,10 +38,23 @@ public class UserResponse {
         .profileImageUrl(userInfo.getProfileImageUrl())
         .sex(userInfo.getSex())
         .instruments(
-            userInfo.getUserInstruments().stream()
-                .map(ui -> ui.getInstrument().getInstrumentName())
-                .toList())
-        .genres(userInfo.getUserGenres().stream().map(ug -> ug.getGenre().getGenreName()).toList())
+            userInfo.getUserInstruments().stream().map(UserResponse::instrumentName).toList())
+        .genres(userInfo.getUserGenres().stream().map(UserResponse::genreName).toList())
         .build();
   }
+
+  // 이름은 메모리의 이름 테이블에서 키의 ID 로 찾는다. 갱신 전에 추가된 항목만 연관 엔티티(지연 로딩)로 읽는다
+  private static String genreName(UserGenres link) {
+    GenreNameTable genre =
+        link.getId() == null ? null : InitTableMapper.genreNameTable.get(link.getId().getGenreId());
+    return (genre != null ? genre : link.getGenre()).getGenreName();
+  }
+
+  private static String instrumentName(UserInstruments link) {
+    InstrumentNameTable instrument =
+        link.getId() == null
+            ? null
+            : InitTableMapper.instrumentNameTable.get(link.getId().getInstrumentId());
+    return (instrument != null ? instrument : link.getInstrument()).getInstrumentName();
+  }
 }
@@ -30,8 +30,9 @@ public class History {
   @Column(name = "field_name")
   private String fieldName;
 
+  // 파티션 테이블은 FK 를 가질 수 없으므로 제약조건 없이 매핑
   @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "user_id")
+  @JoinColumn(name = "user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
   @ToString.Exclude
   @EqualsAndHashCode.Exclude
   private UserInfo userInfo;
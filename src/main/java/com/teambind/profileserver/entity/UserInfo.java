@@ -72,10 +72,10 @@ public class UserInfo {
   @Builder.Default
   private List<UserInstruments> userInstruments = new ArrayList<>();
 
+  // 이력은 추가만 전파한다. 삭제는 HistoryRepository 의 일괄 삭제/보존 기간 작업이 담당
   @OneToMany(
       mappedBy = "userInfo",
-      cascade = CascadeType.ALL,
-      orphanRemoval = true,
+      cascade = {CascadeType.PERSIST, CascadeType.MERGE},
       fetch = FetchType.LAZY)
   private List<History> userHistory;
 
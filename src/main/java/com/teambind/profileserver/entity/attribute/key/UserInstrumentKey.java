@@ -3,9 +3,11 @@ package com.teambind.profileserver.entity.attribute.key;
 import jakarta.persistence.Embeddable;
 import java.io.Serializable;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Embeddable
+@Getter
 @NoArgsConstructor
 @EqualsAndHashCode
 public class UserInstrumentKey implements Serializable {
@@ -7,10 +7,12 @@ import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
 
 @Table(name = "location_names")
 @Data
 @Entity
+@Immutable
 @NoArgsConstructor
 @AllArgsConstructor
 public class LocationNameTable {
@@ -1,55 +1,85 @@
 package com.teambind.profileserver.events.consumer;
 
+import com.teambind.profileserver.config.KafkaConfig;
 import com.teambind.profileserver.events.event.ProfileCreateRequest;
 import com.teambind.profileserver.events.event.ProfileImageChanged;
 import com.teambind.profileserver.events.event.UserDeletedEvent;
 import com.teambind.profileserver.service.create.UserInfoLifeCycleService;
 import com.teambind.profileserver.service.update.ProfileUpdateService;
-import com.teambind.profileserver.utils.json.JsonUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+/**
+ * 이벤트 소비자. 페이로드는 KafkaConfig 의 토픽별 역직렬화기가 이미 타입으로 변환해 전달하며, 역직렬화 실패 레코드는 리스너까지 오지 않는다 (배치
+ * 리스너에는 null 로 전달).
+ *
+ * <p>처리 시간은 리스너 컨테이너의 spring.kafka.listener 타이머, 소비 지연(lag)은 컨슈머 클라이언트 지표
+ * (kafka.consumer.fetch.manager.records.lag*)로 자동 수집된다. 리스너가 삼킨 실패와 건너뛴 레코드는 컨테이너가 알 수 없으므로
+ * 여기서 토픽별로 센다.
+ */
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class KafkaConsumer {
+  static final String FAILURE_COUNTER = "profile.kafka.listener.failures";
+  static final String SKIPPED_COUNTER = "profile.kafka.listener.skipped";
+
   private final ProfileUpdateService service;
   private final UserInfoLifeCycleService userInfoLifeCycleService;
-  private final JsonUtil jsonUtil;
+  private final MeterRegistry meterRegistry;
 
   @KafkaListener(topics = "profile-image-changed", groupId = "profile-consumer-group")
-  public void profileImageChanger(String message) {
+  public void profileImageChanger(ProfileImageChanged request) {
     try {
-      ProfileImageChanged request = jsonUtil.fromJson(message, ProfileImageChanged.class);
       service.updateProfileImage(request.getReferenceId(), request.getImageUrl());
     } catch (Exception e) {
-      // 역직렬화 실패 또는 처리 중 오류 발생 시 로깅/대응
-      log.error("Failed to deserialize or process profile-create-request message: {}", message, e);
+      // 처리 중 오류 발생 시 로깅/대응
+      log.error("Failed to process profile-image-changed for {}", request.getReferenceId(), e);
+      meterRegistry.counter(FAILURE_COUNTER, "topic", "profile-image-changed").increment();
       // 필요하면 DLQ 전송이나 재시도 로직 추가
     }
   }
 
   @KafkaListener(topics = "user-created", groupId = "profile-consumer-group")
-  public void createUserProfile(String message) {
+  public void createUserProfile(ProfileCreateRequest request) {
     try {
-      ProfileCreateRequest request = jsonUtil.fromJson(message, ProfileCreateRequest.class);
       userInfoLifeCycleService.createUserProfile(request.getUserId(), request.getProvider());
     } catch (Exception e) {
-      // 역직렬화 실패 또는 처리 중 오류 발생 시 로깅/대응
-      log.error("Failed to deserialize or process profile-create-request message: {}", message, e);
+      // 처리 중 오류 발생 시 로깅/대응
+      log.error("Failed to process user-created for {}", request.getUserId(), e);
+      meterRegistry.counter(FAILURE_COUNTER, "topic", "user-created").increment();
       // 필요하면 DLQ 전송이나 재시도 로직 추가
     }
   }
 
-  @KafkaListener(topics = "user-deleted", groupId = "profile-consumer-group")
-  public void deleteUserProfile(String message) {
-    try {
-      UserDeletedEvent req = jsonUtil.fromJson(message, UserDeletedEvent.class);
-      userInfoLifeCycleService.deleteUserProfile(req.getUserId());
-    } catch (Exception e) {
-      log.error("Failed to deserialize or process user-deleted message: {}", message, e);
+  @KafkaListener(
+      topics = "user-deleted",
+      groupId = "profile-consumer-group",
+      containerFactory = KafkaConfig.BATCH_LISTENER_FACTORY)
+  public void deleteUserProfiles(List<UserDeletedEvent> events) {
+    List<String> userIds = new ArrayList<>(events.size());
+    int skipped = 0;
+    for (UserDeletedEvent event : events) {
+      // 역직렬화에 실패한 레코드는 ErrorHandlingDeserializer 에 의해 null 로 전달된다
+      if (event == null || event.getUserId() == null) {
+        skipped++;
+        continue;
+      }
+      userIds.add(event.getUserId());
     }
+    if (skipped > 0) {
+      log.warn("Skipped {} undecodable user-deleted messages", skipped);
+      meterRegistry.counter(SKIPPED_COUNTER, "topic", "user-deleted").increment(skipped);
+    }
+    if (userIds.isEmpty()) return;
+
+    // 삭제는 멱등이므로 DB 오류는 삼키지 않고 전파해 컨테이너가 배치 전체를 재시도하게 한다
+    int deleted = userInfoLifeCycleService.deleteUserProfiles(userIds);
+    log.info("Deleted {} profiles from {} user-deleted messages", deleted, events.size());
   }
 }
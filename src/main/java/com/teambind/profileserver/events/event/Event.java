@@ -1,7 +1,10 @@
 package com.teambind.profileserver.events.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public abstract class Event {
-  String topic;
+  // 토픽은 레코드 자체에 있으므로 페이로드에는 싣지 않는다
+  @JsonIgnore String topic;
 
   public Event() {}
 
@@ -9,7 +12,14 @@ public abstract class Event {
     this.topic = topic;
   }
 
+  @JsonIgnore
   public String getTopic() {
     return topic;
   }
+
+  /** 페이로드 스키마 버전 (event-version 헤더). 하위 호환이 깨지는 변경 시 하위 클래스에서 올린다 */
+  @JsonIgnore
+  public int getVersion() {
+    return EventEnvelope.DEFAULT_VERSION;
+  }
 }
@@ -0,0 +1,49 @@
+package com.teambind.profileserver.events.event;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * 이벤트 봉투 (Kafka 헤더)
+ *
+ * <p>타입과 스키마 버전, 인코딩 형식은 헤더(event-type, event-version, content-type)에 싣고 페이로드는 이벤트 본문만 담는다. 헤더가
+ * 없는 기존 생산자의 메시지는 버전 1, JSON 으로 취급한다.
+ */
+public final class EventEnvelope {
+
+  public static final String HEADER_TYPE = "event-type";
+  public static final String HEADER_VERSION = "event-version";
+  public static final String HEADER_CONTENT_TYPE = "content-type";
+  public static final int DEFAULT_VERSION = 1;
+
+  private EventEnvelope() {}
+
+  public static void write(Headers headers, Event event, String contentType) {
+    headers.add(HEADER_TYPE, event.getClass().getSimpleName().getBytes(StandardCharsets.UTF_8));
+    headers.add(
+        HEADER_VERSION, Integer.toString(event.getVersion()).getBytes(StandardCharsets.UTF_8));
+    headers.add(HEADER_CONTENT_TYPE, contentType.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static String contentType(Headers headers) {
+    Header header = headers == null ? null : headers.lastHeader(HEADER_CONTENT_TYPE);
+    return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+  }
+
+  public static String type(Headers headers) {
+    Header header = headers == null ? null : headers.lastHeader(HEADER_TYPE);
+    return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @throws NumberFormatException 버전 헤더가 숫자가 아닌 경우
+   */
+  public static int version(Headers headers) {
+    Header header = headers == null ? null : headers.lastHeader(HEADER_VERSION);
+    if (header == null) {
+      return DEFAULT_VERSION;
+    }
+    return Integer.parseInt(new String(header.value(), StandardCharsets.UTF_8).trim());
+  }
+}
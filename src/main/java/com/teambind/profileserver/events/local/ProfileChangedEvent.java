@@ -0,0 +1,17 @@
+package com.teambind.profileserver.events.local;
+
+import java.util.List;
+
+/**
+ * 프로필 변경 알림 (애플리케이션 내부 이벤트, Kafka 로 발행하지 않음)
+ *
+ * <p>프로필 생성/수정/삭제 트랜잭션 안에서 발행된다. 캐시 무효화, read-your-writes 기록처럼 커밋 이후에 반응해야 하는 리스너가 구독한다.
+ *
+ * @param userIds 변경된 사용자 ID 목록
+ */
+public record ProfileChangedEvent(List<String> userIds) {
+
+  public static ProfileChangedEvent of(String userId) {
+    return new ProfileChangedEvent(List.of(userId));
+  }
+}
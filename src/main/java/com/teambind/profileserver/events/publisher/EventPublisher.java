@@ -1,19 +1,52 @@
 package com.teambind.profileserver.events.publisher;
 
 import com.teambind.profileserver.events.event.Event;
-import com.teambind.profileserver.utils.json.JsonUtil;
+import com.teambind.profileserver.events.event.EventEnvelope;
+import com.teambind.profileserver.events.serde.EventFormatRegistry;
+import com.teambind.profileserver.events.serde.EventSerializationFormat;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class EventPublisher {
-  private final KafkaTemplate<String, Object> kafkaTemplate;
-  private final JsonUtil jsonUtil;
+  /** 전송 요청부터 브로커 응답까지의 시간. topic, result(success/failure) 태그 */
+  public static final String PUBLISH_TIMER = "profile.events.publish";
 
+  /** 인코딩된 페이로드 크기 (bytes). topic 태그 */
+  public static final String PAYLOAD_SUMMARY = "profile.events.payload";
+
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final EventFormatRegistry eventFormatRegistry;
+  private final MeterRegistry meterRegistry;
+
+  // 토픽별 형식(JSON/Smile)으로 인코딩한 바이트를 그대로 전송 (ByteArraySerializer), 타입/버전/형식은 헤더로
   public void publish(Event event) {
-    String json = jsonUtil.toJson(event);
-    kafkaTemplate.send(event.getTopic(), json);
+    String topic = event.getTopic();
+    EventSerializationFormat format = eventFormatRegistry.forTopic(topic);
+    byte[] payload = format.encode(event);
+    ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, payload);
+    EventEnvelope.write(record.headers(), event, format.contentType());
+
+    DistributionSummary.builder(PAYLOAD_SUMMARY)
+        .baseUnit("bytes")
+        .tag("topic", topic)
+        .register(meterRegistry)
+        .record(payload.length);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    kafkaTemplate
+        .send(record)
+        .whenComplete(
+            (result, ex) ->
+                sample.stop(
+                    Timer.builder(PUBLISH_TIMER)
+                        .tag("topic", topic)
+                        .tag("result", ex == null ? "success" : "failure")
+                        .register(meterRegistry)));
   }
 }
@@ -0,0 +1,69 @@
+package com.teambind.profileserver.events.serde;
+
+import com.teambind.profileserver.events.event.Event;
+import com.teambind.profileserver.events.event.EventEnvelope;
+import com.teambind.profileserver.utils.json.JsonUtil;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * 토픽별 이벤트 역직렬화기
+ *
+ * <p>레코드 바이트를 그대로 이벤트 타입으로 파싱한다. 지원 버전보다 새로운 스키마이거나 파싱에 실패하면 {@link SerializationException} 을 던지고,
+ * ErrorHandlingDeserializer 가 이를 잡아 리스너 대신 컨테이너 에러 핸들러로 넘긴다. 같은 버전 안에서 필드가 추가되는 것은 허용한다 (알 수 없는 필드
+ * 무시).
+ */
+public class EventDeserializer<T extends Event> implements Deserializer<T> {
+
+  private final Class<T> type;
+  private final int maxSupportedVersion;
+  private final JsonUtil jsonUtil;
+
+  public EventDeserializer(Class<T> type, int maxSupportedVersion, JsonUtil jsonUtil) {
+    this.type = type;
+    this.maxSupportedVersion = maxSupportedVersion;
+    this.jsonUtil = jsonUtil;
+  }
+
+  @Override
+  public T deserialize(String topic, byte[] data) {
+    return deserialize(topic, null, data);
+  }
+
+  @Override
+  public T deserialize(String topic, Headers headers, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    int version;
+    try {
+      version = EventEnvelope.version(headers);
+    } catch (NumberFormatException e) {
+      throw new SerializationException("Invalid event-version header on topic " + topic, e);
+    }
+    if (version > maxSupportedVersion) {
+      throw new SerializationException(
+          "Unsupported "
+              + type.getSimpleName()
+              + " version "
+              + version
+              + " on topic "
+              + topic
+              + " (max "
+              + maxSupportedVersion
+              + ")");
+    }
+    String contentType = EventEnvelope.contentType(headers);
+    if (contentType != null && !contentType.startsWith("application/json")) {
+      throw new SerializationException(
+          "Unsupported content-type " + contentType + " on topic " + topic);
+    }
+    try {
+      return jsonUtil.fromJson(data, type);
+    } catch (RuntimeException e) {
+      throw new SerializationException(
+          "Failed to deserialize " + type.getSimpleName() + " from topic " + topic, e);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.teambind.profileserver.events.serde;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토픽별 발행 형식 선택
+ *
+ * <p>events.format.default (기본 json) 와 events.format.topics.{토픽}: {형식} 으로 지정한다. 알 수 없는 형식 이름은 기동 시
+ * 실패시킨다.
+ */
+@Component
+@Slf4j
+public class EventFormatRegistry {
+
+  private final EventSerializationFormat defaultFormat;
+  private final Map<String, EventSerializationFormat> topicFormats = new HashMap<>();
+
+  public EventFormatRegistry(List<EventSerializationFormat> formats, Environment environment) {
+    Map<String, EventSerializationFormat> byName =
+        formats.stream()
+            .collect(Collectors.toMap(EventSerializationFormat::name, Function.identity()));
+    Binder binder = Binder.get(environment);
+
+    this.defaultFormat =
+        resolve(byName, binder.bind("events.format.default", String.class).orElse("json"));
+    binder
+        .bind("events.format.topics", Bindable.mapOf(String.class, String.class))
+        .orElse(Map.of())
+        .forEach((topic, name) -> topicFormats.put(topic, resolve(byName, name)));
+    topicFormats.forEach(
+        (topic, format) -> log.info("Event format for topic {}: {}", topic, format.name()));
+  }
+
+  public EventSerializationFormat forTopic(String topic) {
+    return topicFormats.getOrDefault(topic, defaultFormat);
+  }
+
+  private static EventSerializationFormat resolve(
+      Map<String, EventSerializationFormat> byName, String name) {
+    EventSerializationFormat format = byName.get(name);
+    if (format == null) {
+      throw new IllegalStateException(
+          "Unknown event format '" + name + "', available: " + byName.keySet());
+    }
+    return format;
+  }
+}
@@ -0,0 +1,15 @@
+package com.teambind.profileserver.events.serde;
+
+import com.teambind.profileserver.events.event.Event;
+
+/** 발행 이벤트 인코딩 방식. 토픽별로 선택하며 content-type 헤더로 소비자에게 알린다 */
+public interface EventSerializationFormat {
+
+  /** events.format.* 설정에서 사용하는 이름 (예: json, smile) */
+  String name();
+
+  /** content-type 헤더 값 */
+  String contentType();
+
+  byte[] encode(Event event);
+}
@@ -0,0 +1,31 @@
+package com.teambind.profileserver.events.serde;
+
+import com.teambind.profileserver.events.event.Event;
+import com.teambind.profileserver.utils.json.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** UTF-8 JSON (기본 형식) */
+@Component
+@RequiredArgsConstructor
+public class JsonEventFormat implements EventSerializationFormat {
+
+  public static final String NAME = "json";
+
+  private final JsonUtil jsonUtil;
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public String contentType() {
+    return "application/json";
+  }
+
+  @Override
+  public byte[] encode(Event event) {
+    return jsonUtil.toJsonBytes(event);
+  }
+}
@@ -0,0 +1,49 @@
+package com.teambind.profileserver.events.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teambind.profileserver.events.event.Event;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jackson Smile (바이너리 JSON)
+ *
+ * <p>JSON 과 같은 데이터 모델이라 소비자는 jackson-dataformat-smile 만 있으면 기존 이벤트 클래스로 그대로 읽을 수 있다. 필드명
+ * back-reference 와 숫자 바이너리 인코딩으로 텍스트 JSON 보다 작다. Spring ObjectMapper 설정(모듈, 기능 플래그)을 그대로 복사해 사용한다.
+ */
+@Component
+public class SmileEventFormat implements EventSerializationFormat {
+
+  public static final String NAME = "smile";
+
+  private final ObjectMapper smileMapper;
+  private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+  public SmileEventFormat(ObjectMapper objectMapper) {
+    this.smileMapper = objectMapper.copyWith(new SmileFactory());
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public String contentType() {
+    return "application/x-jackson-smile";
+  }
+
+  @Override
+  public byte[] encode(Event event) {
+    try {
+      return writers
+          .computeIfAbsent(event.getClass(), smileMapper::writerFor)
+          .writeValueAsBytes(event);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -19,6 +19,8 @@ public enum ProfileErrorCode {
   GENRE_INVALID("PROFILE_009", "GenreId and Name are invalid", HttpStatus.BAD_REQUEST),
   NOT_ALLOWED_LOCATION_ID_AND_NAME(
       "PROFILE_010", "LocationId and Name are not allowed", HttpStatus.BAD_REQUEST),
+  INVALID_CURSOR("PROFILE_011", "Cursor is invalid", HttpStatus.BAD_REQUEST),
+  BATCH_SIZE_EXCEEDED("PROFILE_012", "Batch size exceeds the limit", HttpStatus.BAD_REQUEST),
   ;
   private final String errCode;
   private final String message;
@@ -0,0 +1,24 @@
+package com.teambind.profileserver.repository;
+
+import com.teambind.profileserver.dto.response.HistoryResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface HistoryQueryRepository {
+
+  /**
+   * 사용자 변경 이력을 (updated_at, history_id) 내림차순 keyset 방식으로 조회
+   *
+   * @param userId 사용자 ID
+   * @param fieldName 필드명 필터 (null 이면 전체)
+   * @param afterUpdatedAt 직전 페이지 마지막 행의 updated_at (첫 페이지면 null)
+   * @param afterHistoryId 직전 페이지 마지막 행의 history_id (첫 페이지면 null)
+   * @param limit 최대 조회 건수
+   */
+  List<HistoryResponse> findHistoryPage(
+      String userId,
+      String fieldName,
+      LocalDateTime afterUpdatedAt,
+      Long afterHistoryId,
+      int limit);
+}
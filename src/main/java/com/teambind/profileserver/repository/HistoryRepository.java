@@ -1,8 +1,23 @@
 package com.teambind.profileserver.repository;
 
 import com.teambind.profileserver.entity.History;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface HistoryRepository extends JpaRepository<History, Long> {}
+public interface HistoryRepository extends JpaRepository<History, Long>, HistoryQueryRepository {
+
+  /**
+   * 여러 사용자의 변경 이력을 단일 DELETE 문으로 삭제
+   *
+   * @param userIds 사용자 ID 목록
+   * @return 삭제된 레코드 수
+   */
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("delete from History h where h.userInfo.userId in :userIds")
+  int deleteByUserIdIn(@Param("userIds") Collection<String> userIds);
+}
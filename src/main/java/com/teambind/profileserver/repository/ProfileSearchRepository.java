@@ -15,4 +15,7 @@ public interface ProfileSearchRepository {
   Slice<UserInfo> searchByCursor(ProfileSearchCriteria criteria, String cursor, int size);
 
   List<UserInfo> searchByUserIds(List<String> userIds);
+
+  /** 장르/악기 컬렉션까지 초기화한 일괄 조회 (UserResponse 변환용) */
+  List<UserInfo> searchDetailByUserIds(List<String> userIds);
 }
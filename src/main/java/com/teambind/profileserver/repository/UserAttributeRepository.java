@@ -37,4 +37,12 @@ public interface UserAttributeRepository<T, K> {
    * @return 삭제된 레코드 수
    */
   int deleteByUserId(String userId);
+
+  /**
+   * 여러 사용자의 모든 속성 삭제
+   *
+   * @param userIds 사용자 ID 목록
+   * @return 삭제된 레코드 수
+   */
+  int deleteByUserIdIn(Collection<String> userIds);
 }
@@ -27,4 +27,8 @@ public interface UserGenresRepository
   @Modifying(clearAutomatically = true, flushAutomatically = true)
   @Query("delete from UserGenres ug where ug.id.userId = :userId")
   int deleteByUserId(@Param("userId") String userId);
+
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("delete from UserGenres ug where ug.id.userId in :userIds")
+  int deleteByUserIdIn(@Param("userIds") Collection<String> userIds);
 }
@@ -1,7 +1,11 @@
 package com.teambind.profileserver.repository;
 
 import com.teambind.profileserver.entity.UserInfo;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -9,4 +13,14 @@ public interface UserInfoRepository extends JpaRepository<UserInfo, String> {
   long countByUserIdStartingWith(String prefix);
 
   boolean existsByNickname(String nickname);
+
+  /**
+   * 여러 사용자 프로필을 단일 DELETE 문으로 삭제 (연관 속성/이력은 먼저 일괄 삭제해야 함)
+   *
+   * @param userIds 사용자 ID 목록
+   * @return 삭제된 프로필 수 (존재 여부 확인에 사용)
+   */
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("delete from UserInfo u where u.userId in :userIds")
+  int deleteByUserIdIn(@Param("userIds") Collection<String> userIds);
 }
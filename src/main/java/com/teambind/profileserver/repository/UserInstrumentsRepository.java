@@ -27,4 +27,8 @@ public interface UserInstrumentsRepository
   @Modifying(clearAutomatically = true, flushAutomatically = true)
   @Query("delete from UserInstruments ui where ui.id.userId = :userId")
   int deleteByUserId(@Param("userId") String userId);
+
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("delete from UserInstruments ui where ui.id.userId in :userIds")
+  int deleteByUserIdIn(@Param("userIds") Collection<String> userIds);
 }
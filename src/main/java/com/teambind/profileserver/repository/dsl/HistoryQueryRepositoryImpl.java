@@ -0,0 +1,62 @@
+package com.teambind.profileserver.repository.dsl;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teambind.profileserver.dto.response.HistoryResponse;
+import com.teambind.profileserver.entity.QHistory;
+import com.teambind.profileserver.repository.HistoryQueryRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * HistoryRepository 의 QueryDSL 구현 조각. 엔티티/연관관계를 로딩하지 않고 DTO 로 바로 프로젝션한다.
+ *
+ * <p>JPA 슬라이스 테스트(@DataJpaTest)에서도 HistoryRepository 가 생성되도록 JPAQueryFactory 빈 대신 EntityManager
+ * 로 직접 만든다.
+ */
+public class HistoryQueryRepositoryImpl implements HistoryQueryRepository {
+
+  private static final QHistory h = QHistory.history;
+  private final JPAQueryFactory queryFactory;
+
+  public HistoryQueryRepositoryImpl(EntityManager em) {
+    this.queryFactory = new JPAQueryFactory(em);
+  }
+
+  @Override
+  public List<HistoryResponse> findHistoryPage(
+      String userId,
+      String fieldName,
+      LocalDateTime afterUpdatedAt,
+      Long afterHistoryId,
+      int limit) {
+    // user_id 는 FK 컬럼이므로 userInfo 조인 없이 비교된다
+    BooleanBuilder where = new BooleanBuilder(h.userInfo.userId.eq(userId));
+    if (fieldName != null) {
+      where.and(h.fieldName.eq(fieldName));
+    }
+    if (afterUpdatedAt != null && afterHistoryId != null) {
+      where.and(
+          h.updatedAt
+              .lt(afterUpdatedAt)
+              .or(h.updatedAt.eq(afterUpdatedAt).and(h.historyId.lt(afterHistoryId))));
+    }
+
+    return queryFactory
+        .select(
+            Projections.constructor(
+                HistoryResponse.class,
+                h.historyId,
+                h.fieldName,
+                h.oldVal,
+                h.newVal,
+                h.updatedAt))
+        .from(h)
+        .where(where)
+        .orderBy(h.updatedAt.desc(), h.historyId.desc())
+        .limit(limit)
+        .fetch();
+  }
+}
@@ -1,7 +1,10 @@
 package com.teambind.profileserver.repository.dsl;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.teambind.profileserver.entity.QUserInfo;
 import com.teambind.profileserver.entity.UserInfo;
@@ -9,8 +12,19 @@ import com.teambind.profileserver.entity.attribute.QUserGenres;
 import com.teambind.profileserver.entity.attribute.QUserInstruments;
 import com.teambind.profileserver.repository.ProfileSearchRepository;
 import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
+import com.teambind.profileserver.utils.diagnostics.QueryCounter;
+import com.teambind.profileserver.utils.diagnostics.SlowQueryRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManager;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
@@ -21,27 +35,88 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ProfileSearchRepositoryImpl implements ProfileSearchRepository {
 
+  /** 메서드(method)와 활성 필터 조합(filters) 태그로 나눠 기록하는 조회 시간 타이머 */
+  public static final String SEARCH_TIMER = "profile.repository.search";
+
   private static final QUserInfo ui = QUserInfo.userInfo;
   private static final QUserGenres ug = QUserGenres.userGenres;
   private static final QUserInstruments uins = QUserInstruments.userInstruments;
   private final JPAQueryFactory queryFactory;
   private final EntityManager em;
+  private final MeterRegistry meterRegistry;
+  private final SlowQueryRecorder slowQueryRecorder;
 
   @Override
   public UserInfo search(String userId) {
-    UserInfo userInfo = queryFactory.selectFrom(ui).where(ui.userId.eq(userId)).fetchOne();
-
-    if (userInfo != null) {
-      batchInitializeCollections(List.of(userInfo));
-    }
-    return userInfo;
+    Predicate where = ui.userId.eq(userId);
+    return timed("byId", "userId", null, where, 1, () -> findById(where));
   }
 
   @Override
   @Transactional(readOnly = true)
   public Page<UserInfo> search(ProfileSearchCriteria criteria, Pageable pageable) {
     BooleanBuilder where = buildWhere(criteria);
+    return timed(
+        "page", criteria, where, pageable.getPageSize(), () -> findPage(where, pageable));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Slice<UserInfo> searchByCursor(ProfileSearchCriteria criteria, String cursor, int size) {
+    BooleanBuilder where = buildWhere(criteria);
+    if (cursor != null && !cursor.isBlank()) {
+      // userId 내림차순 정렬이므로 다음 페이지를 위해 userId < cursor 조건을 적용
+      where.and(ui.userId.lt(cursor));
+    }
+    return timed("cursor", criteria, where, size + 1, () -> findByCursor(where, size));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<UserInfo> searchByUserIds(List<String> userIds) {
+    if (userIds == null || userIds.isEmpty()) return List.of();
+    // 단순 요약 필드만 필요하므로 컬렉션 초기화는 생략
+    Predicate where = ui.userId.in(userIds);
+    return timed(
+        "byIds",
+        "userIds",
+        null,
+        where,
+        userIds.size(),
+        () -> queryFactory.selectFrom(ui).where(where).fetch());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<UserInfo> searchDetailByUserIds(List<String> userIds) {
+    if (userIds == null || userIds.isEmpty()) return List.of();
+    // 사용자마다 컬렉션을 지연 로딩하면 건수에 비례해 SQL 이 늘어나므로 두 번의 fetch 조인으로 한꺼번에 초기화
+    Predicate where = ui.userId.in(userIds);
+    return timed(
+        "detailByIds",
+        "userIds",
+        null,
+        where,
+        userIds.size(),
+        () -> {
+          List<UserInfo> content = queryFactory.selectFrom(ui).where(where).fetch();
+          if (!content.isEmpty()) {
+            batchInitializeCollections(content);
+          }
+          return content;
+        });
+  }
 
+  private UserInfo findById(Predicate where) {
+    UserInfo userInfo = queryFactory.selectFrom(ui).where(where).fetchOne();
+
+    if (userInfo != null) {
+      batchInitializeCollections(List.of(userInfo));
+    }
+    return userInfo;
+  }
+
+  private Page<UserInfo> findPage(Predicate where, Pageable pageable) {
     // 기본 페이징 조회 (카테시안 곱을 피하기 위해 컬렉션 fetch 조인을 생략)
     List<UserInfo> content =
         queryFactory
@@ -62,15 +137,7 @@ public class ProfileSearchRepositoryImpl implements ProfileSearchRepository {
     return new PageImpl<>(content, pageable, total);
   }
 
-  @Override
-  @Transactional(readOnly = true)
-  public Slice<UserInfo> searchByCursor(ProfileSearchCriteria criteria, String cursor, int size) {
-    BooleanBuilder where = buildWhere(criteria);
-    if (cursor != null && !cursor.isBlank()) {
-      // userId 내림차순 정렬이므로 다음 페이지를 위해 userId < cursor 조건을 적용
-      where.and(ui.userId.lt(cursor));
-    }
-
+  private Slice<UserInfo> findByCursor(Predicate where, int size) {
     List<UserInfo> fetched =
         queryFactory.selectFrom(ui).where(where).orderBy(ui.userId.desc()).limit(size + 1L).fetch();
 
@@ -84,15 +151,101 @@ public class ProfileSearchRepositoryImpl implements ProfileSearchRepository {
     return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
   }
 
-  @Override
-  @Transactional(readOnly = true)
-  public List<UserInfo> searchByUserIds(List<String> userIds) {
-    if (userIds == null || userIds.isEmpty()) return List.of();
-    // 단순 요약 필드만 필요하므로 컬렉션 초기화는 생략
-    return queryFactory.selectFrom(ui).where(ui.userId.in(userIds)).fetch();
+  private <T> T timed(
+      String method,
+      ProfileSearchCriteria criteria,
+      Predicate where,
+      int limit,
+      Supplier<T> query) {
+    return timed(method, filterTag(criteria), criteria, where, limit, query);
+  }
+
+  // 조회 시간을 기록하고, 느린 조회는 조건·SQL 과 함께 SlowQueryRecorder 에 남긴다
+  private <T> T timed(
+      String method,
+      String filters,
+      ProfileSearchCriteria criteria,
+      Predicate where,
+      int limit,
+      Supplier<T> query) {
+    QueryCounter.Scope scope = QueryCounter.open(0, slowQueryRecorder.isEnabled());
+    long start = System.nanoTime();
+    try {
+      return query.get();
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      scope.close();
+      Timer.builder(SEARCH_TIMER)
+          .tag("method", method)
+          .tag("filters", filters)
+          .register(meterRegistry)
+          .record(elapsed, TimeUnit.NANOSECONDS);
+      if (slowQueryRecorder.isSlow(elapsed)) {
+        slowQueryRecorder.record(
+            method,
+            filters,
+            describe(criteria),
+            scope.statements(),
+            elapsed,
+            () -> parametersOf(where),
+            limit);
+      }
+    }
   }
 
-  private BooleanBuilder buildWhere(ProfileSearchCriteria criteria) {
+  /** 술어에 들어간 상수를 SQL 자리표시자 순서대로 (EXPLAIN 재바인딩용) */
+  static List<Object> parametersOf(Predicate where) {
+    if (where == null) return List.of();
+    JPQLSerializer serializer = new JPQLSerializer(JPQLTemplates.DEFAULT);
+    serializer.handle(where);
+    return serializer.getConstants();
+  }
+
+  /** 느린 조회 기록용 정규화 조건 (지역 대문자, 닉네임 소문자, ID 목록 정렬·중복 제거, 빈 조건 생략) */
+  static Map<String, Object> describe(ProfileSearchCriteria criteria) {
+    Map<String, Object> described = new LinkedHashMap<>();
+    if (criteria == null) return described;
+    if (criteria.getCity() != null && !criteria.getCity().isBlank()) {
+      described.put("city", criteria.getCity().strip().toUpperCase(Locale.ROOT));
+    }
+    if (criteria.getSex() != null) described.put("sex", criteria.getSex());
+    if (criteria.getNickName() != null && !criteria.getNickName().isBlank()) {
+      described.put("nickName", criteria.getNickName().strip().toLowerCase(Locale.ROOT));
+    }
+    if (criteria.getGenres() != null && !criteria.getGenres().isEmpty()) {
+      described.put("genres", sortedIds(criteria.getGenres()));
+    }
+    if (criteria.getInstruments() != null && !criteria.getInstruments().isEmpty()) {
+      described.put("instruments", sortedIds(criteria.getInstruments()));
+    }
+    return described;
+  }
+
+  private static List<Integer> sortedIds(List<Integer> ids) {
+    return ids.stream().filter(Objects::nonNull).distinct().sorted().toList();
+  }
+
+  /**
+   * 활성 검색 조건을 고정 순서로 이어 붙인 태그 값 (예: city+genres, 조건이 없으면 none). 조건 5개의 조합이라 태그 값은 최대 32가지로
+   * 제한된다.
+   */
+  static String filterTag(ProfileSearchCriteria criteria) {
+    if (criteria == null) return "none";
+    StringJoiner filters = new StringJoiner("+");
+    if (criteria.getCity() != null && !criteria.getCity().isBlank()) filters.add("city");
+    if (criteria.getSex() != null) filters.add("sex");
+    if (criteria.getNickName() != null && !criteria.getNickName().isBlank()) {
+      filters.add("nickName");
+    }
+    if (criteria.getGenres() != null && !criteria.getGenres().isEmpty()) filters.add("genres");
+    if (criteria.getInstruments() != null && !criteria.getInstruments().isEmpty()) {
+      filters.add("instruments");
+    }
+    return filters.length() == 0 ? "none" : filters.toString();
+  }
+
+  // 검색 조건 술어. 벤치마크(ProfileSearchWhereBenchmark)에서 직접 호출하도록 package-private
+  static BooleanBuilder buildWhere(ProfileSearchCriteria criteria) {
     BooleanBuilder where = new BooleanBuilder();
     if (criteria == null) return where;
 
@@ -126,6 +279,7 @@ public class ProfileSearchRepositoryImpl implements ProfileSearchRepository {
     return where;
   }
 
+  // 장르/악기 이름은 UserResponse 가 메모리의 이름 테이블에서 찾으므로 genre_name/instrument_name 은 조인하지 않는다
   private void batchInitializeCollections(List<UserInfo> content) {
     List<String> userIds = content.stream().map(UserInfo::getUserId).collect(Collectors.toList());
     // 장르 컬렉션 초기화
@@ -133,8 +287,6 @@ public class ProfileSearchRepositoryImpl implements ProfileSearchRepository {
         .selectFrom(ui)
         .leftJoin(ui.userGenres, ug)
         .fetchJoin()
-        .leftJoin(ug.genre)
-        .fetchJoin()
         .where(ui.userId.in(userIds))
         .fetch();
 
@@ -143,8 +295,6 @@ public class ProfileSearchRepositoryImpl implements ProfileSearchRepository {
         .selectFrom(ui)
         .leftJoin(ui.userInstruments, uins)
         .fetchJoin()
-        .leftJoin(uins.instrument)
-        .fetchJoin()
         .where(ui.userId.in(userIds))
         .fetch();
   }
@@ -1,13 +1,21 @@
 package com.teambind.profileserver.service.create;
 
 import com.teambind.profileserver.entity.UserInfo;
+import com.teambind.profileserver.events.local.ProfileChangedEvent;
 import com.teambind.profileserver.exceptions.ProfileErrorCode;
 import com.teambind.profileserver.exceptions.ProfileException;
+import com.teambind.profileserver.repository.HistoryRepository;
+import com.teambind.profileserver.repository.UserGenresRepository;
 import com.teambind.profileserver.repository.UserInfoRepository;
+import com.teambind.profileserver.repository.UserInstrumentsRepository;
 import com.teambind.profileserver.utils.generator.NicknameGenerator;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,7 +23,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Slf4j
 public class UserInfoLifeCycleService {
+  // IN 절 하나에 담을 최대 사용자 수
+  private static final int DELETE_CHUNK_SIZE = 500;
+
   private final UserInfoRepository userInfoRepository;
+  private final UserGenresRepository userGenresRepository;
+  private final UserInstrumentsRepository userInstrumentsRepository;
+  private final HistoryRepository historyRepository;
+  private final ApplicationEventPublisher applicationEventPublisher;
 
   @Transactional
   public void createUserProfile(String userId, String provider) {
@@ -33,15 +48,55 @@ public class UserInfoLifeCycleService {
             .updatedAt(LocalDateTime.now())
             .build();
     userInfoRepository.save(userInfo);
+    applicationEventPublisher.publishEvent(ProfileChangedEvent.of(userId));
   }
   ;
 
+  /**
+   * 프로필 단건 삭제. 엔티티를 로딩하지 않고 일괄 DELETE 로 처리하며, 삭제된 프로필이 없으면 예외(롤백)
+   *
+   * @param userId 사용자 ID
+   */
   @Transactional
   public void deleteUserProfile(String userId) {
-    UserInfo userInfo =
-        userInfoRepository
-            .findById(userId)
-            .orElseThrow(() -> new ProfileException(ProfileErrorCode.USER_NOT_FOUND));
-    userInfoRepository.delete(userInfo);
+    if (deleteProfiles(List.of(userId)) == 0) {
+      throw new ProfileException(ProfileErrorCode.USER_NOT_FOUND);
+    }
+  }
+
+  /**
+   * 여러 프로필 일괄 삭제 (user-deleted 토픽 배치 소비용). 존재하지 않는 사용자는 건너뛰므로 재처리해도 안전하다.
+   *
+   * @param userIds 사용자 ID 목록
+   * @return 삭제된 프로필 수
+   */
+  @Transactional
+  public int deleteUserProfiles(Collection<String> userIds) {
+    List<String> targets = userIds.stream().filter(Objects::nonNull).distinct().toList();
+    int deleted = 0;
+    for (int from = 0; from < targets.size(); from += DELETE_CHUNK_SIZE) {
+      int to = Math.min(from + DELETE_CHUNK_SIZE, targets.size());
+      deleted += deleteProfiles(targets.subList(from, to));
+    }
+    if (deleted < targets.size()) {
+      log.info(
+          "Skipped {} missing profiles while deleting {} users",
+          targets.size() - deleted,
+          targets.size());
+    }
+    return deleted;
+  }
+
+  // 청크당 4개의 DELETE 문. 자식 테이블부터 지운다 (이력 테이블은 FK 가 없고, H2 스키마에는 ON DELETE CASCADE 가 없음)
+  private int deleteProfiles(List<String> userIds) {
+    userGenresRepository.deleteByUserIdIn(userIds);
+    userInstrumentsRepository.deleteByUserIdIn(userIds);
+    historyRepository.deleteByUserIdIn(userIds);
+    int deleted = userInfoRepository.deleteByUserIdIn(userIds);
+    // 지워진 프로필이 없으면 캐시/라우팅에 알릴 변경도 없다
+    if (deleted > 0) {
+      applicationEventPublisher.publishEvent(new ProfileChangedEvent(List.copyOf(userIds)));
+    }
+    return deleted;
   }
 }
@@ -0,0 +1,86 @@
+package com.teambind.profileserver.service.history;
+
+import com.teambind.profileserver.dto.response.HistoryPageResponse;
+import com.teambind.profileserver.dto.response.HistoryResponse;
+import com.teambind.profileserver.exceptions.ProfileErrorCode;
+import com.teambind.profileserver.exceptions.ProfileException;
+import com.teambind.profileserver.repository.HistoryRepository;
+import com.teambind.profileserver.repository.UserInfoRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 프로필 변경 이력 조회 서비스
+ *
+ * <p>UserInfo.userHistory 컬렉션을 로딩하지 않고 (updated_at, history_id) keyset 으로 한 페이지씩 조회한다. 커서는 직전 페이지
+ * 마지막 행의 정렬 키를 Base64 로 감싼 불투명 문자열이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HistoryQueryService {
+
+  static final int DEFAULT_SIZE = 20;
+  static final int MAX_SIZE = 100;
+  private static final String CURSOR_DELIMITER = "|";
+
+  private final HistoryRepository historyRepository;
+  private final UserInfoRepository userInfoRepository;
+
+  @Transactional(readOnly = true)
+  public HistoryPageResponse getHistory(String userId, String fieldName, String cursor, int size) {
+    int pageSize = size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    String field = fieldName == null || fieldName.isBlank() ? null : fieldName;
+
+    LocalDateTime afterUpdatedAt = null;
+    Long afterHistoryId = null;
+    if (cursor != null && !cursor.isBlank()) {
+      Cursor after = decodeCursor(cursor);
+      afterUpdatedAt = after.updatedAt();
+      afterHistoryId = after.historyId();
+    }
+
+    List<HistoryResponse> fetched =
+        historyRepository.findHistoryPage(
+            userId, field, afterUpdatedAt, afterHistoryId, pageSize + 1);
+
+    // 이력이 하나도 없을 때만 사용자 존재 여부를 확인 (일반적인 조회에는 추가 쿼리 없음)
+    if (fetched.isEmpty() && afterHistoryId == null && !userInfoRepository.existsById(userId)) {
+      throw new ProfileException(ProfileErrorCode.USER_NOT_FOUND);
+    }
+
+    boolean hasNext = fetched.size() > pageSize;
+    List<HistoryResponse> content = hasNext ? fetched.subList(0, pageSize) : fetched;
+    String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1)) : null;
+
+    return HistoryPageResponse.builder()
+        .content(content)
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  static String encodeCursor(HistoryResponse last) {
+    String raw = last.getUpdatedAt() + CURSOR_DELIMITER + last.getHistoryId();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static Cursor decodeCursor(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int idx = raw.lastIndexOf(CURSOR_DELIMITER);
+      return new Cursor(
+          LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+    } catch (RuntimeException e) {
+      throw new ProfileException(ProfileErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  record Cursor(LocalDateTime updatedAt, Long historyId) {}
+}
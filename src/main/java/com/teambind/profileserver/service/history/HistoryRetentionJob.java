@@ -0,0 +1,222 @@
+package com.teambind.profileserver.service.history;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * profile_update_history 보존 기간 관리 작업
+ *
+ * <p>MariaDB 에서 월 단위 RANGE 파티션(sql/history-partitioning.sql)으로 구성된 경우 앞으로 쓸 파티션을 미리 만들고, 보존 기간이 지난
+ * 파티션은 (설정 시 아카이브 테이블로 복사한 뒤) 통째로 DROP 한다. 파티션이 없는 환경(H2, 마이그레이션 전 DB)에서는 history_id 기준
+ * 청크 단위 삭제로 대체한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class HistoryRetentionJob {
+
+  static final String TABLE = "profile_update_history";
+  static final String ARCHIVE_TABLE = "profile_update_history_archive";
+
+  private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+  private static final Pattern SAFE_IDENTIFIER = Pattern.compile("[A-Za-z0-9_]+");
+  private static final String MAX_PARTITION = "pmax";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${history.retention.enabled:true}")
+  private boolean enabled;
+
+  @Value("${history.retention.months:12}")
+  private int retentionMonths;
+
+  @Value("${history.retention.premake-months:3}")
+  private int premakeMonths;
+
+  @Value("${history.retention.archive:false}")
+  private boolean archive;
+
+  @Value("${history.retention.delete-chunk-size:1000}")
+  private int deleteChunkSize;
+
+  private Boolean partitionCapable;
+
+  @Scheduled(cron = "${history.retention.cron:0 30 3 * * *}")
+  @SchedulerLock(name = "historyRetentionJob", lockAtMostFor = "PT30M", lockAtLeastFor = "PT1M")
+  public void run() {
+    if (!enabled) return;
+    try {
+      LocalDate today = LocalDate.now();
+      ensureFuturePartitions(today);
+      int purged = purgeExpired(today);
+      log.info(
+          "History retention finished: purged={} (retention {} months)", purged, retentionMonths);
+    } catch (Exception e) {
+      log.error("History retention job failed", e);
+    }
+  }
+
+  /**
+   * 보존 기간이 지난 이력을 정리한다.
+   *
+   * @param today 기준일
+   * @return 파티션 환경이면 DROP 한 파티션 수, 아니면 삭제한 행 수
+   */
+  public int purgeExpired(LocalDate today) {
+    LocalDate cutoff = today.withDayOfMonth(1).minusMonths(retentionMonths);
+    Map<String, Long> partitions = findPartitions();
+    if (partitions.isEmpty()) {
+      return purgeByChunks(cutoff);
+    }
+    return dropExpiredPartitions(partitions, cutoff);
+  }
+
+  /** 이번 달부터 premake-months 만큼의 월 파티션을 pmax 에서 분할해 미리 만든다. */
+  public void ensureFuturePartitions(LocalDate today) {
+    Map<String, Long> partitions = findPartitions();
+    if (!partitions.containsKey(MAX_PARTITION)) return;
+
+    long highestBound =
+        partitions.values().stream()
+            .filter(Objects::nonNull)
+            .mapToLong(Long::longValue)
+            .max()
+            .orElse(0L);
+    LocalDate month = today.withDayOfMonth(1);
+    for (int i = 0; i <= premakeMonths; i++, month = month.plusMonths(1)) {
+      String name = month.format(PARTITION_NAME);
+      long upperBound = unixTimestamp(month.plusMonths(1));
+      if (partitions.containsKey(name) || upperBound <= highestBound) continue;
+
+      jdbcTemplate.execute(
+          "ALTER TABLE "
+              + TABLE
+              + " REORGANIZE PARTITION "
+              + MAX_PARTITION
+              + " INTO (PARTITION "
+              + name
+              + " VALUES LESS THAN ("
+              + upperBound
+              + "), PARTITION "
+              + MAX_PARTITION
+              + " VALUES LESS THAN MAXVALUE)");
+      highestBound = upperBound;
+      log.info("History partition created: {}", name);
+    }
+  }
+
+  private int dropExpiredPartitions(Map<String, Long> partitions, LocalDate cutoff) {
+    long cutoffBound = unixTimestamp(cutoff);
+    int dropped = 0;
+    for (Map.Entry<String, Long> partition : partitions.entrySet()) {
+      Long upperBound = partition.getValue();
+      if (upperBound == null || upperBound > cutoffBound) continue;
+
+      String name = partition.getKey();
+      if (!SAFE_IDENTIFIER.matcher(name).matches()) {
+        log.warn("Skip history partition with unexpected name: {}", name);
+        continue;
+      }
+      if (archive) {
+        jdbcTemplate.update(
+            "INSERT INTO "
+                + ARCHIVE_TABLE
+                + " SELECT * FROM "
+                + TABLE
+                + " PARTITION ("
+                + name
+                + ")");
+      }
+      jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name);
+      dropped++;
+      log.info("History partition dropped: {} (archived={})", name, archive);
+    }
+    return dropped;
+  }
+
+  private int purgeByChunks(LocalDate cutoff) {
+    NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(jdbcTemplate);
+    Timestamp before = Timestamp.valueOf(cutoff.atStartOfDay());
+    int total = 0;
+    while (true) {
+      List<Long> ids =
+          jdbcTemplate.queryForList(
+              "SELECT history_id FROM "
+                  + TABLE
+                  + " WHERE updated_at < ? ORDER BY history_id LIMIT ?",
+              Long.class,
+              before,
+              deleteChunkSize);
+      if (ids.isEmpty()) break;
+
+      MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+      if (archive) {
+        named.update(
+            "INSERT INTO "
+                + ARCHIVE_TABLE
+                + " SELECT * FROM "
+                + TABLE
+                + " WHERE history_id IN (:ids)",
+            params);
+      }
+      total += named.update("DELETE FROM " + TABLE + " WHERE history_id IN (:ids)", params);
+      if (ids.size() < deleteChunkSize) break;
+    }
+    return total;
+  }
+
+  /** 파티션 이름 -> 상한값(UNIX_TIMESTAMP, MAXVALUE 는 null). 파티션이 없거나 지원하지 않는 DB 면 빈 맵 */
+  private Map<String, Long> findPartitions() {
+    Map<String, Long> partitions = new LinkedHashMap<>();
+    if (!isPartitionCapable()) return partitions;
+
+    jdbcTemplate.query(
+        "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS"
+            + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL"
+            + " ORDER BY PARTITION_ORDINAL_POSITION",
+        rs -> {
+          String description = rs.getString(2);
+          partitions.put(
+              rs.getString(1),
+              "MAXVALUE".equalsIgnoreCase(description) ? null : Long.parseLong(description.trim()));
+        },
+        TABLE);
+    return partitions;
+  }
+
+  private boolean isPartitionCapable() {
+    if (partitionCapable == null) {
+      String product =
+          jdbcTemplate.execute(
+              (ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+      partitionCapable =
+          product != null
+              && (product.equalsIgnoreCase("MariaDB") || product.equalsIgnoreCase("MySQL"));
+    }
+    return partitionCapable;
+  }
+
+  // 파티션 경계는 DB 세션 타임존 기준 UNIX_TIMESTAMP 로 계산해야 파티션 정의와 일치한다
+  private long unixTimestamp(LocalDate date) {
+    Long value =
+        jdbcTemplate.queryForObject(
+            "SELECT UNIX_TIMESTAMP(?)", Long.class, Timestamp.valueOf(date.atStartOfDay()));
+    return value == null ? 0L : value;
+  }
+}
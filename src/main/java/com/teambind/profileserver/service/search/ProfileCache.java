@@ -0,0 +1,112 @@
+package com.teambind.profileserver.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.events.local.ProfileChangedEvent;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로필 단건 2단계 캐시
+ *
+ * <p>1단계는 노드별 near cache(Caffeine, 작은 크기와 짧은 TTL), 2단계는 노드 간 공유 계층({@link
+ * RemoteProfileStore}, Redis - profile.cache.remote.enabled=true 일 때만)이다. 프로필이 바뀌면 커밋 후 공유 계층에서 지우고
+ * 무효화를 방송해 모든 노드의 near cache 를 비운다. 공유 계층이 없으면 near cache 만 동작하며, 다른 노드의 변경은 near TTL 만큼
+ * 늦게 보일 수 있다.
+ *
+ * <p>무효화 전에 읽은 값이 무효화 뒤에 채워지지 않도록, 조회 도중 이 노드에서 무효화가 있었으면 결과를 어느 계층에도 채우지 않는다. 다른 노드의
+ * 조회와의 경합은 공유 계층의 fill-guard 가 막는다. 공유 계층에 채울 값은 레플리카 지연의 영향을 받지 않도록 프라이머리에서 읽어야 한다
+ * ({@link #isShared()}).
+ */
+@Component
+@Slf4j
+public class ProfileCache {
+
+  private final boolean nearEnabled;
+  private final Cache<String, UserResponse> near;
+  private final RemoteProfileStore remote;
+  // 무효화 횟수. 조회 전후 값이 다르면 조회 도중 무효화가 있었던 것이다
+  private final AtomicLong evictions = new AtomicLong();
+
+  @Autowired
+  public ProfileCache(
+      @Value("${profile.cache.near.enabled:true}") boolean nearEnabled,
+      @Value("${profile.cache.near.ttl:5s}") Duration nearTtl,
+      @Value("${profile.cache.near.max-size:10000}") long nearMaxSize,
+      ObjectProvider<RemoteProfileStore> remote) {
+    this(nearEnabled, nearTtl, nearMaxSize, remote.getIfAvailable());
+  }
+
+  ProfileCache(boolean nearEnabled, Duration nearTtl, long nearMaxSize, RemoteProfileStore remote) {
+    this.nearEnabled = nearEnabled;
+    this.near = Caffeine.newBuilder().expireAfterWrite(nearTtl).maximumSize(nearMaxSize).build();
+    this.remote = remote;
+    if (remote != null) {
+      remote.onInvalidation(this::evictNear);
+    }
+  }
+
+  /** near -> 공유 계층 -> loader 순으로 찾고, loader 결과는 두 계층에 채운다 */
+  public UserResponse get(String userId, Supplier<UserResponse> loader) {
+    if (nearEnabled) {
+      UserResponse cached = near.getIfPresent(userId);
+      if (cached != null) return cached;
+    }
+    if (remote != null) {
+      Optional<UserResponse> shared = remote.get(userId);
+      if (shared.isPresent()) {
+        putNear(userId, shared.get());
+        return shared.get();
+      }
+    }
+
+    long generation = evictions.get();
+    UserResponse loaded = loader.get();
+    if (evictions.get() != generation) {
+      return loaded;
+    }
+    if (remote != null) remote.put(userId, loaded);
+    putNear(userId, loaded);
+    return loaded;
+  }
+
+  /** 공유 계층 사용 여부 - true 면 loader 는 프라이머리에서 읽어야 한다 */
+  public boolean isShared() {
+    return remote != null;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProfileChanged(ProfileChangedEvent event) {
+    evict(event.userIds());
+  }
+
+  public void evict(Collection<String> userIds) {
+    evictNear(userIds);
+    if (remote != null) remote.evict(userIds);
+  }
+
+  private void evictNear(Collection<String> userIds) {
+    evictions.incrementAndGet();
+    near.invalidateAll(userIds);
+  }
+
+  private void putNear(String userId, UserResponse response) {
+    if (nearEnabled) near.put(userId, response);
+  }
+
+  long nearSize() {
+    near.cleanUp();
+    return near.estimatedSize();
+  }
+}
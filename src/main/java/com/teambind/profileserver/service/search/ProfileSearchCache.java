@@ -0,0 +1,146 @@
+package com.teambind.profileserver.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.events.local.ProfileChangedEvent;
+import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
+import com.teambind.profileserver.utils.concurrent.SingleFlight;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 조건 검색 첫 페이지 캐시
+ *
+ * <p>랜딩 목록(조건 없음), 지역/장르 단일 조건처럼 트래픽이 몰리는 조합의 첫 페이지(cursor 없음)만 짧은 TTL 로 캐시한다. 키는 정규화한
+ * 검색 조건(지역 대문자, 닉네임 소문자, 장르/악기 ID 정렬·중복 제거)과 페이지 크기다.
+ *
+ * <p>같은 키의 동시 미스는 SingleFlight 로 한 번의 조회로 합쳐진다. Caffeine 의 cache.get(key, loader)는 조회 동안 해시
+ * 버킷 락을 잡아 같은 버킷의 다른 키까지 막고 가상 스레드를 고정(pinning)시키므로 쓰지 않는다.
+ *
+ * <p>무효화는 근사적이다 - 프로필이 바뀌면 커밋 후 그 사용자가 들어 있는 페이지만 비운다. 바뀐 프로필이 새로 조건에 맞게 되어 페이지에
+ * 들어가야 하는 경우는 TTL 이 한정한다. 무효화와 겹친 조회 결과는 오래된 값일 수 있으므로 캐시에 넣지 않는다.
+ */
+@Component
+@Slf4j
+public class ProfileSearchCache {
+
+  private final boolean enabled;
+  private final Cache<Key, Slice<UserResponse>> cache;
+  private final SingleFlight<Key, Slice<UserResponse>> singleFlight;
+  // 무효화 횟수. 조회 전후 값이 다르면 조회 도중 무효화가 있었던 것이다
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public ProfileSearchCache(
+      @Value("${profile.search-cache.enabled:true}") boolean enabled,
+      @Value("${profile.search-cache.ttl:30s}") Duration ttl,
+      @Value("${profile.search-cache.max-size:1000}") long maxSize,
+      SingleFlight<Key, Slice<UserResponse>> searchFirstPageSingleFlight) {
+    this.enabled = enabled;
+    this.cache = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+    this.singleFlight = searchFirstPageSingleFlight;
+  }
+
+  /** 캐시된 첫 페이지를 돌려주고, 없으면 loader 로 한 번만 조회해 채운다. 비활성화 시 항상 loader 호출 */
+  public Slice<UserResponse> getFirstPage(
+      ProfileSearchCriteria criteria, int size, Supplier<Slice<UserResponse>> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    Key key = Key.of(criteria, size);
+    Slice<UserResponse> cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    return singleFlight.execute(
+        key,
+        () -> {
+          // 앞선 리더가 방금 채웠을 수 있다
+          Slice<UserResponse> filled = cache.getIfPresent(key);
+          if (filled != null) {
+            return filled;
+          }
+          long generation = invalidations.get();
+          Slice<UserResponse> loaded = loader.get();
+          if (invalidations.get() == generation) {
+            cache.put(key, loaded);
+          }
+          return loaded;
+        });
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProfileChanged(ProfileChangedEvent event) {
+    invalidateContaining(Set.copyOf(event.userIds()));
+  }
+
+  /** 주어진 사용자가 결과에 들어 있는 페이지만 비운다 */
+  void invalidateContaining(Set<String> userIds) {
+    invalidations.incrementAndGet();
+    cache
+        .asMap()
+        .values()
+        .removeIf(
+            slice ->
+                slice.getContent().stream().anyMatch(user -> userIds.contains(user.getUserId())));
+  }
+
+  public void invalidateAll() {
+    invalidations.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  long size() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  /** 정규화한 검색 조건 */
+  public record Key(
+      String city,
+      String nickName,
+      List<Integer> genres,
+      List<Integer> instruments,
+      Character sex,
+      int size) {
+
+    static Key of(ProfileSearchCriteria criteria, int size) {
+      if (criteria == null) {
+        return new Key(null, null, List.of(), List.of(), null, size);
+      }
+      return new Key(
+          normalize(criteria.getCity(), true),
+          normalize(criteria.getNickName(), false),
+          sortedIds(criteria.getGenres()),
+          sortedIds(criteria.getInstruments()),
+          criteria.getSex() == null ? null : Character.toUpperCase(criteria.getSex()),
+          size);
+    }
+
+    private static String normalize(String value, boolean upperCase) {
+      if (value == null || value.isBlank()) {
+        return null;
+      }
+      String stripped = value.strip();
+      return upperCase ? stripped.toUpperCase(Locale.ROOT) : stripped.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<Integer> sortedIds(List<Integer> ids) {
+      if (ids == null || ids.isEmpty()) {
+        return List.of();
+      }
+      return ids.stream().filter(Objects::nonNull).distinct().sorted().toList();
+    }
+  }
+}
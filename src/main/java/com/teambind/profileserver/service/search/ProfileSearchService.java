@@ -1,5 +1,7 @@
 package com.teambind.profileserver.service.search;
 
+import com.teambind.profileserver.config.datasource.ReadYourWritesTracker;
+import com.teambind.profileserver.config.datasource.ReplicaRoutingContext;
 import com.teambind.profileserver.dto.response.BatchUserSummaryResponse;
 import com.teambind.profileserver.dto.response.UserResponse;
 import com.teambind.profileserver.entity.UserInfo;
@@ -7,25 +9,62 @@ import com.teambind.profileserver.exceptions.ProfileErrorCode;
 import com.teambind.profileserver.exceptions.ProfileException;
 import com.teambind.profileserver.repository.ProfileSearchRepository;
 import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
+import com.teambind.profileserver.utils.concurrent.SingleFlight;
+import com.teambind.profileserver.utils.diagnostics.QueryBudget;
+import com.teambind.profileserver.utils.diagnostics.QueryCounter;
 import java.util.List;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.function.ThrowingConsumer;
 
 @Service
 @RequiredArgsConstructor
 public class ProfileSearchService {
 
+  // 스트리밍 배치 조회의 SQL 수 태그 (조각 단위)
+  static final String STREAM_ENDPOINT = "POST /api/v1/profiles/batch (stream chunk)";
+
   private final ProfileSearchRepository repository;
+  private final ReadYourWritesTracker readYourWritesTracker;
+  private final ProfileSearchCache searchCache;
+  private final PlatformTransactionManager transactionManager;
+  private final SingleFlight<String, UserResponse> profileByIdSingleFlight;
+  private final ProfileCache profileCache;
+  private final QueryBudget queryBudget;
 
-  @Transactional(readOnly = true)
+  // near cache -> 공유 캐시 -> DB 순으로 찾고, DB 조회는 같은 userId 끼리 한 번으로 합친다 (대기하는 요청은 커넥션을 잡지 않음)
+  // 방금 수정한 사용자의 조회는 레플리카 지연과 무관하게 프라이머리에서 읽으므로 캐시와 합치기를 거치지 않는다.
+  // 공유 캐시(Redis)에 채울 값은 전체 노드가 TTL 동안 보게 되므로 지연된 레플리카가 아니라 프라이머리에서 읽는다
   public UserResponse searchProfileById(String userId) {
-    UserInfo userInfo = repository.search(userId);
-    if (userInfo == null) throw new ProfileException(ProfileErrorCode.USER_NOT_FOUND);
-    return UserResponse.fromEntity(userInfo);
+    if (readYourWritesTracker.isRecentlyWritten(userId)) {
+      return ReplicaRoutingContext.usePrimaryIf(true, () -> loadById(userId));
+    }
+    return profileCache.get(
+        userId,
+        () ->
+            profileByIdSingleFlight.execute(
+                userId,
+                () ->
+                    ReplicaRoutingContext.usePrimaryIf(
+                        profileCache.isShared(), () -> loadById(userId))));
+  }
+
+  private UserResponse loadById(String userId) {
+    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    return readOnly.execute(
+        status -> {
+          UserInfo userInfo = repository.search(userId);
+          if (userInfo == null) throw new ProfileException(ProfileErrorCode.USER_NOT_FOUND);
+          return UserResponse.fromEntity(userInfo);
+        });
   }
 
   // 페이징 처리 서능 테스트용 메서드
@@ -35,22 +74,94 @@ public class ProfileSearchService {
     return result.map(UserResponse::fromEntity);
   }
 
-  @Transactional(readOnly = true)
+  // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션은 실제 조회할 때만 연다
   public Slice<UserResponse> searchProfilesByCursor(
       ProfileSearchCriteria criteria, String cursor, int size) {
-    var result = repository.searchByCursor(criteria, cursor, size);
-    return result.map(UserResponse::fromEntity);
+    if (cursor != null) {
+      return loadByCursor(criteria, cursor, size);
+    }
+    return searchCache.getFirstPage(criteria, size, () -> loadByCursor(criteria, null, size));
+  }
+
+  private Slice<UserResponse> loadByCursor(
+      ProfileSearchCriteria criteria, String cursor, int size) {
+    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    return readOnly.execute(
+        status -> repository.searchByCursor(criteria, cursor, size).map(UserResponse::fromEntity));
   }
 
   @Transactional(readOnly = true)
   public List<BatchUserSummaryResponse> searchProfilesByIds(List<String> userIds) {
-    var users = repository.searchByUserIds(userIds);
-    return users.stream().map(BatchUserSummaryResponse::fromEntity).toList();
+    return ReplicaRoutingContext.usePrimaryIf(
+        readYourWritesTracker.anyRecentlyWritten(userIds),
+        () -> {
+          var users = repository.searchByUserIds(userIds);
+          return users.stream().map(BatchUserSummaryResponse::fromEntity).toList();
+        });
   }
 
   @Transactional(readOnly = true)
   public List<UserResponse> searchDetailProfilesByIds(List<String> userIds) {
-    var users = repository.searchByUserIds(userIds);
-    return users.stream().map(UserResponse::fromEntity).toList();
+    return ReplicaRoutingContext.usePrimaryIf(
+        readYourWritesTracker.anyRecentlyWritten(userIds),
+        () -> {
+          var users = repository.searchDetailByUserIds(userIds);
+          return users.stream().map(UserResponse::fromEntity).toList();
+        });
+  }
+
+  // 큰 배치 응답용 - chunkSize 명씩 조회해 한 명씩 consumer 로 넘긴다(직렬화). 조각마다 읽기 전용 트랜잭션을 열고 DTO 로 바꾼 뒤
+  // 커밋하므로, 커넥션은 조회하는 동안만 잡고 호출자에게 쓰는 동안에는 돌려준다. 힙 사용량은 배치 크기가 아니라 조각 크기에 비례한다
+  public void streamProfilesByIds(
+      List<String> userIds, int chunkSize, ThrowingConsumer<BatchUserSummaryResponse> consumer) {
+    streamInChunks(
+        userIds,
+        chunkSize,
+        chunk ->
+            repository.searchByUserIds(chunk).stream()
+                .map(BatchUserSummaryResponse::fromEntity)
+                .toList(),
+        consumer);
+  }
+
+  public void streamDetailProfilesByIds(
+      List<String> userIds, int chunkSize, ThrowingConsumer<UserResponse> consumer) {
+    streamInChunks(
+        userIds,
+        chunkSize,
+        chunk ->
+            repository.searchDetailByUserIds(chunk).stream().map(UserResponse::fromEntity).toList(),
+        consumer);
+  }
+
+  // 스트리밍 응답은 MVC 비동기 스레드에서 쓰여 QueryCountFilter 범위 밖이므로 조각마다 SQL 수를 직접 센다
+  private <T> void streamInChunks(
+      List<String> userIds,
+      int chunkSize,
+      Function<List<String>, List<T>> loader,
+      ThrowingConsumer<T> consumer) {
+    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    boolean primary = readYourWritesTracker.anyRecentlyWritten(userIds);
+    for (int from = 0; from < userIds.size(); from += chunkSize) {
+      List<String> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+      List<T> responses =
+          ReplicaRoutingContext.usePrimaryIf(primary, () -> countChunk(readOnly, loader, chunk));
+      responses.forEach(consumer);
+    }
+  }
+
+  private <T> List<T> countChunk(
+      TransactionTemplate readOnly, Function<List<String>, List<T>> loader, List<String> chunk) {
+    if (!queryBudget.isEnabled()) {
+      return readOnly.execute(status -> loader.apply(chunk));
+    }
+    QueryCounter.Scope scope = queryBudget.open();
+    try {
+      return readOnly.execute(status -> loader.apply(chunk));
+    } finally {
+      queryBudget.finish(scope, "http", STREAM_ENDPOINT);
+    }
   }
 }
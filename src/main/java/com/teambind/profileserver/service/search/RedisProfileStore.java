@@ -0,0 +1,128 @@
+package com.teambind.profileserver.service.search;
+
+import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.utils.json.JsonUtil;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Redis 공유 캐시 계층
+ *
+ * <p>값은 UserResponse JSON 문자열(키: {@code profile:v1:<userId>}, TTL 적용), 무효화는 pub/sub 채널에 userId
+ * 배열(JSON)을 발행한다. Redis 오류는 경고 로그만 남기고 미스로 처리한다.
+ *
+ * <p>evict 는 값과 함께 fill-guard 동안 유지되는 표식({@code profile:v1:guard:<userId>})을 남기고, put 은 표식이 없을 때만
+ * 쓴다(Lua 로 원자적으로 확인). 커밋 전에 읽은 값을 다른 노드가 무효화 직후 채워 TTL 내내 전체 노드에 보이는 경합을 막는다.
+ */
+@Slf4j
+public class RedisProfileStore implements RemoteProfileStore, MessageListener {
+
+  static final String KEY_PREFIX = "profile:v1:";
+  static final String GUARD_PREFIX = "profile:v1:guard:";
+
+  // KEYS[1] 값 키, KEYS[2] 표식 키, ARGV[1] JSON, ARGV[2] TTL(ms)
+  static final RedisScript<Long> PUT_UNLESS_GUARDED =
+      new DefaultRedisScript<>(
+          "if redis.call('exists', KEYS[2]) == 1 then return 0 end "
+              + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1",
+          Long.class);
+
+  // KEYS 는 (값 키, 표식 키) 쌍의 나열, ARGV[1] 표식 TTL(ms)
+  static final RedisScript<Long> EVICT_AND_GUARD =
+      new DefaultRedisScript<>(
+          "for i = 1, #KEYS, 2 do redis.call('del', KEYS[i]) "
+              + "redis.call('set', KEYS[i + 1], '1', 'PX', ARGV[1]) end return #KEYS / 2",
+          Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final JsonUtil jsonUtil;
+  private final Duration ttl;
+  private final Duration fillGuard;
+  private final String channel;
+  private final List<Consumer<Collection<String>>> listeners = new CopyOnWriteArrayList<>();
+
+  public RedisProfileStore(
+      StringRedisTemplate redisTemplate,
+      JsonUtil jsonUtil,
+      Duration ttl,
+      Duration fillGuard,
+      String channel) {
+    this.redisTemplate = redisTemplate;
+    this.jsonUtil = jsonUtil;
+    this.ttl = ttl;
+    this.fillGuard = fillGuard;
+    this.channel = channel;
+  }
+
+  @Override
+  public Optional<UserResponse> get(String userId) {
+    try {
+      String json = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+      return json == null
+          ? Optional.empty()
+          : Optional.of(jsonUtil.fromJson(json, UserResponse.class));
+    } catch (RuntimeException e) {
+      log.warn("Redis profile cache read failed for {}: {}", userId, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void put(String userId, UserResponse response) {
+    try {
+      redisTemplate.execute(
+          PUT_UNLESS_GUARDED,
+          List.of(KEY_PREFIX + userId, GUARD_PREFIX + userId),
+          jsonUtil.toJson(response),
+          Long.toString(ttl.toMillis()));
+    } catch (RuntimeException e) {
+      log.warn("Redis profile cache write failed for {}: {}", userId, e.getMessage());
+    }
+  }
+
+  @Override
+  public void evict(Collection<String> userIds) {
+    if (userIds.isEmpty()) return;
+    try {
+      List<String> keys =
+          userIds.stream().flatMap(id -> Stream.of(KEY_PREFIX + id, GUARD_PREFIX + id)).toList();
+      redisTemplate.execute(EVICT_AND_GUARD, keys, Long.toString(fillGuard.toMillis()));
+      redisTemplate.convertAndSend(channel, jsonUtil.toJson(userIds));
+    } catch (RuntimeException e) {
+      // 다른 노드의 near cache 는 TTL 로 만료된다
+      log.warn("Redis profile cache eviction failed for {}: {}", userIds, e.getMessage());
+    }
+  }
+
+  @Override
+  public void onInvalidation(Consumer<Collection<String>> listener) {
+    listeners.add(listener);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      List<String> userIds = List.of(jsonUtil.fromJson(body, String[].class));
+      listeners.forEach(listener -> listener.accept(userIds));
+    } catch (RuntimeException e) {
+      log.warn("Ignoring malformed profile invalidation message: {}", body);
+    }
+  }
+
+  public String getChannel() {
+    return channel;
+  }
+}
@@ -0,0 +1,25 @@
+package com.teambind.profileserver.service.search;
+
+import com.teambind.profileserver.dto.response.UserResponse;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 공유 프로필 캐시 계층 (ProfileCache 의 2단계)
+ *
+ * <p>구현은 장애 시 예외를 던지지 않고 미스로 처리해야 한다. 공유 계층이 내려가도 조회는 DB 로 계속된다.
+ */
+public interface RemoteProfileStore {
+
+  Optional<UserResponse> get(String userId);
+
+  /** 최근 무효화된 사용자(fill-guard 안)는 쓰지 않는다 - 무효화 전에 읽은 값일 수 있다 */
+  void put(String userId, UserResponse response);
+
+  /** 공유 계층에서 지우고 다른 노드에 무효화를 알린다 (자기 자신도 알림을 받는다). 이후 fill-guard 동안 put 을 막는다 */
+  void evict(Collection<String> userIds);
+
+  /** 무효화 알림 구독 - 각 노드는 받은 ID 를 로컬 near cache 에서 지운다 */
+  void onInvalidation(Consumer<Collection<String>> listener);
+}
@@ -3,26 +3,39 @@ package com.teambind.profileserver.service.update;
 import com.teambind.profileserver.dto.request.ProfileUpdateRequest;
 import com.teambind.profileserver.entity.History;
 import com.teambind.profileserver.entity.UserInfo;
+import com.teambind.profileserver.events.local.ProfileChangedEvent;
 import com.teambind.profileserver.events.event.UserNickNameChangedEvent;
 import com.teambind.profileserver.events.publisher.EventPublisher;
 import com.teambind.profileserver.exceptions.ProfileErrorCode;
 import com.teambind.profileserver.exceptions.ProfileException;
 import com.teambind.profileserver.repository.UserInfoRepository;
 import com.teambind.profileserver.utils.InitTableMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class ProfileUpdateService {
+  /** 작업(operation)과 결과(outcome: success, 오류 코드 이름 또는 error) 태그로 나눠 기록하는 처리 시간 타이머 */
+  public static final String UPDATE_TIMER = "profile.update";
+
   private final UserInfoRepository userInfoRepository;
   private final EventPublisher eventPublisher;
+  private final ApplicationEventPublisher applicationEventPublisher;
+  private final MeterRegistry meterRegistry;
 
   @Transactional
   public void UserProfileImageUpdate(String userId, String imageUrl) {
-    UserInfo userInfo = getUserInfo(userId);
-    userInfo.setProfileImageUrl(imageUrl);
+    timed(
+        "profileImage",
+        () -> {
+          UserInfo userInfo = getUserInfo(userId);
+          userInfo.setProfileImageUrl(imageUrl);
+        });
   }
 
   /**
@@ -34,26 +47,56 @@ public class ProfileUpdateService {
    */
   @Transactional
   public void updateProfile(String userId, ProfileUpdateRequest request) {
-    UserInfo userInfo = getUserInfo(userId);
+    timed(
+        "profile",
+        () -> {
+          UserInfo userInfo = getUserInfo(userId);
 
-    applyPatch(userInfo, request);
+          applyPatch(userInfo, request);
 
-    // 명시적 표기
-    userInfoRepository.save(userInfo);
+          // 명시적 표기
+          userInfoRepository.save(userInfo);
+        });
   }
 
   @Transactional
   public void updateProfileImage(String userId, String imageUrl) {
-    UserInfo userInfo = getUserInfo(userId);
-    userInfo.setProfileImageUrl(imageUrl);
-    userInfo.addHistory(new History("profileImageUrl", userInfo.getProfileImageUrl(), imageUrl));
+    timed(
+        "profileImageEvent",
+        () -> {
+          UserInfo userInfo = getUserInfo(userId);
+          userInfo.setProfileImageUrl(imageUrl);
+          userInfo.addHistory(
+              new History("profileImageUrl", userInfo.getProfileImageUrl(), imageUrl));
+        });
   }
 
   public boolean isNickNameExist(String nickname) {
     return userInfoRepository.existsByNickname(nickname);
   }
 
+  // 트랜잭션 안에서 측정하므로 커밋(flush) 시간은 포함되지 않는다 - 커밋을 포함한 지연은 http.server.requests 로 본다
+  private void timed(String operation, Runnable action) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      action.run();
+      outcome = "success";
+    } catch (ProfileException e) {
+      outcome = e.getErrorCode().name();
+      throw e;
+    } finally {
+      sample.stop(
+          Timer.builder(UPDATE_TIMER)
+              .tag("operation", operation)
+              .tag("outcome", outcome)
+              .register(meterRegistry));
+    }
+  }
+
+  // 쓰기 메서드에서만 사용 - 변경 이벤트로 캐시 무효화, read-your-writes 기록이 커밋 후 이뤄진다
   private UserInfo getUserInfo(String userId) {
+    applicationEventPublisher.publishEvent(ProfileChangedEvent.of(userId));
 
     return userInfoRepository
         .findById(userId)
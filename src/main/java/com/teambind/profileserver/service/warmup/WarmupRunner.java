@@ -0,0 +1,225 @@
+package com.teambind.profileserver.service.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
+import com.teambind.profileserver.service.search.ProfileSearchService;
+import com.teambind.profileserver.utils.InitTableMapper;
+import com.teambind.profileserver.utils.diagnostics.SlowQueryRecorder;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 직후 워밍업
+ *
+ * <p>배포 직후 첫 요청들이 JIT 컴파일, QueryDSL/Hibernate 쿼리 계획 생성, 빈 캐시, 커넥션 생성 비용을 떠안지 않도록 트래픽을 받기 전에
+ * 대표 경로를 내부에서 미리 실행한다. ApplicationRunner 가 끝나야 Spring 이 ReadinessState 를 ACCEPTING_TRAFFIC 으로 바꾸므로,
+ * 그동안 /health/ready 는 503 이고 (ReadinessMonitor 의 application 항목), Tomcat 이 이미 연결을 받더라도 API 요청은
+ * ReadinessGateFilter 가 503 으로 돌려보내 nginx 가 다른 노드로 보낸다.
+ *
+ * <ol>
+ *   <li>Hikari 풀을 minimum-idle 까지 채운다
+ *   <li>조건 조합별 커서 검색(첫 페이지 캐시 포함), 페이지 검색, 요약/상세 배치 조회와 응답 직렬화를 반복한다. 워밍업이 프라이머리에
+ *       전체 스캔 부하를 주지 않도록 인덱스를 타는 조건(지역, 장르, 악기)과 LIMIT 이 붙는 조건 없는 커서 검색만 쓴다
+ *   <li>첫 페이지 사용자의 단건 조회로 프로필 캐시를 채운다
+ * </ol>
+ *
+ * <p>실패해도 기동은 계속하며, 전체 시간은 profile.warmup 타이머(outcome: completed/timeout/failed)로 남긴다. 워밍업 중 기록된
+ * 느린 조회는 콜드 상태의 값이라 끝나면 비운다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "profile.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+  public static final String WARMUP_TIMER = "profile.warmup";
+
+  private final ProfileSearchService profileSearchService;
+  private final ObjectProvider<HikariDataSource> dataSources;
+  private final ObjectMapper objectMapper;
+  private final SlowQueryRecorder slowQueryRecorder;
+  private final MeterRegistry meterRegistry;
+  private final int iterations;
+  private final int pageSize;
+  private final Duration timeout;
+
+  private int failures;
+
+  public WarmupRunner(
+      ProfileSearchService profileSearchService,
+      ObjectProvider<HikariDataSource> dataSources,
+      ObjectMapper objectMapper,
+      SlowQueryRecorder slowQueryRecorder,
+      MeterRegistry meterRegistry,
+      @Value("${profile.warmup.iterations:20}") int iterations,
+      @Value("${profile.warmup.page-size:20}") int pageSize,
+      @Value("${profile.warmup.timeout:30s}") Duration timeout) {
+    this.profileSearchService = profileSearchService;
+    this.dataSources = dataSources;
+    this.objectMapper = objectMapper;
+    this.slowQueryRecorder = slowQueryRecorder;
+    this.meterRegistry = meterRegistry;
+    this.iterations = iterations;
+    this.pageSize = pageSize;
+    this.timeout = timeout;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    long start = System.nanoTime();
+    long deadline = start + timeout.toNanos();
+    String outcome = "completed";
+    failures = 0;
+    try {
+      dataSources.orderedStream().forEach(this::fillPool);
+
+      List<ProfileSearchCriteria> criteria = representativeCriteria();
+      List<String> userIds = List.of();
+      for (int i = 0; i < iterations; i++) {
+        if (System.nanoTime() > deadline) {
+          outcome = "timeout";
+          break;
+        }
+        userIds = runSearches(criteria);
+      }
+      for (String userId : userIds) {
+        if (System.nanoTime() > deadline) {
+          outcome = "timeout";
+          break;
+        }
+        attempt(() -> profileSearchService.searchProfileById(userId));
+      }
+    } catch (RuntimeException e) {
+      outcome = "failed";
+      log.warn("Warm-up aborted: {}", e.getMessage());
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      Timer.builder(WARMUP_TIMER)
+          .description("기동 직후 워밍업 소요 시간")
+          .tag("outcome", outcome)
+          .register(meterRegistry)
+          .record(Duration.ofNanos(elapsed));
+      slowQueryRecorder.clear();
+      log.info(
+          "Warm-up {} in {} ms ({} iterations, {} failed calls)",
+          outcome,
+          Duration.ofNanos(elapsed).toMillis(),
+          iterations,
+          failures);
+    }
+  }
+
+  // 커넥션을 minimum-idle 개까지 동시에 잡았다가 돌려줘 첫 요청이 커넥션 생성을 기다리지 않게 한다
+  void fillPool(HikariDataSource dataSource) {
+    int target = Math.max(1, dataSource.getMinimumIdle());
+    List<Connection> connections = new ArrayList<>(target);
+    try {
+      for (int i = 0; i < target; i++) {
+        connections.add(dataSource.getConnection());
+      }
+    } catch (Exception e) {
+      log.warn("Warm-up could not fill pool '{}': {}", dataSource.getPoolName(), e.getMessage());
+    } finally {
+      for (Connection connection : connections) {
+        try {
+          connection.close();
+        } catch (Exception ignored) {
+          // 풀에 반납만 하므로 무시
+        }
+      }
+    }
+  }
+
+  // 한 바퀴: 조건별 커서 검색 + 페이지 검색 + 배치 조회 + 직렬화. 첫 페이지 사용자 ID 를 돌려준다
+  private List<String> runSearches(List<ProfileSearchCriteria> criteria) {
+    List<String> userIds = new ArrayList<>();
+    for (ProfileSearchCriteria each : criteria) {
+      Slice<UserResponse> slice =
+          attempt(() -> profileSearchService.searchProfilesByCursor(each, null, pageSize));
+      if (slice == null) continue;
+      attempt(() -> serialize(slice));
+      if (userIds.isEmpty()) {
+        slice.getContent().forEach(user -> userIds.add(user.getUserId()));
+      }
+      if (slice.hasNext() && !slice.getContent().isEmpty()) {
+        String cursor = slice.getContent().get(slice.getContent().size() - 1).getUserId();
+        attempt(
+            () -> serialize(profileSearchService.searchProfilesByCursor(each, cursor, pageSize)));
+      }
+    }
+    // 페이지 검색은 COUNT 를 함께 실행하므로 가장 좁은 조건(마지막 복합 조건)에 지역이 있을 때만 실행한다
+    ProfileSearchCriteria narrowest = criteria.get(criteria.size() - 1);
+    if (narrowest.getCity() != null) {
+      attempt(
+          () ->
+              serialize(
+                  profileSearchService.searchProfiles(narrowest, PageRequest.of(0, pageSize))));
+    }
+    if (!userIds.isEmpty()) {
+      attempt(() -> serialize(profileSearchService.searchProfilesByIds(userIds)));
+      attempt(() -> serialize(profileSearchService.searchDetailProfilesByIds(userIds)));
+    }
+    return userIds;
+  }
+
+  // 조건 없음(랜딩, PK 순 LIMIT), 지역, 장르, 악기, 지역 기준 복합 조건 - 이름 테이블에서 실제 존재하는 값을 쓴다.
+  // 닉네임 부분 일치(LIKE '%..%')와 성별 단독 조건은 인덱스를 타지 않으므로 단독으로 쓰지 않는다
+  static List<ProfileSearchCriteria> representativeCriteria() {
+    String city = InitTableMapper.locationNamesTable.keySet().stream().findFirst().orElse(null);
+    List<Integer> genres = InitTableMapper.genreNameTable.keySet().stream().limit(2).toList();
+    List<Integer> instruments =
+        InitTableMapper.instrumentNameTable.keySet().stream().limit(1).toList();
+
+    List<ProfileSearchCriteria> criteria = new ArrayList<>();
+    criteria.add(ProfileSearchCriteria.builder().build());
+    if (city != null) criteria.add(ProfileSearchCriteria.builder().city(city).build());
+    if (!genres.isEmpty()) criteria.add(ProfileSearchCriteria.builder().genres(genres).build());
+    if (!instruments.isEmpty()) {
+      criteria.add(ProfileSearchCriteria.builder().instruments(instruments).build());
+    }
+    if (city != null) {
+      criteria.add(
+          ProfileSearchCriteria.builder()
+              .city(city)
+              .sex('M')
+              .genres(genres.isEmpty() ? null : genres)
+              .instruments(instruments.isEmpty() ? null : instruments)
+              .build());
+    }
+    return criteria;
+  }
+
+  private Object serialize(Object response) {
+    try {
+      return objectMapper.writeValueAsBytes(response);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private <T> T attempt(Callable<T> call) {
+    try {
+      return call.call();
+    } catch (Exception e) {
+      if (failures++ == 0) {
+        log.warn("Warm-up call failed: {}", e.getMessage());
+      }
+      return null;
+    }
+  }
+}
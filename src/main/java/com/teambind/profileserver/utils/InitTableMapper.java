@@ -7,6 +7,9 @@ import com.teambind.profileserver.entity.attribute.nameTable.LocationNameTable;
 import com.teambind.profileserver.repository.GenreNameTableRepository;
 import com.teambind.profileserver.repository.InstrumentNameTableRepository;
 import com.teambind.profileserver.repository.LocationNameTableRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import java.util.HashMap;
 import java.util.List;
@@ -21,43 +24,67 @@ import org.springframework.stereotype.Component;
 public class InitTableMapper {
 
 
-    public static HashMap<Integer, GenreNameTable> genreNameTable = new HashMap<>();
-    public static HashMap<Integer, InstrumentNameTable> instrumentNameTable = new HashMap<>();
-    public static HashMap<String, String> locationNamesTable = new HashMap<>();
+    // 조회 경로(UserResponse 등)가 락 없이 읽으므로 갱신 시 새 맵을 만들어 참조만 교체한다
+    public static volatile HashMap<Integer, GenreNameTable> genreNameTable = new HashMap<>();
+    public static volatile HashMap<Integer, InstrumentNameTable> instrumentNameTable = new HashMap<>();
+    public static volatile HashMap<String, String> locationNamesTable = new HashMap<>();
     private final GenreNameTableRepository genreNameTableRepository;
     private final InstrumentNameTableRepository instrumentNameTableRepository;
     private final LocationNameTableRepository locationNameTableRepository;
+    private final MeterRegistry meterRegistry;
 
     @PostConstruct
     public void initOnStartup() {
+        // 적재된 항목 수 - 0 이면 이름 테이블이 비어 응답의 장르/악기/지역 이름이 빠진다
+        Gauge.builder("profile.init-table.size", () -> genreNameTable.size())
+                .tag("table", "genre")
+                .register(meterRegistry);
+        Gauge.builder("profile.init-table.size", () -> instrumentNameTable.size())
+                .tag("table", "instrument")
+                .register(meterRegistry);
+        Gauge.builder("profile.init-table.size", () -> locationNamesTable.size())
+                .tag("table", "location")
+                .register(meterRegistry);
         initializeTables();
     }
 
 
+    /** 준비 상태 확인용 - 장르/악기 이름 테이블이 적재되었는지 */
+    public static boolean isLoaded() {
+        return !genreNameTable.isEmpty() && !instrumentNameTable.isEmpty();
+    }
+
+
 	@Scheduled(cron = "0 0 6 * * *")
     public void initializeTables() {
-		genreNameTable.clear();
-		instrumentNameTable.clear();
-		locationNamesTable.clear();
-		
+        Timer.builder("profile.init-table.refresh")
+                .register(meterRegistry)
+                .record(this::reloadTables);
+    }
+
+    private void reloadTables() {
         List<GenreNameTable> genreNameTables = genreNameTableRepository.findAll();
         List<InstrumentNameTable> instrumentNameTables = instrumentNameTableRepository.findAll();
         List<LocationNameTable> locationNameTables = locationNameTableRepository.findAll();
 
+        HashMap<String, String> locations = new HashMap<>();
         locationNameTables.forEach(locationNameTable -> {
-            InitTableMapper.locationNamesTable.put(locationNameTable.getId(), locationNameTable.getCity());
+            locations.put(locationNameTable.getId(), locationNameTable.getCity());
         });
 
-
-        genreNameTable= new HashMap<>();
-        instrumentNameTable= new HashMap<>();
+        HashMap<Integer, GenreNameTable> genres = new HashMap<>();
+        HashMap<Integer, InstrumentNameTable> instruments = new HashMap<>();
 
         genreNameTables.forEach(genreNameTable -> {
-            InitTableMapper.genreNameTable.put(genreNameTable.getGenreId(), genreNameTable);
+            genres.put(genreNameTable.getGenreId(), genreNameTable);
         });
         instrumentNameTables.forEach(instrumentNameTable -> {
-            InitTableMapper.instrumentNameTable.put(instrumentNameTable.getInstrumentId(), instrumentNameTable);
+            instruments.put(instrumentNameTable.getInstrumentId(), instrumentNameTable);
         });
+
+        locationNamesTable = locations;
+        genreNameTable = genres;
+        instrumentNameTable = instruments;
     }
 	
 	
@@ -0,0 +1,110 @@
+package com.teambind.profileserver.utils.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동시 요청 합치기 (single-flight)
+ *
+ * <p>같은 키로 동시에 들어온 호출 중 첫 번째(리더)만 loader 를 실행하고, 나머지(팔로워)는 리더의 결과나 예외를 그대로 받는다. 결과를 보관하지
+ * 않으므로 캐시가 아니며, 앞에 캐시가 있든 없든 미스가 몰리는 순간의 중복 조회만 없앤다. 팔로워는 키별 대기 시간을 넘기면 기다리지 않고 직접
+ * 조회한다.
+ *
+ * @param <K> 키 타입 (equals/hashCode 필요)
+ * @param <V> 결과 타입 (팔로워와 공유되므로 변경하지 않는 값이어야 함)
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+  private final String name;
+  private final Duration defaultTimeout;
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder leaders = new LongAdder();
+  private final LongAdder merged = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+
+  public SingleFlight(String name, Duration defaultTimeout) {
+    this.name = name;
+    this.defaultTimeout = defaultTimeout;
+  }
+
+  public V execute(K key, Supplier<V> loader) {
+    return execute(key, defaultTimeout, loader);
+  }
+
+  /**
+   * @param timeout 팔로워가 리더 결과를 기다리는 최대 시간. 넘기면 직접 loader 실행
+   */
+  public V execute(K key, Duration timeout, Supplier<V> loader) {
+    CompletableFuture<V> flight = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+    if (existing != null) {
+      merged.increment();
+      return await(key, existing, timeout, loader);
+    }
+
+    leaders.increment();
+    try {
+      V value = loader.get();
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  private V await(K key, CompletableFuture<V> flight, Duration timeout, Supplier<V> loader) {
+    try {
+      return flight.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      timeouts.increment();
+      log.debug("Single-flight '{}' wait timed out for key {}, loading directly", name, key);
+      return loader.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) throw runtime;
+      if (cause instanceof Error error) throw error;
+      throw new IllegalStateException(cause);
+    } catch (CancellationException e) {
+      return loader.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for in-flight load", e);
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /** 직접 loader 를 실행한 호출 수 */
+  public long getLeaderCount() {
+    return leaders.sum();
+  }
+
+  /** 다른 호출의 결과를 기다린(합쳐진) 호출 수 */
+  public long getMergedCount() {
+    return merged.sum();
+  }
+
+  /** 합쳐졌지만 대기 시간을 넘겨 직접 조회한 호출 수 */
+  public long getTimeoutCount() {
+    return timeouts.sum();
+  }
+
+  /** 현재 진행 중인 키 수 */
+  public int getInFlightCount() {
+    return inFlight.size();
+  }
+}
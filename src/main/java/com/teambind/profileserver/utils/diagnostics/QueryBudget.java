@@ -0,0 +1,64 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 처리 단위(HTTP 요청, Kafka 레코드/배치)별 SQL 문 수 예산
+ *
+ * <p>처리 단위마다 {@link QueryCounter} 범위를 열고, 끝나면 실행된 SQL 수를 source(http/kafka)·endpoint 태그로 기록한다.
+ * warn-threshold 를 넘으면 WARN 로그를 남기고, fail-threshold(0 이면 끔, 테스트 프로필만 켬)를 넘는 SQL 은 실행 전에 예외로 막는다.
+ * 지연 로딩 N+1 처럼 데이터 건수에 비례해 늘어나는 SQL 을 찾기 위한 것이다.
+ */
+@Component
+@Slf4j
+public class QueryBudget {
+
+  static final String STATEMENTS_SUMMARY = "profile.sql.statements";
+
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final int warnThreshold;
+  private final int failThreshold;
+
+  public QueryBudget(
+      MeterRegistry meterRegistry,
+      @Value("${profile.query-budget.enabled:true}") boolean enabled,
+      @Value("${profile.query-budget.warn-threshold:10}") int warnThreshold,
+      @Value("${profile.query-budget.fail-threshold:0}") int failThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.warnThreshold = warnThreshold;
+    this.failThreshold = failThreshold;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public QueryCounter.Scope open() {
+    return QueryCounter.open(failThreshold);
+  }
+
+  /** 범위를 닫고 SQL 수를 기록한다 */
+  public void finish(QueryCounter.Scope scope, String source, String endpoint) {
+    scope.close();
+    int count = scope.count();
+    DistributionSummary.builder(STATEMENTS_SUMMARY)
+        .tag("source", source)
+        .tag("endpoint", endpoint)
+        .register(meterRegistry)
+        .record(count);
+    if (warnThreshold > 0 && count > warnThreshold) {
+      log.warn(
+          "{} {} executed {} SQL statements (warn threshold {}) - check for N+1 lazy loading",
+          source,
+          endpoint,
+          count,
+          warnThreshold);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/** HTTP 요청마다 SQL 문 수를 집계한다. endpoint 태그는 "메서드 URI 패턴" (예: GET /api/v1/profiles/{userId}) */
+@Component
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+  private final QueryBudget queryBudget;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String uri = request.getRequestURI();
+    return !queryBudget.isEnabled() || uri.startsWith("/actuator") || uri.startsWith("/health");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    QueryCounter.Scope scope = queryBudget.open();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      if (request.isAsyncStarted()) {
+        // 비동기 응답(스트리밍 배치 조회)은 다른 스레드에서 SQL 을 실행하므로 0 으로 기록하지 않는다. 쓰는 쪽이 직접 센다
+        scope.close();
+      } else {
+        queryBudget.finish(scope, "http", request.getMethod() + " " + endpoint(request));
+      }
+    }
+  }
+
+  // 매칭된 핸들러 패턴만 태그로 쓴다 (실제 경로를 쓰면 userId 마다 시계열이 생김)
+  private static String endpoint(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern == null ? "UNKNOWN" : pattern.toString();
+  }
+}
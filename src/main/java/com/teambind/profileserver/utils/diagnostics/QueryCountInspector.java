@@ -0,0 +1,13 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/** Hibernate 가 준비하는 모든 SQL 을 {@link QueryCounter} 에 집계한다. SQL 은 바꾸지 않는다 */
+public class QueryCountInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    QueryCounter.increment(sql);
+    return sql;
+  }
+}
@@ -0,0 +1,76 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+
+/**
+ * Kafka 레코드(단건 리스너) 또는 배치(배치 리스너)마다 SQL 문 수를 집계한다. endpoint 태그는 토픽 이름. 인터셉터 콜백은 리스너와 같은
+ * 컨슈머 스레드에서 호출된다.
+ */
+public class QueryCountKafkaInterceptor
+    implements RecordInterceptor<Object, Object>, BatchInterceptor<Object, Object> {
+
+  private final QueryBudget queryBudget;
+  private final ThreadLocal<QueryCounter.Scope> current = new ThreadLocal<>();
+
+  public QueryCountKafkaInterceptor(QueryBudget queryBudget) {
+    this.queryBudget = queryBudget;
+  }
+
+  @Override
+  public ConsumerRecord<Object, Object> intercept(
+      ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+    begin();
+    return record;
+  }
+
+  @Override
+  public void afterRecord(
+      ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+    end(record.topic());
+  }
+
+  @Override
+  public ConsumerRecords<Object, Object> intercept(
+      ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+    begin();
+    return records;
+  }
+
+  @Override
+  public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+    end(topics(records));
+  }
+
+  @Override
+  public void failure(
+      ConsumerRecords<Object, Object> records,
+      Exception exception,
+      Consumer<Object, Object> consumer) {
+    end(topics(records));
+  }
+
+  private void begin() {
+    if (queryBudget.isEnabled()) current.set(queryBudget.open());
+  }
+
+  private void end(String topic) {
+    QueryCounter.Scope scope = current.get();
+    if (scope == null) return;
+    current.remove();
+    queryBudget.finish(scope, "kafka", topic);
+  }
+
+  private static String topics(ConsumerRecords<Object, Object> records) {
+    return records.partitions().stream()
+        .map(TopicPartition::topic)
+        .distinct()
+        .sorted()
+        .reduce((a, b) -> a + "," + b)
+        .orElse("UNKNOWN");
+  }
+}
@@ -0,0 +1,95 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스레드별 SQL 문 실행 횟수 집계
+ *
+ * <p>{@link QueryCountInspector} 가 Hibernate 가 준비하는 SQL 마다 {@link #increment(String)} 를 호출하고,
+ * HTTP 요청/Kafka 레코드 처리/테스트가 {@link #open(int)} 으로 연 범위(Scope)에 누적된다. 범위는 중첩할 수 있으며 열린 모든 범위가
+ * 함께 센다. 열린 범위가 없으면 아무것도 하지 않는다. JDBC 배치는 문장 하나로 세고, JdbcTemplate 으로 직접 실행하는 SQL 은
+ * Hibernate 를 거치지 않으므로 세지 않는다. SQL 문장 수집을 켠 범위는 실행된 SQL(바인딩 전, ? 포함)도 순서대로 보관한다.
+ */
+public final class QueryCounter {
+
+  private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+  private QueryCounter() {}
+
+  /**
+   * 현재 스레드에 집계 범위를 연다. 반드시 같은 스레드에서 닫아야 한다 (try-with-resources).
+   *
+   * @param failLimit 이 횟수를 넘는 SQL 이 실행되려 하면 예외로 막는다. 0 이하이면 제한 없음
+   */
+  public static Scope open(int failLimit) {
+    return open(failLimit, false);
+  }
+
+  /**
+   * @param captureSql true 이면 이 범위에서 실행된 SQL 문장을 보관한다 ({@link Scope#statements()})
+   */
+  public static Scope open(int failLimit, boolean captureSql) {
+    Scope scope = new Scope(CURRENT.get(), failLimit, captureSql);
+    CURRENT.set(scope);
+    return scope;
+  }
+
+  /** 열린 범위가 있는 경우에만 집계. 제한을 넘으면 {@link QueryBudgetExceededException} */
+  static void increment(String sql) {
+    for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+      scope.count++;
+      if (scope.failLimit > 0 && scope.count > scope.failLimit) {
+        throw new QueryBudgetExceededException(scope.count, scope.failLimit);
+      }
+      if (scope.statements != null) {
+        scope.statements.add(sql);
+      }
+    }
+  }
+
+  /** 집계 범위. 같은 스레드에서만 쓰이므로 동기화하지 않는다 */
+  public static final class Scope implements AutoCloseable {
+    private final Scope parent;
+    private final int failLimit;
+    private final List<String> statements;
+    private int count;
+    private boolean closed;
+
+    private Scope(Scope parent, int failLimit, boolean captureSql) {
+      this.parent = parent;
+      this.failLimit = failLimit;
+      this.statements = captureSql ? new ArrayList<>() : null;
+    }
+
+    /** 범위를 연 뒤 실행된 SQL 문 수 */
+    public int count() {
+      return count;
+    }
+
+    /** 실행된 SQL 문장. 수집을 켜지 않은 범위는 빈 목록 */
+    public List<String> statements() {
+      return statements == null ? List.of() : List.copyOf(statements);
+    }
+
+    @Override
+    public void close() {
+      if (closed) return;
+      closed = true;
+      if (CURRENT.get() == this) {
+        if (parent == null) {
+          CURRENT.remove();
+        } else {
+          CURRENT.set(parent);
+        }
+      }
+    }
+  }
+
+  /** 실패 한도를 넘는 SQL 실행 시도 - 개발/테스트에서 N+1 을 즉시 드러내기 위한 용도 */
+  public static class QueryBudgetExceededException extends IllegalStateException {
+    QueryBudgetExceededException(int count, int limit) {
+      super("SQL statement budget exceeded: " + count + " > " + limit);
+    }
+  }
+}
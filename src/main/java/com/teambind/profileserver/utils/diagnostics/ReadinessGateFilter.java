@@ -0,0 +1,55 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 준비 전 요청 차단
+ *
+ * <p>Tomcat 은 ApplicationRunner(워밍업)보다 먼저 연결을 받기 시작하고, nginx OSS 에는 능동 헬스체크가 없어 /health/ready 만으로는
+ * 콜드 노드로 가는 트래픽을 막을 수 없다. ReadinessState 가 ACCEPTING_TRAFFIC 이 아니면(기동·워밍업 중, 종료 중) /health,
+ * /actuator 외 요청에 본문 없이 503 을 돌려주고, nginx 의 proxy_next_upstream http_503 이 다른 노드로 다시 보낸다. 요청은 처리되지
+ * 않았으므로 재시도해도 안전하다. nginx 는 POST/PUT 을 다음 노드로 넘기지 않으므로(non_idempotent 미사용) 이 경우 호출자가
+ * Retry-After 를 보고 재시도한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    name = "profile.readiness.gate.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class ReadinessGateFilter extends OncePerRequestFilter {
+
+  private final ApplicationAvailability availability;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String uri = request.getRequestURI();
+    return uri.startsWith("/health") || uri.startsWith("/actuator");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (availability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+      response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+}
@@ -0,0 +1,154 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import com.teambind.profileserver.utils.InitTableMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 준비 상태(readiness) 감시
+ *
+ * <p>의존성 상태를 주기적으로 확인해 결과를 캐시하고, /health/ready 는 캐시된 결과만 돌려준다. 확인 항목은 모두 메모리에 있는 값이라 DB/브로커
+ * 왕복이 없다.
+ *
+ * <ul>
+ *   <li>application: Spring 의 ReadinessState (기동 중, 워밍업 중, 종료 중에는 REFUSING_TRAFFIC)
+ *   <li>db.{풀 이름}: Hikari 풀의 커넥션 대기 스레드 수가 pool.max-pending 을 넘으면 포화로 본다
+ *   <li>kafka.lag: 소비자 지표(kafka.consumer.fetch.manager.records.lag.max)의 최댓값이 kafka.max-lag 를 넘으면
+ *       지연으로 본다
+ *   <li>init-table: InitTableMapper 의 장르/악기 이름 테이블 적재 여부
+ * </ul>
+ *
+ * <p>상태가 바뀔 때만 로그를 남긴다.
+ */
+@Component
+@Slf4j
+public class ReadinessMonitor {
+
+  static final String KAFKA_LAG_METRIC = "kafka.consumer.fetch.manager.records.lag.max";
+
+  private final ObjectProvider<HikariDataSource> dataSources;
+  private final MeterRegistry meterRegistry;
+  private final ApplicationAvailability availability;
+  private final int maxPendingConnections;
+  private final long maxKafkaLag;
+
+  private volatile Snapshot snapshot;
+
+  public ReadinessMonitor(
+      ObjectProvider<HikariDataSource> dataSources,
+      MeterRegistry meterRegistry,
+      ApplicationAvailability availability,
+      @Value("${profile.readiness.pool.max-pending:5}") int maxPendingConnections,
+      @Value("${profile.readiness.kafka.max-lag:10000}") long maxKafkaLag) {
+    this.dataSources = dataSources;
+    this.meterRegistry = meterRegistry;
+    this.availability = availability;
+    this.maxPendingConnections = maxPendingConnections;
+    this.maxKafkaLag = maxKafkaLag;
+    Gauge.builder("profile.readiness", this, monitor -> monitor.current().ready() ? 1 : 0)
+        .description("마지막으로 확인한 준비 상태 (1 준비, 0 미준비)")
+        .register(meterRegistry);
+  }
+
+  /** 캐시된 준비 상태. 아직 한 번도 확인하지 않았으면 지금 확인한다 */
+  public Snapshot current() {
+    Snapshot current = snapshot;
+    return current != null ? current : refresh();
+  }
+
+  @Scheduled(fixedDelayString = "${profile.readiness.refresh-interval-ms:2000}")
+  public Snapshot refresh() {
+    Map<String, Check> checks = new LinkedHashMap<>();
+    checks.put("application", applicationCheck());
+    dataSources
+        .orderedStream()
+        .forEach(
+            dataSource ->
+                checks.put(
+                    "db." + dataSource.getPoolName(),
+                    poolCheck(dataSource, maxPendingConnections)));
+    checks.put("kafka.lag", kafkaLagCheck());
+    checks.put("init-table", initTableCheck());
+
+    Snapshot next = Snapshot.of(checks);
+    Snapshot previous = snapshot;
+    if (previous != null && previous.ready() != next.ready()) {
+      if (next.ready()) {
+        log.info("Readiness UP");
+      } else {
+        log.warn("Readiness DOWN: {}", next.failures());
+      }
+    }
+    snapshot = next;
+    return next;
+  }
+
+  private Check applicationCheck() {
+    ReadinessState state = availability.getReadinessState();
+    return new Check(state == ReadinessState.ACCEPTING_TRAFFIC, state.name());
+  }
+
+  static Check poolCheck(HikariDataSource dataSource, int maxPending) {
+    HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+    if (pool == null) {
+      // 첫 커넥션 요청 전에는 풀이 만들어지지 않는다
+      return new Check(!dataSource.isClosed(), dataSource.isClosed() ? "closed" : "not started");
+    }
+    int pending = pool.getThreadsAwaitingConnection();
+    return new Check(
+        pending <= maxPending,
+        "active "
+            + pool.getActiveConnections()
+            + "/"
+            + dataSource.getMaximumPoolSize()
+            + ", pending "
+            + pending);
+  }
+
+  private Check kafkaLagCheck() {
+    double lag =
+        meterRegistry.find(KAFKA_LAG_METRIC).gauges().stream()
+            .mapToDouble(Gauge::value)
+            .filter(value -> !Double.isNaN(value))
+            .max()
+            .orElse(0);
+    boolean up = maxKafkaLag <= 0 || lag <= maxKafkaLag;
+    return new Check(up, "max lag " + (long) lag);
+  }
+
+  private static Check initTableCheck() {
+    boolean loaded = InitTableMapper.isLoaded();
+    return new Check(loaded, loaded ? "loaded" : "empty");
+  }
+
+  public record Check(boolean up, String detail) {}
+
+  public record Snapshot(boolean ready, Instant checkedAt, Map<String, Check> checks) {
+
+    static Snapshot of(Map<String, Check> checks) {
+      boolean ready = checks.values().stream().allMatch(Check::up);
+      return new Snapshot(ready, Instant.now(), Collections.unmodifiableMap(checks));
+    }
+
+    List<String> failures() {
+      return checks.entrySet().stream()
+          .filter(entry -> !entry.getValue().up())
+          .map(entry -> entry.getKey() + "=" + entry.getValue().detail())
+          .toList();
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 느린 조회 한 건. EXPLAIN 결과는 표본으로 뽑힌 경우에만 비동기로 나중에 채워진다 (explainStatus: NOT_SAMPLED, PENDING, DONE,
+ * FAILED).
+ */
+@Getter
+public class SlowQuery {
+
+  public enum ExplainStatus {
+    NOT_SAMPLED,
+    PENDING,
+    DONE,
+    FAILED
+  }
+
+  private final long id;
+  private final Instant recordedAt;
+  private final String method;
+  private final String filters;
+  private final Map<String, Object> criteria;
+  private final List<String> statements;
+  private final long elapsedMillis;
+
+  private volatile ExplainStatus explainStatus = ExplainStatus.NOT_SAMPLED;
+  private volatile List<Map<String, Object>> explain;
+  private volatile String explainError;
+
+  SlowQuery(
+      long id,
+      String method,
+      String filters,
+      Map<String, Object> criteria,
+      List<String> statements,
+      long elapsedMillis) {
+    this.id = id;
+    this.recordedAt = Instant.now();
+    this.method = method;
+    this.filters = filters;
+    this.criteria = criteria;
+    this.statements = statements;
+    this.elapsedMillis = elapsedMillis;
+  }
+
+  void explainPending() {
+    this.explainStatus = ExplainStatus.PENDING;
+  }
+
+  void explained(List<Map<String, Object>> plan) {
+    this.explain = plan;
+    this.explainStatus = ExplainStatus.DONE;
+  }
+
+  void explainFailed(String error) {
+    this.explainError = error;
+    this.explainStatus = ExplainStatus.FAILED;
+  }
+}
@@ -0,0 +1,87 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 느린 조회 SQL 의 실행 계획을 비동기로 구한다 (applicationTaskExecutor).
+ *
+ * <p>Hibernate 가 넘겨주는 SQL 은 바인딩 전(? 포함)이므로 QueryDSL 술어의 상수를 등장 순서대로 다시 바인딩한다. 컬렉션은 IN 목록으로 펼치고
+ * (in_clause_parameter_padding 이 켜져 있으면 Hibernate 와 같이 2의 거듭제곱 개수까지 마지막 값을 반복), 남은 뒤쪽 자리표시자는
+ * LIMIT/OFFSET 으로 보고 limit 값으로 채운다. 개수가 맞지 않으면 EXPLAIN 하지 않고 실패로 남긴다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SlowQueryExplainer {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${spring.jpa.properties.hibernate.query.in_clause_parameter_padding:false}")
+  private boolean inClausePadding;
+
+  @Async
+  public CompletableFuture<Void> explain(
+      SlowQuery entry, String sql, List<Object> parameters, int limit) {
+    try {
+      if (!sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+        throw new IllegalArgumentException("Only SELECT statements can be explained");
+      }
+      List<Object> values = bindValues(sql, parameters, limit, inClausePadding);
+      entry.explained(jdbcTemplate.queryForList("EXPLAIN " + sql, values.toArray()));
+    } catch (RuntimeException e) {
+      log.debug("EXPLAIN failed for slow query {}", entry.getId(), e);
+      entry.explainFailed(e.getMessage());
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  static List<Object> bindValues(
+      String sql, List<Object> parameters, int limit, boolean padInClause) {
+    List<Object> values = new ArrayList<>();
+    for (Object parameter : parameters) {
+      if (parameter instanceof Collection<?> collection && !collection.isEmpty()) {
+        List<Object> items = new ArrayList<>(collection);
+        int size = padInClause ? Integer.highestOneBit(items.size() - 1) << 1 : items.size();
+        Object last = items.get(items.size() - 1);
+        while (items.size() < size) items.add(last);
+        items.forEach(item -> values.add(jdbcValue(item)));
+      } else {
+        values.add(jdbcValue(parameter));
+      }
+    }
+
+    int placeholders = countPlaceholders(sql);
+    if (values.size() > placeholders) {
+      throw new IllegalStateException(
+          "Parameter count mismatch: " + values.size() + " values for " + placeholders + " '?'");
+    }
+    while (values.size() < placeholders) values.add(limit);
+    return values;
+  }
+
+  // 문자열 리터럴 안의 ? 는 제외
+  static int countPlaceholders(String sql) {
+    int count = 0;
+    boolean quoted = false;
+    for (int i = 0; i < sql.length(); i++) {
+      char c = sql.charAt(i);
+      if (c == '\'') quoted = !quoted;
+      else if (c == '?' && !quoted) count++;
+    }
+    return count;
+  }
+
+  private static Object jdbcValue(Object value) {
+    return value instanceof Character ? value.toString() : value;
+  }
+}
@@ -0,0 +1,138 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 느린 조회 기록기
+ *
+ * <p>임계값 이상 걸린 조회의 정규화된 검색 조건, 실행된 SQL, 소요 시간을 크기가 고정된 링 버퍼에 남긴다 (가득 차면 가장 오래된 것부터 버림).
+ * explain-sample-rate 비율로 표본을 뽑아 첫 SQL(조건 필터링 조회)의 EXPLAIN 을 비동기로 붙이며, 동시에 하나만 실행해 느린 시기에 DB 에
+ * 부담을 더하지 않는다. show-sql 없이 운영에서 인덱스가 빠진 조건 조합을 찾기 위한 것이다 (/api/v1/admin/slow-queries).
+ */
+@Component
+@Slf4j
+public class SlowQueryRecorder {
+
+  private final SlowQueryExplainer explainer;
+  private final boolean enabled;
+  private final long thresholdNanos;
+  private final int capacity;
+  private final double explainSampleRate;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ArrayDeque<SlowQuery> buffer;
+  private final AtomicLong sequence = new AtomicLong();
+  private final AtomicBoolean explaining = new AtomicBoolean();
+
+  public SlowQueryRecorder(
+      SlowQueryExplainer explainer,
+      @Value("${profile.slow-query.enabled:true}") boolean enabled,
+      @Value("${profile.slow-query.threshold:200ms}") Duration threshold,
+      @Value("${profile.slow-query.capacity:100}") int capacity,
+      @Value("${profile.slow-query.explain-sample-rate:0.1}") double explainSampleRate) {
+    this.explainer = explainer;
+    this.enabled = enabled;
+    this.thresholdNanos = threshold.toNanos();
+    this.capacity = capacity;
+    this.explainSampleRate = explainSampleRate;
+    this.buffer = new ArrayDeque<>(capacity);
+  }
+
+  /** SQL 문장 수집 여부 - 꺼져 있으면 조회 쪽에서 SQL 을 모으지 않는다 */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public boolean isSlow(long elapsedNanos) {
+    return enabled && elapsedNanos >= thresholdNanos;
+  }
+
+  /**
+   * 느린 조회를 기록한다.
+   *
+   * @param parameters 첫 SQL 에 바인딩할 술어 상수 (EXPLAIN 표본으로 뽑힌 경우에만 호출)
+   * @param limit LIMIT/OFFSET 자리표시자에 넣을 값
+   */
+  public SlowQuery record(
+      String method,
+      String filters,
+      Map<String, Object> criteria,
+      List<String> statements,
+      long elapsedNanos,
+      Supplier<List<Object>> parameters,
+      int limit) {
+    SlowQuery entry =
+        new SlowQuery(
+            sequence.incrementAndGet(),
+            method,
+            filters,
+            criteria,
+            statements,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    lock.lock();
+    try {
+      if (buffer.size() >= capacity) buffer.pollFirst();
+      buffer.addLast(entry);
+    } finally {
+      lock.unlock();
+    }
+    log.warn(
+        "Slow query {} [{}] took {} ms, criteria={}",
+        method,
+        filters,
+        entry.getElapsedMillis(),
+        criteria);
+
+    if (!statements.isEmpty() && sampled() && explaining.compareAndSet(false, true)) {
+      entry.explainPending();
+      try {
+        explainer
+            .explain(entry, statements.get(0), parameters.get(), limit)
+            .whenComplete((result, e) -> explaining.set(false));
+      } catch (RuntimeException e) {
+        explaining.set(false);
+        entry.explainFailed(e.getMessage());
+      }
+    }
+    return entry;
+  }
+
+  /** 최근 기록부터 */
+  public List<SlowQuery> recent() {
+    lock.lock();
+    try {
+      List<SlowQuery> entries = new ArrayList<>(buffer);
+      Collections.reverse(entries);
+      return entries;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void clear() {
+    lock.lock();
+    try {
+      buffer.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean sampled() {
+    return explainSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < explainSampleRate;
+  }
+}
@@ -0,0 +1,102 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 pinning 감시
+ *
+ * <p>가상 스레드 모드에서만 동작한다. JFR 의 jdk.VirtualThreadPinned 이벤트(synchronized 블록 안에서의 블로킹, 네이티브 프레임 등으로
+ * 캐리어 스레드를 붙잡은 경우)를 스트리밍으로 받아 임계값 이상이면 스택과 함께 WARN 으로 남긴다. 별도 JFR 파일은 남기지 않는다.
+ */
+@Component
+@Slf4j
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(
+    name = "virtual-threads.pinning-monitor.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  private final Duration threshold;
+  private final int stackDepth;
+  private final AtomicLong pinnedCount = new AtomicLong();
+  private volatile RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      @Value("${virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold,
+      @Value("${virtual-threads.pinning-monitor.stack-depth:8}") int stackDepth) {
+    this.threshold = threshold;
+    this.stackDepth = stackDepth;
+  }
+
+  @Override
+  public void start() {
+    RecordingStream recording = new RecordingStream();
+    recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recording.onEvent(PINNED_EVENT, this::onPinned);
+    recording.startAsync();
+    stream = recording;
+    log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream recording = stream;
+    stream = null;
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  /** 기동 이후 임계값을 넘긴 pinning 횟수 */
+  public long getPinnedCount() {
+    return pinnedCount.get();
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinnedCount.incrementAndGet();
+    log.warn(
+        "Virtual thread pinned for {} ms on {}{}",
+        event.getDuration().toMillis(),
+        event.getThread() == null ? "unknown" : event.getThread().getJavaName(),
+        formatStack(event.getStackTrace()));
+  }
+
+  private String formatStack(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder();
+    List<RecordedFrame> frames = stackTrace.getFrames();
+    for (int i = 0; i < Math.min(stackDepth, frames.size()); i++) {
+      RecordedFrame frame = frames.get(i);
+      sb.append("\n\tat ")
+          .append(frame.getMethod().getType().getName())
+          .append('.')
+          .append(frame.getMethod().getName())
+          .append(':')
+          .append(frame.getLineNumber());
+    }
+    return sb.toString();
+  }
+}
@@ -2,6 +2,7 @@ package com.teambind.profileserver.utils.generator.impl;
 
 import com.teambind.profileserver.utils.generator.PrimaryKeyGenerator;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
@@ -31,11 +32,22 @@ public class Snowflake implements PrimaryKeyGenerator {
   private static final long maxNodeId = (1L << NODE_ID_BITS) - 1;
   // ===== Instance Variables =====
   private final long nodeId = ThreadLocalRandom.current().nextLong(maxNodeId + 1);
+  // synchronized 는 JDK 21 에서 가상 스레드를 캐리어에 고정(pinning)시키므로 ReentrantLock 사용
+  private final ReentrantLock lock = new ReentrantLock();
   private long lastTimestamp = -1L;
   private long sequence = 0L;
 
   /** Generate next unique ID */
-  public synchronized long nextId() {
+  public long nextId() {
+    lock.lock();
+    try {
+      return nextIdLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private long nextIdLocked() {
     long currentTimestamp = currentTime();
 
     // Clock rollback handling
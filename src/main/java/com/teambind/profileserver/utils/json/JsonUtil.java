@@ -1,7 +1,18 @@
 package com.teambind.profileserver.utils.json;
 
+import java.nio.ByteBuffer;
+
 public interface JsonUtil {
   String toJson(Object object);
 
   <T> T fromJson(String json, Class<T> clazz);
+
+  /** UTF-8 JSON 바이트로 직렬화 (중간 String 생성 없음) */
+  byte[] toJsonBytes(Object object);
+
+  /** UTF-8 JSON 바이트에서 바로 역직렬화 */
+  <T> T fromJson(byte[] json, Class<T> clazz);
+
+  /** position ~ limit 구간의 UTF-8 JSON 을 역직렬화. 버퍼의 position 은 변경하지 않는다 */
+  <T> T fromJson(ByteBuffer json, Class<T> clazz);
 }
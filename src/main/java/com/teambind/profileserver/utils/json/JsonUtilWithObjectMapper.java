@@ -1,15 +1,49 @@
 package com.teambind.profileserver.utils.json;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+/**
+ * ObjectMapper 기반 JsonUtil
+ *
+ * <p>Spring 이 구성한 ObjectMapper(spring.jackson.* 설정, JavaTimeModule 등)를 공유하고, 타입별
+ * ObjectReader/ObjectWriter 를 캐시해 호출마다 직렬화기 탐색 비용이 들지 않게 한다. reader/writer 는 불변이라 스레드 간 공유해도
+ * 안전하다.
+ */
 @Component("jsonUtilWithObjectMapper")
 public class JsonUtilWithObjectMapper implements JsonUtil {
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ObjectMapper objectMapper;
+  private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+  /** Spring 컨텍스트 밖(단위 테스트, 벤치마크)에서 사용할 때 Spring Boot 기본값과 같은 설정으로 생성 */
+  public JsonUtilWithObjectMapper() {
+    this(
+        JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build());
+  }
+
+  @Autowired
+  public JsonUtilWithObjectMapper(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
 
   public String toJson(Object object) {
     try {
-      return objectMapper.writeValueAsString(object);
+      return writerFor(object).writeValueAsString(object);
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -17,9 +51,50 @@ public class JsonUtilWithObjectMapper implements JsonUtil {
 
   public <T> T fromJson(String json, Class<T> clazz) {
     try {
-      return objectMapper.readValue(json, clazz);
+      return readerFor(clazz).readValue(json);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  public byte[] toJsonBytes(Object object) {
+    try {
+      return writerFor(object).writeValueAsBytes(object);
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
   }
+
+  public <T> T fromJson(byte[] json, Class<T> clazz) {
+    try {
+      return readerFor(clazz).readValue(json);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  public <T> T fromJson(ByteBuffer json, Class<T> clazz) {
+    try {
+      if (json.hasArray()) {
+        return readerFor(clazz)
+            .readValue(json.array(), json.arrayOffset() + json.position(), json.remaining());
+      }
+      // direct 버퍼는 복사 없이 스트림으로 읽는다 (duplicate 로 원본 position 보존)
+      return readerFor(clazz).readValue(new ByteBufferBackedInputStream(json.duplicate()));
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private ObjectReader readerFor(Class<?> clazz) {
+    return readers.computeIfAbsent(clazz, objectMapper::readerFor);
+  }
+
+  // null 은 타입 정보가 없으므로 캐시하지 않고 기본 writer 사용
+  private ObjectWriter writerFor(Object object) {
+    if (object == null) {
+      return objectMapper.writer();
+    }
+    return writers.computeIfAbsent(object.getClass(), objectMapper::writerFor);
+  }
 }
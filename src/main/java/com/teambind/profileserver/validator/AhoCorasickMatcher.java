@@ -0,0 +1,129 @@
+package com.teambind.profileserver.validator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 다중 패턴 포함 여부 검사기 (Aho-Corasick)
+ *
+ * <p>등록된 모든 단어로 trie 와 실패 링크를 한 번 만들어 두고, 입력 문자열을 한 번만 훑어 단어 수와 무관하게 O(입력 길이) 로 포함 여부를 판정한다.
+ * 생성 후에는 불변이므로 여러 스레드에서 공유해도 안전하다.
+ */
+public final class AhoCorasickMatcher {
+
+  private static final AhoCorasickMatcher EMPTY =
+      new AhoCorasickMatcher(new char[][] {{}}, new int[][] {{}}, new int[] {0}, new boolean[1]);
+
+  // 노드별 정렬된 전이 문자와 대상 노드 (이진 탐색)
+  private final char[][] labels;
+  private final int[][] targets;
+  private final int[] fail;
+  // 해당 노드(또는 실패 링크를 따라간 접미사)에서 끝나는 단어가 있는지
+  private final boolean[] terminal;
+
+  private AhoCorasickMatcher(char[][] labels, int[][] targets, int[] fail, boolean[] terminal) {
+    this.labels = labels;
+    this.targets = targets;
+    this.fail = fail;
+    this.terminal = terminal;
+  }
+
+  public static AhoCorasickMatcher empty() {
+    return EMPTY;
+  }
+
+  /** 빈 문자열은 무시한다. */
+  public static AhoCorasickMatcher build(Collection<String> words) {
+    List<Map<Character, Integer>> trie = new ArrayList<>();
+    List<Boolean> ends = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    ends.add(false);
+    for (String word : words) {
+      if (word == null || word.isEmpty()) continue;
+      int node = 0;
+      for (int i = 0; i < word.length(); i++) {
+        Integer next = trie.get(node).get(word.charAt(i));
+        if (next == null) {
+          next = trie.size();
+          trie.add(new TreeMap<>());
+          ends.add(false);
+          trie.get(node).put(word.charAt(i), next);
+        }
+        node = next;
+      }
+      ends.set(node, true);
+    }
+
+    int size = trie.size();
+    char[][] labels = new char[size][];
+    int[][] targets = new int[size][];
+    boolean[] terminal = new boolean[size];
+    for (int n = 0; n < size; n++) {
+      Map<Character, Integer> edges = trie.get(n);
+      labels[n] = new char[edges.size()];
+      targets[n] = new int[edges.size()];
+      int e = 0;
+      for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+        labels[n][e] = edge.getKey();
+        targets[n][e] = edge.getValue();
+        e++;
+      }
+      terminal[n] = ends.get(n);
+    }
+
+    // BFS 로 실패 링크 계산
+    int[] fail = new int[size];
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int child : targets[0]) {
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int node = queue.poll();
+      for (int e = 0; e < labels[node].length; e++) {
+        char c = labels[node][e];
+        int child = targets[node][e];
+        int f = fail[node];
+        int next;
+        while ((next = step(labels, targets, f, c)) < 0 && f != 0) {
+          f = fail[f];
+        }
+        fail[child] = next < 0 ? 0 : next;
+        terminal[child] |= terminal[fail[child]];
+        queue.add(child);
+      }
+    }
+    return new AhoCorasickMatcher(labels, targets, fail, terminal);
+  }
+
+  /** 입력에 등록된 단어가 하나라도 포함되어 있으면 true */
+  public boolean containsAny(CharSequence text) {
+    int node = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      int next;
+      while ((next = step(labels, targets, node, c)) < 0 && node != 0) {
+        node = fail[node];
+      }
+      node = next < 0 ? 0 : next;
+      if (terminal[node]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean isEmpty() {
+    return labels[0].length == 0;
+  }
+
+  private static int step(char[][] labels, int[][] targets, int node, char c) {
+    int idx = Arrays.binarySearch(labels[node], c);
+    return idx < 0 ? -1 : targets[node][idx];
+  }
+}
@@ -0,0 +1,98 @@
+package com.teambind.profileserver.validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 닉네임 금칙어 필터
+ *
+ * <p>금칙어 목록(한 줄에 하나, # 주석)을 정규화해 Aho-Corasick 오토마톤으로 만들어 두고, 닉네임도 같은 방식으로 정규화한 뒤 한 번 훑어 검사한다.
+ * 목록 파일이 바뀌면 주기적으로 다시 읽어 오토마톤을 통째로 교체한다 (읽기 실패 시 기존 오토마톤 유지).
+ */
+@Component
+@Slf4j
+public class BlockedTermFilter {
+
+  private final Resource location;
+  // 파일 I/O 중에 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 사용
+  private final ReentrantLock reloadLock = new ReentrantLock();
+  private volatile AhoCorasickMatcher matcher = AhoCorasickMatcher.empty();
+  private volatile long lastModified = -1L;
+
+  public BlockedTermFilter(
+      @Value("${nickname.blocked-terms.location:classpath:nickname/blocked-terms.txt}")
+          Resource location) {
+    this.location = location;
+    reload();
+  }
+
+  /** 정규화한 닉네임에 금칙어가 포함되어 있으면 true */
+  public boolean containsBlockedTerm(String nickname) {
+    if (nickname == null || nickname.isEmpty()) {
+      return false;
+    }
+    AhoCorasickMatcher current = matcher;
+    return !current.isEmpty() && current.containsAny(NicknameNormalizer.normalize(nickname));
+  }
+
+  @Scheduled(fixedDelayString = "${nickname.blocked-terms.reload-interval-ms:60000}")
+  public void reloadIfModified() {
+    long modified = lastModified();
+    if (modified > 0 && modified != lastModified) {
+      reload();
+    }
+  }
+
+  public void reload() {
+    reloadLock.lock();
+    try {
+      reloadLocked();
+    } finally {
+      reloadLock.unlock();
+    }
+  }
+
+  private void reloadLocked() {
+    if (!location.exists()) {
+      log.warn("Blocked term list not found: {}", location);
+      return;
+    }
+    long modified = lastModified();
+    List<String> terms = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String term = line.strip();
+        if (term.isEmpty() || term.startsWith("#")) continue;
+        terms.add(NicknameNormalizer.normalize(term));
+      }
+    } catch (IOException e) {
+      log.error("Failed to load blocked term list: {}", location, e);
+      return;
+    }
+    matcher = AhoCorasickMatcher.build(terms);
+    lastModified = modified;
+    log.info("Blocked term list loaded: {} terms from {}", terms.size(), location);
+  }
+
+  // jar 내부 classpath 리소스처럼 수정 시각을 알 수 없으면 0 (재로딩 대상 아님)
+  private long lastModified() {
+    try {
+      return location.lastModified();
+    } catch (IOException e) {
+      return 0L;
+    }
+  }
+}
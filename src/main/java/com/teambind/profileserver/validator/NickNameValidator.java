@@ -2,6 +2,7 @@ package com.teambind.profileserver.validator;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
 public class NickNameValidator implements ConstraintValidator<NickName, String> {
@@ -9,16 +10,48 @@ public class NickNameValidator implements ConstraintValidator<NickName, String>
   @Value("${nickname.validation.regex:^[a-zA-Z0-9_]{3,15}$}")
   private String regex;
 
-  // TODO : 부적절한 닉네임 필터 구현
+  // 검증 요청마다 정규식을 다시 컴파일하지 않도록 한 번만 만들어 재사용
+  private NicknamePattern pattern;
+
+  // Spring 이 생성하지 않은 경우(단위 테스트 등)에는 금칙어 검사를 생략
+  @Autowired(required = false)
+  private BlockedTermFilter blockedTermFilter;
+
+  public NickNameValidator() {}
+
+  NickNameValidator(String regex) {
+    this(regex, null);
+  }
+
+  NickNameValidator(String regex, BlockedTermFilter blockedTermFilter) {
+    this.regex = regex;
+    this.pattern = NicknamePattern.compile(regex);
+    this.blockedTermFilter = blockedTermFilter;
+  }
+
+  @Override
+  public void initialize(NickName constraintAnnotation) {
+    this.pattern = NicknamePattern.compile(regex);
+  }
+
   @Override
   public boolean isValid(String value, ConstraintValidatorContext context) {
     if (value == null) {
       return true;
     }
-    if (!value.matches(regex) || value.isEmpty()) {
+    if (value.isEmpty() || !pattern().matches(value)) {
       return false;
     }
-    ;
-    return true;
+    return blockedTermFilter == null || !blockedTermFilter.containsBlockedTerm(value);
+  }
+
+  // initialize 를 거치지 않고 생성된 경우(직접 생성한 단위 테스트 등) 첫 검증 시 컴파일
+  private NicknamePattern pattern() {
+    NicknamePattern compiled = pattern;
+    if (compiled == null) {
+      compiled = NicknamePattern.compile(regex);
+      pattern = compiled;
+    }
+    return compiled;
   }
 }
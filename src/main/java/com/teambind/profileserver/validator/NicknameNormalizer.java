@@ -0,0 +1,54 @@
+package com.teambind.profileserver.validator;
+
+import java.text.Normalizer;
+
+/**
+ * 금칙어 비교용 닉네임 정규화
+ *
+ * <p>1. NFKD 분해: 전각 문자 -> 반각, 한글 음절/호환 자모 -> 초성·중성·종성 자모 2. 종성 자모 -> 같은 자음의 초성 자모 (겹받침은 두 자음으로)
+ * 3. 영문 소문자화 4. 문자/숫자가 아닌 문자(공백, 기호, 결합 부호) 제거. 금칙어 목록과 입력 닉네임에 동일하게 적용한다.
+ */
+public final class NicknameNormalizer {
+
+  private static final char JONGSEONG_FIRST = 'ᆨ';
+  private static final char JONGSEONG_LAST = 'ᇂ';
+
+  // 종성(U+11A8 ~ U+11C2) -> 초성 자모
+  private static final String[] JONGSEONG_TO_CHOSEONG = {
+    "ᄀ", "ᄁ", "ᄀᄉ", "ᄂ", "ᄂᄌ", "ᄂᄒ", "ᄃ",
+    "ᄅ", "ᄅᄀ", "ᄅᄆ", "ᄅᄇ", "ᄅᄉ", "ᄅᄐ",
+    "ᄅᄑ", "ᄅᄒ", "ᄆ", "ᄇ", "ᄇᄉ", "ᄉ", "ᄊ",
+    "ᄋ", "ᄌ", "ᄎ", "ᄏ", "ᄐ", "ᄑ", "ᄒ"
+  };
+
+  private NicknameNormalizer() {}
+
+  public static String normalize(String value) {
+    String decomposed = isAscii(value) ? value : Normalizer.normalize(value, Normalizer.Form.NFKD);
+    StringBuilder sb = new StringBuilder(decomposed.length());
+    for (int i = 0; i < decomposed.length(); i++) {
+      char c = decomposed.charAt(i);
+      if (c >= JONGSEONG_FIRST && c <= JONGSEONG_LAST) {
+        sb.append(JONGSEONG_TO_CHOSEONG[c - JONGSEONG_FIRST]);
+      } else if (c < 128) {
+        if (c >= 'A' && c <= 'Z') {
+          sb.append((char) (c + ('a' - 'A')));
+        } else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+          sb.append(c);
+        }
+      } else if (Character.isLetterOrDigit(c)) {
+        sb.append(Character.toLowerCase(c));
+      }
+    }
+    return sb.toString();
+  }
+
+  private static boolean isAscii(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) >= 128) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
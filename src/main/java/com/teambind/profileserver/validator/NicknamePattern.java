@@ -0,0 +1,162 @@
+package com.teambind.profileserver.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 닉네임 규칙 매처
+ *
+ * <p>설정된 정규식을 한 번만 컴파일한다. 기본 규칙처럼 {@code ^[문자클래스]{m,n}$} 형태인 경우에는 정규식 엔진 대신 문자 클래스 스캐너로
+ * 검사해 Matcher 할당 없이 판정하고, 그 외 형태는 미리 컴파일한 {@link Pattern} 으로 처리한다.
+ */
+public final class NicknamePattern {
+
+  // ^[class]{m,n}$ , ^[class]{m}$ , ^[class]+$ , ^[class]*$ (앵커는 생략 가능)
+  private static final Pattern SIMPLE_RULE =
+      Pattern.compile("\\^?\\[([^\\]]+)\\](?:\\{(\\d+)(?:(,)(\\d*))?\\}|([+*]))\\$?");
+
+  private final String regex;
+  private final Pattern pattern;
+
+  // 스캐너 경로 (pattern == null 일 때만 사용)
+  private final long asciiLow;
+  private final long asciiHigh;
+  private final char[] ranges;
+  private final int minLength;
+  private final int maxLength;
+
+  private NicknamePattern(
+      String regex,
+      Pattern pattern,
+      long asciiLow,
+      long asciiHigh,
+      char[] ranges,
+      int minLength,
+      int maxLength) {
+    this.regex = regex;
+    this.pattern = pattern;
+    this.asciiLow = asciiLow;
+    this.asciiHigh = asciiHigh;
+    this.ranges = ranges;
+    this.minLength = minLength;
+    this.maxLength = maxLength;
+  }
+
+  public static NicknamePattern compile(String regex) {
+    NicknamePattern scanner = compileScanner(regex);
+    if (scanner != null) {
+      return scanner;
+    }
+    return new NicknamePattern(regex, Pattern.compile(regex), 0L, 0L, null, 0, 0);
+  }
+
+  /** String.matches 와 동일하게 전체 일치 여부를 판정 */
+  public boolean matches(CharSequence value) {
+    if (pattern != null) {
+      return pattern.matcher(value).matches();
+    }
+    int length = value.length();
+    if (length < minLength || length > maxLength) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (!accepts(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public String regex() {
+    return regex;
+  }
+
+  boolean isScanner() {
+    return pattern == null;
+  }
+
+  private boolean accepts(char c) {
+    if (c < 64) {
+      return (asciiLow & (1L << c)) != 0;
+    }
+    if (c < 128) {
+      return (asciiHigh & (1L << (c - 64))) != 0;
+    }
+    for (int i = 0; i < ranges.length; i += 2) {
+      if (c >= ranges[i] && c <= ranges[i + 1]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // 스캐너로 표현할 수 없는 형태(부정 클래스, 이스케이프, 보조 문자 등)는 null 을 반환해 정규식으로 처리
+  private static NicknamePattern compileScanner(String regex) {
+    Matcher m = SIMPLE_RULE.matcher(regex);
+    if (!m.matches()) {
+      return null;
+    }
+    String charClass = m.group(1);
+    if (charClass.startsWith("^")
+        || charClass.contains("\\")
+        || charClass.contains("[")
+        || charClass.contains("&&")) {
+      return null;
+    }
+
+    int min;
+    int max;
+    if (m.group(5) != null) {
+      min = m.group(5).equals("+") ? 1 : 0;
+      max = Integer.MAX_VALUE;
+    } else {
+      min = Integer.parseInt(m.group(2));
+      if (m.group(3) == null) {
+        max = min;
+      } else {
+        max = m.group(4).isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(m.group(4));
+      }
+      if (max < min) {
+        return null;
+      }
+    }
+
+    long low = 0L;
+    long high = 0L;
+    List<char[]> nonAscii = new ArrayList<>();
+    int i = 0;
+    while (i < charClass.length()) {
+      char from = charClass.charAt(i);
+      char to = from;
+      // '-' 가 처음/마지막이면 문자 그대로, 그 외에는 범위
+      if (i + 2 < charClass.length() && charClass.charAt(i + 1) == '-') {
+        to = charClass.charAt(i + 2);
+        i += 3;
+      } else {
+        i++;
+      }
+      if (to < from || Character.isSurrogate(from) || Character.isSurrogate(to)) {
+        return null;
+      }
+      for (char c = from; c <= to && c < 128; c++) {
+        if (c < 64) {
+          low |= 1L << c;
+        } else {
+          high |= 1L << (c - 64);
+        }
+      }
+      if (to >= 128) {
+        nonAscii.add(new char[] {(char) Math.max(from, 128), to});
+      }
+    }
+
+    char[] ranges = new char[nonAscii.size() * 2];
+    for (int r = 0; r < nonAscii.size(); r++) {
+      ranges[r * 2] = nonAscii.get(r)[0];
+      ranges[r * 2 + 1] = nonAscii.get(r)[1];
+    }
+    return new NicknamePattern(regex, null, low, high, ranges, min, max);
+  }
+}
@@ -0,0 +1,96 @@
+-- ====================================
+-- profile_update_history 파티셔닝 마이그레이션
+-- ====================================
+-- 기존(비파티션, FK 보유) 이력 테이블을 월 단위 RANGE 파티션 테이블로 전환
+-- 주의: 프로덕션 환경에서는 반드시 백업 후, 트래픽이 적은 시간대에 실행
+--
+-- 변경 사항
+-- - PK: history_id -> (history_id, updated_at)  (파티션 키가 모든 UNIQUE 키에 포함되어야 함)
+-- - fk_history_user 제거 (파티션 테이블은 FK 미지원, 사용자 삭제 시 애플리케이션에서 일괄 삭제)
+-- - 이후 파티션 생성/만료 파티션 DROP 은 HistoryRetentionJob 이 수행
+
+-- ====================================
+-- 1. 백업 권장 명령어
+-- ====================================
+-- mysqldump -u root -p profiles profile_update_history > history_backup_$(date +%Y%m%d_%H%M%S).sql
+
+-- ====================================
+-- 2. 파티션 테이블 생성
+-- ====================================
+CREATE TABLE IF NOT EXISTS profile_update_history_new
+(
+    history_id BIGINT AUTO_INCREMENT COMMENT '이력 고유 ID',
+    user_id    VARCHAR(255) NOT NULL COMMENT '사용자 ID',
+    field_name VARCHAR(100) NOT NULL COMMENT '변경된 필드명',
+    old_val    TEXT COMMENT '변경 전 값',
+    new_val    TEXT COMMENT '변경 후 값',
+    updated_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '변경 시각',
+    PRIMARY KEY (history_id, updated_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci
+    PARTITION BY RANGE (UNIX_TIMESTAMP(updated_at)) (
+        PARTITION p_legacy VALUES LESS THAN (UNIX_TIMESTAMP('2026-10-01 00:00:00')),
+        PARTITION p202610 VALUES LESS THAN (UNIX_TIMESTAMP('2026-11-01 00:00:00')),
+        PARTITION p202611 VALUES LESS THAN (UNIX_TIMESTAMP('2026-12-01 00:00:00')),
+        PARTITION p202612 VALUES LESS THAN (UNIX_TIMESTAMP('2027-01-01 00:00:00')),
+        PARTITION pmax VALUES LESS THAN MAXVALUE
+        );
+
+-- ====================================
+-- 3. 데이터 복사 및 교체
+-- ====================================
+INSERT INTO profile_update_history_new (history_id, user_id, field_name, old_val, new_val, updated_at)
+SELECT history_id, user_id, field_name, old_val, new_val, updated_at
+FROM profile_update_history;
+
+RENAME TABLE profile_update_history TO profile_update_history_old,
+    profile_update_history_new TO profile_update_history;
+
+-- ====================================
+-- 4. 인덱스 재생성
+-- ====================================
+CREATE INDEX IF NOT EXISTS idx_history_user_id ON profile_update_history (user_id);
+CREATE INDEX IF NOT EXISTS idx_history_updated_at ON profile_update_history (updated_at DESC);
+CREATE INDEX IF NOT EXISTS idx_history_field_name ON profile_update_history (field_name);
+CREATE INDEX IF NOT EXISTS idx_history_keyset ON profile_update_history (user_id, updated_at DESC, history_id DESC);
+
+-- ====================================
+-- 5. 아카이브 테이블 (history.retention.archive=true 일 때 사용)
+-- ====================================
+CREATE TABLE IF NOT EXISTS profile_update_history_archive
+(
+    history_id BIGINT       NOT NULL COMMENT '이력 고유 ID',
+    user_id    VARCHAR(255) NOT NULL COMMENT '사용자 ID',
+    field_name VARCHAR(100) NOT NULL COMMENT '변경된 필드명',
+    old_val    TEXT COMMENT '변경 전 값',
+    new_val    TEXT COMMENT '변경 후 값',
+    updated_at TIMESTAMP    NOT NULL COMMENT '변경 시각',
+    PRIMARY KEY (history_id, updated_at),
+    INDEX idx_history_archive_user (user_id, updated_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- ====================================
+-- 6. 검증
+-- ====================================
+SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS
+FROM information_schema.PARTITIONS
+WHERE TABLE_SCHEMA = DATABASE()
+  AND TABLE_NAME = 'profile_update_history'
+ORDER BY PARTITION_ORDINAL_POSITION;
+
+SELECT (SELECT COUNT(*) FROM profile_update_history)     AS migrated,
+       (SELECT COUNT(*) FROM profile_update_history_old) AS original;
+
+-- ====================================
+-- 7. 정리 (검증 완료 후)
+-- ====================================
+-- DROP TABLE profile_update_history_old;
+
+-- ====================================
+-- 8. 롤백 (문제 발생 시)
+-- ====================================
+-- RENAME TABLE profile_update_history TO profile_update_history_partitioned,
+--     profile_update_history_old TO profile_update_history;
@@ -120,7 +120,9 @@ CREATE INDEX IF NOT EXISTS idx_user_instruments_instrument_id ON user_instrument
 CREATE INDEX IF NOT EXISTS idx_history_user_id ON profile_update_history (user_id);
 CREATE INDEX IF NOT EXISTS idx_history_updated_at ON profile_update_history (updated_at DESC);
 CREATE INDEX IF NOT EXISTS idx_history_field_name ON profile_update_history (field_name);
-CREATE INDEX IF NOT EXISTS idx_history_composite ON profile_update_history (user_id, updated_at DESC);
+CREATE INDEX IF NOT EXISTS idx_history_keyset ON profile_update_history (user_id, updated_at DESC, history_id DESC);
+-- idx_history_keyset 의 선두 컬럼과 겹치는 기존 복합 인덱스 제거
+DROP INDEX IF EXISTS idx_history_composite ON profile_update_history;
 
 -- 5.5 마스터 테이블 인덱스
 CREATE INDEX IF NOT EXISTS idx_location_city_name ON location_names (city_name);
@@ -87,17 +87,40 @@ CREATE TABLE IF NOT EXISTS user_instruments
   COLLATE = utf8mb4_unicode_ci;
 
 -- 7. 프로필 변경 이력 테이블
+-- 월 단위 RANGE 파티션 (HistoryRetentionJob 이 미래 파티션 생성 / 만료 파티션 DROP 담당)
+-- 파티션 테이블은 FK 를 가질 수 없으므로 user_info 삭제 시 이력은 애플리케이션에서 일괄 삭제한다.
+-- 파티션 키가 모든 UNIQUE 키에 포함되어야 하므로 PK 는 (history_id, updated_at)
 CREATE TABLE IF NOT EXISTS profile_update_history
 (
-    history_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '이력 고유 ID',
+    history_id BIGINT AUTO_INCREMENT COMMENT '이력 고유 ID',
     user_id    VARCHAR(255) NOT NULL COMMENT '사용자 ID',
     field_name VARCHAR(100) NOT NULL COMMENT '변경된 필드명',
     old_val    TEXT COMMENT '변경 전 값',
     new_val    TEXT COMMENT '변경 후 값',
     updated_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '변경 시각',
-    CONSTRAINT fk_history_user FOREIGN KEY (user_id)
-        REFERENCES user_info (user_id)
-        ON DELETE CASCADE
+    PRIMARY KEY (history_id, updated_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci
+    PARTITION BY RANGE (UNIX_TIMESTAMP(updated_at)) (
+        PARTITION p_legacy VALUES LESS THAN (UNIX_TIMESTAMP('2026-10-01 00:00:00')),
+        PARTITION p202610 VALUES LESS THAN (UNIX_TIMESTAMP('2026-11-01 00:00:00')),
+        PARTITION p202611 VALUES LESS THAN (UNIX_TIMESTAMP('2026-12-01 00:00:00')),
+        PARTITION p202612 VALUES LESS THAN (UNIX_TIMESTAMP('2027-01-01 00:00:00')),
+        PARTITION pmax VALUES LESS THAN MAXVALUE
+        );
+
+-- 7-1. 프로필 변경 이력 아카이브 테이블 (history.retention.archive=true 일 때 만료 파티션 복사 대상)
+CREATE TABLE IF NOT EXISTS profile_update_history_archive
+(
+    history_id BIGINT       NOT NULL COMMENT '이력 고유 ID',
+    user_id    VARCHAR(255) NOT NULL COMMENT '사용자 ID',
+    field_name VARCHAR(100) NOT NULL COMMENT '변경된 필드명',
+    old_val    TEXT COMMENT '변경 전 값',
+    new_val    TEXT COMMENT '변경 후 값',
+    updated_at TIMESTAMP    NOT NULL COMMENT '변경 시각',
+    PRIMARY KEY (history_id, updated_at),
+    INDEX idx_history_archive_user (user_id, updated_at)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci;
@@ -134,7 +157,8 @@ CREATE INDEX idx_user_instruments_instrument_id ON user_instruments (instrument_
 CREATE INDEX idx_history_user_id ON profile_update_history (user_id);
 CREATE INDEX idx_history_updated_at ON profile_update_history (updated_at DESC);
 CREATE INDEX idx_history_field_name ON profile_update_history (field_name);
-CREATE INDEX idx_history_composite ON profile_update_history (user_id, updated_at DESC);
+-- 이력 조회 API 의 keyset 페이지네이션 (user_id, updated_at, history_id) 정렬과 일치
+CREATE INDEX idx_history_keyset ON profile_update_history (user_id, updated_at DESC, history_id DESC);
 
 -- location_names 테이블 인덱스
 CREATE INDEX idx_location_city_name ON location_names (city_name);
@@ -157,5 +181,5 @@ CREATE INDEX idx_instrument_name ON instrument_name (instrument_name);
 
 -- 쿼리 최적화 포인트:
 -- - user_info: 지역/성별/공개여부로 검색 시 복합 인덱스 활용
--- - profile_update_history: 사용자별 이력 조회 시 복합 인덱스 활용
+-- - profile_update_history: 사용자별 이력 조회 시 keyset 복합 인덱스 활용 (filesort 없이 커서 이후 범위만 스캔)
 -- - user_genres/user_instruments: 역방향 조회(장르→사용자) 성능 향상
@@ -0,0 +1,91 @@
+package com.teambind.profileserver.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+@DisplayName("HikariPoolSizer 테스트")
+class HikariPoolSizerTest {
+
+  private final MockEnvironment environment = new MockEnvironment();
+  private final HikariPoolSizer sizer = new HikariPoolSizer(environment);
+
+  @Nested
+  @DisplayName("풀 크기 자동 설정")
+  class AutoSize {
+
+    @Test
+    @DisplayName("성공 - 크기 미지정 시 (코어 * 2 + 스핀들) 고정 크기 풀")
+    void sizesFromCoreCount() {
+      // given
+      environment.setProperty("datasource.pool.db-cores", "4");
+      HikariDataSource dataSource = new HikariDataSource();
+
+      // when
+      sizer.postProcessAfterInitialization(dataSource, "dataSource");
+
+      // then
+      assertThat(dataSource.getMaximumPoolSize()).isEqualTo(9);
+      assertThat(dataSource.getMinimumIdle()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("성공 - minimum-idle 을 명시했으면 최대 크기만 변경")
+    void keepsExplicitMinimumIdle() {
+      // given
+      environment.setProperty("datasource.pool.db-cores", "8");
+      environment.setProperty(HikariPoolSizer.MIN_IDLE, "5");
+      HikariDataSource dataSource = new HikariDataSource();
+      dataSource.setMinimumIdle(5);
+
+      // when
+      sizer.postProcessAfterInitialization(dataSource, "dataSource");
+
+      // then
+      assertThat(dataSource.getMaximumPoolSize()).isEqualTo(17);
+      assertThat(dataSource.getMinimumIdle()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("maximum-pool-size 를 명시했으면 변경하지 않음")
+    void skipsWhenExplicit() {
+      // given
+      environment.setProperty(HikariPoolSizer.MAX_POOL_SIZE, "30");
+      HikariDataSource dataSource = new HikariDataSource();
+      dataSource.setMaximumPoolSize(30);
+
+      // when
+      sizer.postProcessAfterInitialization(dataSource, "dataSource");
+
+      // then
+      assertThat(dataSource.getMaximumPoolSize()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("auto-size=false 이면 변경하지 않음")
+    void skipsWhenDisabled() {
+      // given
+      environment.setProperty("datasource.pool.auto-size", "false");
+      HikariDataSource dataSource = new HikariDataSource();
+      int before = dataSource.getMaximumPoolSize();
+
+      // when
+      sizer.postProcessAfterInitialization(dataSource, "dataSource");
+
+      // then
+      assertThat(dataSource.getMaximumPoolSize()).isEqualTo(before);
+    }
+  }
+
+  @Test
+  @DisplayName("권장식 계산 - 최소 2")
+  void poolSize() {
+    assertThat(HikariPoolSizer.poolSize(4, 1)).isEqualTo(9);
+    assertThat(HikariPoolSizer.poolSize(16, 0)).isEqualTo(32);
+    assertThat(HikariPoolSizer.poolSize(0, 0)).isEqualTo(2);
+  }
+}
@@ -0,0 +1,69 @@
+package com.teambind.profileserver.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.service.search.ProfileSearchCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+@DisplayName("MetricsConfig 테스트")
+class MetricsConfigTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner()
+          .withInitializer(
+              context ->
+                  context
+                      .getBeanFactory()
+                      .setConversionService(ApplicationConversionService.getSharedInstance()))
+          .withUserConfiguration(SingleFlightConfig.class, MetricsConfig.class)
+          .withBean(ProfileSearchCache.class);
+
+  @Test
+  @DisplayName("성공 - 검색 첫 페이지 SingleFlight 가 지표로 노출되고 캐시 조회가 집계됨")
+  void searchFirstPageSingleFlight_IsExported() {
+    contextRunner.run(
+        context -> {
+          // given
+          SimpleMeterRegistry registry = new SimpleMeterRegistry();
+          context.getBean("singleFlightMetrics", MeterBinder.class).bindTo(registry);
+
+          // when
+          context
+              .getBean(ProfileSearchCache.class)
+              .getFirstPage(
+                  null,
+                  10,
+                  () ->
+                      new SliceImpl<>(
+                          List.of(UserResponse.builder().userId("user1").build()),
+                          PageRequest.of(0, 10),
+                          false));
+
+          // then
+          FunctionCounter leader =
+              registry
+                  .find("profile.single-flight.calls")
+                  .tag("name", "search-first-page")
+                  .tag("role", "leader")
+                  .functionCounter();
+          assertThat(leader).isNotNull();
+          assertThat(leader.count()).isEqualTo(1.0);
+          assertThat(
+                  registry
+                      .find("profile.single-flight.calls")
+                      .tag("name", "profile-by-id")
+                      .functionCounter())
+              .isNotNull();
+        });
+  }
+}
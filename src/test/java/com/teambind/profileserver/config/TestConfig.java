@@ -1,7 +1,11 @@
 package com.teambind.profileserver.config;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
@@ -15,10 +19,17 @@ import org.springframework.kafka.core.KafkaTemplate;
 @TestConfiguration
 public class TestConfig {
 
-  /** KafkaTemplate Mock Bean 제공 EventPublisher가 의존하는 KafkaTemplate을 Mock으로 대체 */
+  /**
+   * KafkaTemplate Mock Bean 제공 EventPublisher가 의존하는 KafkaTemplate을 Mock으로 대체. 전송 결과로 완료된 future 를
+   * 돌려줘 EventPublisher 의 전송 지표 기록이 동작하게 한다
+   */
   @Bean
   @Primary
-  public KafkaTemplate<String, Object> kafkaTemplate() {
-    return mock(KafkaTemplate.class);
+  @SuppressWarnings("unchecked")
+  public KafkaTemplate<String, byte[]> kafkaTemplate() {
+    KafkaTemplate<String, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    return kafkaTemplate;
   }
 }
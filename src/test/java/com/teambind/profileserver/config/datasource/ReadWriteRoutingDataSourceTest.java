@@ -0,0 +1,139 @@
+package com.teambind.profileserver.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.teambind.profileserver.config.datasource.ReadWriteRoutingDataSource.Route;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ReadWriteRoutingDataSource 테스트
+ *
+ * <p>테스트 전략: 서로 다른 H2 인메모리 DB 두 개를 프라이머리/레플리카로 두고, 각 DB 에 자신의 이름을 기록해 어느 쪽에서 읽었는지 확인한다.
+ */
+@DisplayName("ReadWriteRoutingDataSource 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+  private static final String WHO_AM_I = "SELECT name FROM db_marker";
+
+  private ReplicaLagMonitor lagMonitor;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readOnlyTx;
+  private TransactionTemplate readWriteTx;
+
+  private static DataSource h2(String marker) {
+    DataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:" + marker + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("CREATE TABLE db_marker (name VARCHAR(20))");
+    jdbc.update("INSERT INTO db_marker (name) VALUES (?)", marker);
+    return dataSource;
+  }
+
+  @BeforeEach
+  void setUp() {
+    DataSource primary = h2("primary");
+    DataSource replica = h2("replica");
+    lagMonitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), false);
+
+    ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor);
+    routing.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    routing.setDefaultTargetDataSource(primary);
+    routing.afterPropertiesSet();
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    readOnlyTx = new TransactionTemplate(transactionManager);
+    readOnlyTx.setReadOnly(true);
+    readWriteTx = new TransactionTemplate(transactionManager);
+  }
+
+  private String readIn(TransactionTemplate tx) {
+    return tx.execute(status -> jdbcTemplate.queryForObject(WHO_AM_I, String.class));
+  }
+
+  @Nested
+  @DisplayName("라우팅")
+  class Routing {
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카")
+    void readOnly_GoesToReplica() {
+      assertThat(readIn(readOnlyTx)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 프라이머리")
+    void readWrite_GoesToPrimary() {
+      assertThat(readIn(readWriteTx)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 호출은 프라이머리")
+    void noTransaction_GoesToPrimary() {
+      assertThat(jdbcTemplate.queryForObject(WHO_AM_I, String.class)).isEqualTo("primary");
+    }
+  }
+
+  @Nested
+  @DisplayName("프라이머리 폴백")
+  class Fallback {
+
+    @Test
+    @DisplayName("레플리카 지연이 허용치를 넘으면 읽기도 프라이머리")
+    void replicaLagging_FallsBackToPrimary() {
+      // given
+      lagMonitor.markUsable(false);
+
+      // when & then
+      assertThat(readIn(readOnlyTx)).isEqualTo("primary");
+
+      // 회복되면 다시 레플리카
+      lagMonitor.markUsable(true);
+      assertThat(readIn(readOnlyTx)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("read-your-writes 대상이면 읽기 전용 트랜잭션도 프라이머리")
+    void readYourWrites_StaysOnPrimary() {
+      // when - 트랜잭션 본문 안에서 지정해도 첫 쿼리 전이면 적용됨
+      String sticky =
+          readOnlyTx.execute(
+              status ->
+                  ReplicaRoutingContext.usePrimaryIf(
+                      true, () -> jdbcTemplate.queryForObject(WHO_AM_I, String.class)));
+
+      // then
+      assertThat(sticky).isEqualTo("primary");
+      assertThat(ReplicaRoutingContext.isPrimaryForced()).isFalse();
+      assertThat(readIn(readOnlyTx)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("레플리카 상태를 확인할 수 없으면 사용 중지")
+    void lagCheckFailure_MarksReplicaUnusable() {
+      // given - H2 는 SHOW SLAVE STATUS 를 지원하지 않으므로 조회 실패로 처리됨
+      ReplicaLagMonitor monitor = new ReplicaLagMonitor(h2("broken"), Duration.ofSeconds(5), true);
+
+      // when
+      monitor.check();
+
+      // then
+      assertThat(monitor.isReplicaUsable()).isFalse();
+      assertThat(monitor.getLastLagSeconds()).isEqualTo(-1L);
+    }
+  }
+}
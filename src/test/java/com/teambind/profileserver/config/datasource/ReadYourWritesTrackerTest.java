@@ -0,0 +1,72 @@
+package com.teambind.profileserver.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ReadYourWritesTracker 테스트")
+class ReadYourWritesTrackerTest {
+
+  private static final class MutableClock extends Clock {
+    private Instant now = Instant.parse("2026-10-19T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+
+  private final MutableClock clock = new MutableClock();
+
+  @Test
+  @DisplayName("성공 - 기록 후 window 동안만 최근 쓰기로 판단")
+  void recentlyWritten_WithinWindow() {
+    // given
+    ReadYourWritesTracker tracker = new ReadYourWritesTracker(true, Duration.ofSeconds(5), clock);
+
+    // when
+    tracker.markWritten("user1");
+
+    // then
+    assertThat(tracker.isRecentlyWritten("user1")).isTrue();
+    assertThat(tracker.isRecentlyWritten("user2")).isFalse();
+    assertThat(tracker.anyRecentlyWritten(List.of("user2", "user1"))).isTrue();
+
+    clock.advance(Duration.ofSeconds(6));
+    assertThat(tracker.isRecentlyWritten("user1")).isFalse();
+  }
+
+  @Test
+  @DisplayName("레플리카 미설정 시 기록하지 않음")
+  void disabled_RecordsNothing() {
+    // given
+    ReadYourWritesTracker tracker = new ReadYourWritesTracker(false, Duration.ofSeconds(5), clock);
+
+    // when
+    tracker.markWritten("user1");
+
+    // then
+    assertThat(tracker.isRecentlyWritten("user1")).isFalse();
+  }
+}
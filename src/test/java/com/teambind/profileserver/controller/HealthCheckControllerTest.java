@@ -5,6 +5,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.teambind.profileserver.config.TestConfig;
+import com.teambind.profileserver.entity.attribute.nameTable.GenreNameTable;
+import com.teambind.profileserver.entity.attribute.nameTable.InstrumentNameTable;
+import com.teambind.profileserver.utils.InitTableMapper;
+import com.teambind.profileserver.utils.diagnostics.ReadinessMonitor;
+import java.util.HashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -32,6 +39,7 @@ class HealthCheckControllerTest {
 
   private static final String HEALTH_URL = "/health";
   @Autowired private MockMvc mockMvc;
+  @Autowired private ReadinessMonitor readinessMonitor;
 
   @Nested
   @DisplayName("GET /health - 서버 상태 확인")
@@ -111,6 +119,78 @@ class HealthCheckControllerTest {
     }
   }
 
+  @Nested
+  @DisplayName("GET /health/live - liveness")
+  class Live {
+
+    @Test
+    @DisplayName("성공 - 의존성과 무관하게 UP")
+    void live_Success() throws Exception {
+      mockMvc
+          .perform(get("/health/live"))
+          .andExpect(status().isOk())
+          .andExpect(content().string("UP"));
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /health/ready - readiness")
+  class Ready {
+
+    private HashMap<Integer, GenreNameTable> savedGenres;
+    private HashMap<Integer, InstrumentNameTable> savedInstruments;
+
+    @BeforeEach
+    void setUp() {
+      savedGenres = InitTableMapper.genreNameTable;
+      savedInstruments = InitTableMapper.instrumentNameTable;
+      HashMap<Integer, GenreNameTable> genres = new HashMap<>();
+      genres.put(1, new GenreNameTable());
+      HashMap<Integer, InstrumentNameTable> instruments = new HashMap<>();
+      instruments.put(1, new InstrumentNameTable());
+      InitTableMapper.genreNameTable = genres;
+      InitTableMapper.instrumentNameTable = instruments;
+    }
+
+    @AfterEach
+    void tearDown() {
+      InitTableMapper.genreNameTable = savedGenres;
+      InitTableMapper.instrumentNameTable = savedInstruments;
+      readinessMonitor.refresh();
+    }
+
+    @Test
+    @DisplayName("성공 - 의존성이 정상이면 200 과 항목별 상태")
+    void ready_Success() throws Exception {
+      // given
+      readinessMonitor.refresh();
+
+      // when & then
+      mockMvc
+          .perform(get("/health/ready"))
+          .andDo(print())
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.ready").value(true))
+          .andExpect(jsonPath("$.checks.application.detail").value("ACCEPTING_TRAFFIC"))
+          .andExpect(jsonPath("$.checks['init-table'].up").value(true));
+    }
+
+    @Test
+    @DisplayName("실패 - 이름 테이블이 비어 있으면 503")
+    void ready_InitTableEmpty_Fail() throws Exception {
+      // given
+      InitTableMapper.genreNameTable = new HashMap<>();
+      readinessMonitor.refresh();
+
+      // when & then
+      mockMvc
+          .perform(get("/health/ready"))
+          .andExpect(status().isServiceUnavailable())
+          .andExpect(jsonPath("$.ready").value(false))
+          .andExpect(jsonPath("$.checks['init-table'].detail").value("empty"));
+    }
+  }
+
   @Nested
   @DisplayName("경로 테스트")
   class PathTests {
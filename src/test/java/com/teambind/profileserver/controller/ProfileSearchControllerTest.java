@@ -1,10 +1,15 @@
 package com.teambind.profileserver.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -19,6 +24,7 @@ import com.teambind.profileserver.exceptions.ProfileException;
 import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
 import com.teambind.profileserver.service.search.ProfileSearchService;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -32,7 +38,9 @@ import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.function.ThrowingConsumer;
 
 /**
  * ProfileSearchController 통합 테스트
@@ -467,6 +475,62 @@ class ProfileSearchControllerTest {
           .andExpect(jsonPath("$").isEmpty());
     }
 
+    @Test
+    @DisplayName("성공 - 임계값을 넘는 배치 조회는 청크 단위로 스트리밍")
+    void getProfilesBatch_LargeBatch_Streams() throws Exception {
+      // given
+      List<String> userIds = IntStream.rangeClosed(1, 501).mapToObj(i -> "user" + i).toList();
+
+      doAnswer(
+              invocation -> {
+                ThrowingConsumer<BatchUserSummaryResponse> consumer = invocation.getArgument(2);
+                consumer.accept(
+                    BatchUserSummaryResponse.builder().userId("user1").nickname("nick1").build());
+                consumer.accept(
+                    BatchUserSummaryResponse.builder().userId("user2").nickname("nick2").build());
+                return null;
+              })
+          .when(profileSearchService)
+          .streamProfilesByIds(eq(userIds), anyInt(), any());
+
+      // when
+      MvcResult result =
+          mockMvc
+              .perform(
+                  post(BASE_URL + "/batch")
+                      .contentType(MediaType.APPLICATION_JSON)
+                      .content(objectMapper.writeValueAsString(userIds)))
+              .andExpect(request().asyncStarted())
+              .andReturn();
+
+      // then
+      mockMvc
+          .perform(asyncDispatch(result))
+          .andExpect(status().isOk())
+          .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+          .andExpect(jsonPath("$.length()").value(2))
+          .andExpect(jsonPath("$[0].userId").value("user1"))
+          .andExpect(jsonPath("$[1].nickname").value("nick2"));
+      verify(profileSearchService, never()).searchProfilesByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("실패 - 최대 배치 크기를 넘으면 400")
+    void getProfilesBatch_TooLarge_Fail() throws Exception {
+      // given
+      List<String> userIds = IntStream.rangeClosed(1, 5001).mapToObj(i -> "user" + i).toList();
+
+      // when & then
+      mockMvc
+          .perform(
+              post(BASE_URL + "/batch")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(userIds)))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.code").value("PROFILE_012"));
+      verify(profileSearchService, never()).streamProfilesByIds(anyList(), anyInt(), any());
+    }
+
     @Test
     @DisplayName("실패 - 잘못된 JSON 형식")
     void getProfilesBatch_InvalidJson_Fail() throws Exception {
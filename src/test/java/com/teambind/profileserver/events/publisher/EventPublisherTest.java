@@ -0,0 +1,140 @@
+package com.teambind.profileserver.events.publisher;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.teambind.profileserver.events.event.EventEnvelope;
+import com.teambind.profileserver.events.event.UserNickNameChangedEvent;
+import com.teambind.profileserver.events.serde.EventFormatRegistry;
+import com.teambind.profileserver.events.serde.JsonEventFormat;
+import com.teambind.profileserver.events.serde.SmileEventFormat;
+import com.teambind.profileserver.utils.json.JsonUtilWithObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.mock.env.MockEnvironment;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventPublisher 단위 테스트")
+class EventPublisherTest {
+
+  @Mock private KafkaTemplate<String, byte[]> kafkaTemplate;
+  private SmileEventFormat smileFormat;
+  private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    smileFormat = new SmileEventFormat(new ObjectMapper());
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  private EventPublisher publisherWith(MockEnvironment environment) {
+    EventFormatRegistry registry =
+        new EventFormatRegistry(
+            List.of(new JsonEventFormat(new JsonUtilWithObjectMapper()), smileFormat), environment);
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    return new EventPublisher(kafkaTemplate, registry, meterRegistry);
+  }
+
+  @SuppressWarnings("unchecked")
+  private ProducerRecord<String, byte[]> captureSent() {
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
+        ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(kafkaTemplate).send(captor.capture());
+    return captor.getValue();
+  }
+
+  @Test
+  @DisplayName("토픽은 레코드에만, 타입/버전은 헤더에 싣고 페이로드에는 이벤트 필드만 포함")
+  void publish_WritesEnvelopeHeaders() {
+    // given
+    UserNickNameChangedEvent event = new UserNickNameChangedEvent("user123", "newNick");
+
+    // when
+    publisherWith(new MockEnvironment()).publish(event);
+
+    // then
+    ProducerRecord<String, byte[]> record = captureSent();
+
+    assertThat(record.topic()).isEqualTo("user-nickname-changed");
+    assertThat(EventEnvelope.type(record.headers())).isEqualTo("UserNickNameChangedEvent");
+    assertThat(EventEnvelope.version(record.headers())).isEqualTo(1);
+    assertThat(EventEnvelope.contentType(record.headers())).isEqualTo("application/json");
+    String payload = new String(record.value(), StandardCharsets.UTF_8);
+    assertThat(payload).contains("\"userId\":\"user123\"").doesNotContain("topic", "version");
+  }
+
+  @Test
+  @DisplayName("토픽에 smile 형식을 지정하면 Smile 로 인코딩하고 content-type 으로 표시")
+  void publish_SmileFormatForTopic() throws Exception {
+    // given
+    MockEnvironment environment =
+        new MockEnvironment().withProperty("events.format.topics.user-nickname-changed", "smile");
+    UserNickNameChangedEvent event = new UserNickNameChangedEvent("user123", "newNick");
+
+    // when
+    publisherWith(environment).publish(event);
+
+    // then
+    ProducerRecord<String, byte[]> record = captureSent();
+    assertThat(EventEnvelope.contentType(record.headers()))
+        .isEqualTo("application/x-jackson-smile");
+    UserNickNameChangedEvent decoded =
+        new ObjectMapper(new SmileFactory())
+            .readValue(record.value(), UserNickNameChangedEvent.class);
+    assertThat(decoded.getUserId()).isEqualTo("user123");
+    assertThat(decoded.getNickName()).isEqualTo("newNick");
+  }
+
+  @Test
+  @DisplayName("전송 완료 시 토픽/결과별 전송 시간과 페이로드 크기를 기록")
+  void publish_RecordsSendMetrics() {
+    // given
+    UserNickNameChangedEvent event = new UserNickNameChangedEvent("user123", "newNick");
+
+    // when
+    publisherWith(new MockEnvironment()).publish(event);
+
+    // then
+    ProducerRecord<String, byte[]> record = captureSent();
+    assertThat(
+            meterRegistry
+                .get(EventPublisher.PUBLISH_TIMER)
+                .tags("topic", "user-nickname-changed", "result", "success")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get(EventPublisher.PAYLOAD_SUMMARY)
+                .tag("topic", "user-nickname-changed")
+                .summary()
+                .totalAmount())
+        .isEqualTo(record.value().length);
+  }
+
+  @Test
+  @DisplayName("알 수 없는 형식 이름은 기동 시 실패")
+  void unknownFormat_FailsFast() {
+    MockEnvironment environment =
+        new MockEnvironment().withProperty("events.format.default", "xml");
+
+    assertThatThrownBy(() -> publisherWith(environment))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("xml");
+  }
+}
@@ -0,0 +1,103 @@
+package com.teambind.profileserver.events.serde;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.teambind.profileserver.events.event.EventEnvelope;
+import com.teambind.profileserver.events.event.ProfileImageChanged;
+import com.teambind.profileserver.utils.json.JsonUtilWithObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * EventDeserializer 단위 테스트
+ *
+ * <p>테스트 범위: 1. 헤더 유무에 따른 버전 처리 2. 지원하지 않는 버전/깨진 페이로드는 SerializationException
+ * (ErrorHandlingDeserializer 로 전달)
+ */
+@DisplayName("EventDeserializer 단위 테스트")
+class EventDeserializerTest {
+
+  private static final String TOPIC = "profile-image-changed";
+  private static final byte[] PAYLOAD =
+      "{\"referenceId\":\"user123\",\"imageUrl\":\"https://example.com/a.jpg\"}"
+          .getBytes(StandardCharsets.UTF_8);
+
+  private final EventDeserializer<ProfileImageChanged> deserializer =
+      new EventDeserializer<>(ProfileImageChanged.class, 1, new JsonUtilWithObjectMapper());
+
+  private static RecordHeaders versionHeader(String version) {
+    RecordHeaders headers = new RecordHeaders();
+    headers.add(EventEnvelope.HEADER_VERSION, version.getBytes(StandardCharsets.UTF_8));
+    return headers;
+  }
+
+  @Nested
+  @DisplayName("정상 역직렬화")
+  class Success {
+
+    @Test
+    @DisplayName("버전 헤더가 없는 기존 메시지는 버전 1 로 처리")
+    void noHeaders_TreatedAsVersion1() {
+      // when
+      ProfileImageChanged event = deserializer.deserialize(TOPIC, new RecordHeaders(), PAYLOAD);
+
+      // then
+      assertThat(event.getReferenceId()).isEqualTo("user123");
+      assertThat(event.getImageUrl()).isEqualTo("https://example.com/a.jpg");
+    }
+
+    @Test
+    @DisplayName("지원 버전 이하이면 추가 필드가 있어도 역직렬화")
+    void supportedVersion_WithExtraField() {
+      // given
+      byte[] payload =
+          "{\"referenceId\":\"user123\",\"topic\":\"profile-image-changed\",\"newField\":1}"
+              .getBytes(StandardCharsets.UTF_8);
+
+      // when
+      ProfileImageChanged event = deserializer.deserialize(TOPIC, versionHeader("1"), payload);
+
+      // then
+      assertThat(event.getReferenceId()).isEqualTo("user123");
+    }
+
+    @Test
+    @DisplayName("tombstone(null 값)은 null 로 전달")
+    void nullData_ReturnsNull() {
+      assertThat(deserializer.deserialize(TOPIC, new RecordHeaders(), null)).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("실패")
+  class Failure {
+
+    @Test
+    @DisplayName("지원 버전보다 새로운 스키마는 SerializationException")
+    void newerVersion_Throws() {
+      assertThatThrownBy(() -> deserializer.deserialize(TOPIC, versionHeader("2"), PAYLOAD))
+          .isInstanceOf(SerializationException.class)
+          .hasMessageContaining("version 2");
+    }
+
+    @Test
+    @DisplayName("버전 헤더가 숫자가 아니면 SerializationException")
+    void invalidVersionHeader_Throws() {
+      assertThatThrownBy(() -> deserializer.deserialize(TOPIC, versionHeader("v1"), PAYLOAD))
+          .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("깨진 JSON 은 SerializationException")
+    void malformedPayload_Throws() {
+      byte[] broken = "{\"referenceId\":".getBytes(StandardCharsets.UTF_8);
+
+      assertThatThrownBy(() -> deserializer.deserialize(TOPIC, new RecordHeaders(), broken))
+          .isInstanceOf(SerializationException.class);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.teambind.profileserver.integration;
 
 import static com.teambind.profileserver.fixture.TestFixtureFactory.*;
+import static com.teambind.profileserver.support.QueryCountAssertions.assertMaxQueries;
 import static org.assertj.core.api.Assertions.*;
 
 import com.teambind.profileserver.config.TestConfig;
@@ -12,6 +13,7 @@ import com.teambind.profileserver.repository.UserInfoRepository;
 import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
 import com.teambind.profileserver.service.search.ProfileSearchService;
 import com.teambind.profileserver.utils.InitTableMapper;
+import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,6 +48,8 @@ class ProfileSearchIntegrationTest {
 
   @Autowired private InitTableMapper initTableMapper;
 
+  @Autowired private EntityManager entityManager;
+
   @BeforeEach
   void setUp() {
     // @Transactional이 각 테스트를 롤백하므로 데이터 격리 보장
@@ -290,4 +294,78 @@ class ProfileSearchIntegrationTest {
       assertThat(secondPage.hasNext()).isFalse();
     }
   }
+
+  /**
+   * 조회 경로별 SQL 문 수 예산. 사용자 수를 늘려도 SQL 수가 그대로여야 한다 (지연 로딩 N+1 방지). 저장한 엔티티가 영속성 컨텍스트에서 바로
+   * 읽히지 않도록 측정 전에 flush/clear 한다.
+   */
+  @Nested
+  @DisplayName("SQL 문 수 예산")
+  class QueryBudgetTests {
+
+    private List<String> saveUsers(int count) {
+      List<String> userIds = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        UserInfo userInfo = createDefaultUserInfo("budget" + i);
+        userInfo.setCity("SEOUL");
+        userInfo.addGenre(InitTableMapper.genreNameTable.get(1));
+        userInfo.addInstrument(InitTableMapper.instrumentNameTable.get(1));
+        userInfoRepository.save(userInfo);
+        userIds.add(userInfo.getUserId());
+      }
+      entityManager.flush();
+      entityManager.clear();
+      return userIds;
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 사용자 + 장르 + 악기 3회")
+    void searchProfileById_WithinBudget() throws Throwable {
+      // given
+      saveUsers(1);
+
+      // when & then
+      UserResponse response =
+          assertMaxQueries(3, () -> profileSearchService.searchProfileById("budget0"));
+      assertThat(response.getGenres()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("상세 일괄 조회 - 사용자 수와 무관하게 3회")
+    void searchDetailProfilesByIds_WithinBudget() throws Throwable {
+      // given
+      List<String> userIds = saveUsers(10);
+
+      // when & then
+      List<UserResponse> result =
+          assertMaxQueries(3, () -> profileSearchService.searchDetailProfilesByIds(userIds));
+      assertThat(result).hasSize(10);
+      assertThat(result).allSatisfy(response -> assertThat(response.getInstruments()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("요약 일괄 조회 - 1회")
+    void searchProfilesByIds_WithinBudget() throws Throwable {
+      // given
+      List<String> userIds = saveUsers(10);
+
+      // when & then
+      List<BatchUserSummaryResponse> result =
+          assertMaxQueries(1, () -> profileSearchService.searchProfilesByIds(userIds));
+      assertThat(result).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("커서 검색 첫 페이지 - 사용자 수와 무관하게 3회")
+    void searchProfilesByCursor_WithinBudget() throws Throwable {
+      // given
+      saveUsers(10);
+      ProfileSearchCriteria criteria = ProfileSearchCriteria.builder().city("SEOUL").build();
+
+      // when & then
+      Slice<UserResponse> result =
+          assertMaxQueries(3, () -> profileSearchService.searchProfilesByCursor(criteria, null, 5));
+      assertThat(result.getContent()).hasSize(5);
+    }
+  }
 }
@@ -0,0 +1,112 @@
+package com.teambind.profileserver.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.teambind.profileserver.config.TestConfig;
+import com.teambind.profileserver.dto.response.HistoryResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * HistoryRepository keyset 조회 테스트
+ *
+ * <p>테스트 전략: 1. 실제 H2 DB 에 이력을 직접 적재 2. (updated_at, history_id) 내림차순 정렬 및 커서 이후 범위 조회 검증 3. 동일
+ * updated_at 에서 history_id 로 순서가 결정되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Transactional
+@DisplayName("HistoryRepository keyset 조회 테스트")
+class HistoryRepositoryTest {
+
+  private static final String USER_ID = "historyUser";
+  private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+  @Autowired private HistoryRepository historyRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private void insertHistory(String userId, String fieldName, LocalDateTime updatedAt) {
+    jdbcTemplate.update(
+        "INSERT INTO profile_update_history (user_id, field_name, old_val, new_val, updated_at)"
+            + " VALUES (?, ?, 'old', 'new', ?)",
+        userId,
+        fieldName,
+        Timestamp.valueOf(updatedAt));
+  }
+
+  @Nested
+  @DisplayName("findHistoryPage")
+  class FindHistoryPage {
+
+    @Test
+    @DisplayName("첫 페이지 - 최신 순으로 limit 건만 조회")
+    void firstPage_OrderedByUpdatedAtDesc() {
+      // given
+      insertHistory(USER_ID, "nickname", BASE.minusDays(2));
+      insertHistory(USER_ID, "city", BASE);
+      insertHistory(USER_ID, "nickname", BASE.minusDays(1));
+      insertHistory("otherUser", "nickname", BASE.plusDays(1));
+
+      // when
+      List<HistoryResponse> page = historyRepository.findHistoryPage(USER_ID, null, null, null, 2);
+
+      // then
+      assertThat(page)
+          .extracting(HistoryResponse::getUpdatedAt)
+          .containsExactly(BASE, BASE.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("커서 이후 - 같은 updated_at 은 history_id 로 이어서 조회")
+    void afterCursor_TieBrokenByHistoryId() {
+      // given
+      for (int i = 0; i < 3; i++) {
+        insertHistory(USER_ID, "nickname", BASE);
+      }
+      insertHistory(USER_ID, "nickname", BASE.minusHours(1));
+      List<HistoryResponse> first = historyRepository.findHistoryPage(USER_ID, null, null, null, 2);
+      HistoryResponse last = first.get(1);
+
+      // when
+      List<HistoryResponse> next =
+          historyRepository.findHistoryPage(
+              USER_ID, null, last.getUpdatedAt(), last.getHistoryId(), 10);
+
+      // then - 중복/누락 없이 나머지 2건
+      assertThat(next).hasSize(2);
+      assertThat(next.get(0).getUpdatedAt()).isEqualTo(BASE);
+      assertThat(next.get(0).getHistoryId()).isLessThan(last.getHistoryId());
+      assertThat(next.get(1).getUpdatedAt()).isEqualTo(BASE.minusHours(1));
+      assertThat(first)
+          .extracting(HistoryResponse::getHistoryId)
+          .doesNotContainAnyElementsOf(next.stream().map(HistoryResponse::getHistoryId).toList());
+    }
+
+    @Test
+    @DisplayName("fieldName 필터 - 해당 필드 이력만 조회")
+    void filterByFieldName() {
+      // given
+      insertHistory(USER_ID, "nickname", BASE);
+      insertHistory(USER_ID, "city", BASE.minusDays(1));
+      insertHistory(USER_ID, "nickname", BASE.minusDays(2));
+
+      // when
+      List<HistoryResponse> page =
+          historyRepository.findHistoryPage(USER_ID, "nickname", null, null, 10);
+
+      // then
+      assertThat(page).hasSize(2).allMatch(h -> h.getFieldName().equals("nickname"));
+    }
+  }
+}
@@ -4,10 +4,16 @@ import static com.teambind.profileserver.fixture.TestFixtureFactory.*;
 import static org.assertj.core.api.Assertions.*;
 
 import com.teambind.profileserver.config.TestConfig;
+import com.teambind.profileserver.dto.response.UserResponse;
 import com.teambind.profileserver.entity.UserInfo;
 import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
+import com.teambind.profileserver.repository.dsl.ProfileSearchRepositoryImpl;
 import com.teambind.profileserver.utils.InitTableMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
 import java.util.List;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -40,6 +46,10 @@ class ProfileSearchRepositoryTest {
 
   @Autowired private InitTableMapper initTableMapper;
 
+  @Autowired private EntityManager entityManager;
+
+  @Autowired private MeterRegistry meterRegistry;
+
   @BeforeEach
   void setUp() {
     // @Transactional이 롤백을 처리하므로 데이터 격리 보장
@@ -109,6 +119,31 @@ class ProfileSearchRepositoryTest {
       assertThat(found.getUserGenres()).hasSize(1);
       assertThat(found.getUserInstruments()).hasSize(1);
     }
+
+    @Test
+    @DisplayName("성공 - 장르/악기 이름은 이름 테이블을 조회하지 않고 메모리 맵에서 채움")
+    void search_ById_ResolvesNamesWithoutNameTables() {
+      // given
+      UserInfo userInfo = createDefaultUserInfo("userWithNames");
+      userInfo.addGenre(InitTableMapper.genreNameTable.get(1));
+      userInfo.addInstrument(InitTableMapper.instrumentNameTable.get(2));
+      userInfoRepository.save(userInfo);
+      entityManager.flush();
+      entityManager.clear();
+
+      // when
+      UserInfo found = profileSearchRepository.search("userWithNames");
+      UserResponse response = UserResponse.fromEntity(found);
+
+      // then - 연관 엔티티는 초기화되지 않은 프록시로 남는다
+      assertThat(Hibernate.isInitialized(found.getUserGenres().get(0).getGenre())).isFalse();
+      assertThat(Hibernate.isInitialized(found.getUserInstruments().get(0).getInstrument()))
+          .isFalse();
+      assertThat(response.getGenres())
+          .containsExactly(InitTableMapper.genreNameTable.get(1).getGenreName());
+      assertThat(response.getInstruments())
+          .containsExactly(InitTableMapper.instrumentNameTable.get(2).getInstrumentName());
+    }
   }
 
   @Nested
@@ -486,4 +521,46 @@ class ProfileSearchRepositoryTest {
       assertThat(result).extracting("userId").containsExactlyInAnyOrder("exists1", "exists2");
     }
   }
+
+  @Nested
+  @DisplayName("조회 지표 테스트")
+  class MetricsTests {
+
+    private long count(String method, String filters) {
+      Timer timer =
+          meterRegistry
+              .find(ProfileSearchRepositoryImpl.SEARCH_TIMER)
+              .tags("method", method, "filters", filters)
+              .timer();
+      return timer == null ? 0L : timer.count();
+    }
+
+    @Test
+    @DisplayName("성공 - 활성 필터 조합을 태그로 조회 시간 기록")
+    void searchByCursor_RecordsTimerTaggedByFilters() {
+      // given
+      ProfileSearchCriteria criteria =
+          ProfileSearchCriteria.builder().city("SEOUL").genres(List.of(1)).build();
+      long before = count("cursor", "city+genres");
+
+      // when
+      profileSearchRepository.searchByCursor(criteria, null, 10);
+
+      // then
+      assertThat(count("cursor", "city+genres")).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("성공 - 조건이 없으면 filters=none")
+    void search_NoCriteria_TaggedNone() {
+      // given
+      long before = count("page", "none");
+
+      // when
+      profileSearchRepository.search(ProfileSearchCriteria.builder().build(), PageRequest.of(0, 5));
+
+      // then
+      assertThat(count("page", "none")).isEqualTo(before + 1);
+    }
+  }
 }
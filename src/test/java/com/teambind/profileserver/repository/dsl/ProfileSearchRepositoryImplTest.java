@@ -0,0 +1,59 @@
+package com.teambind.profileserver.repository.dsl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProfileSearchRepositoryImpl 느린 조회 기록 보조 메서드 테스트")
+class ProfileSearchRepositoryImplTest {
+
+  @Test
+  @DisplayName("술어 상수는 조건 순서(지역, 성별, 닉네임, 장르, 악기)대로 추출되고 닉네임은 like 패턴으로 변환")
+  void parametersOf_InPredicateOrder() {
+    // given
+    ProfileSearchCriteria criteria =
+        ProfileSearchCriteria.builder()
+            .city("SEOUL")
+            .sex('F')
+            .nickName("Kim")
+            .genres(List.of(3, 1))
+            .instruments(List.of(2))
+            .build();
+
+    // when
+    List<Object> parameters =
+        ProfileSearchRepositoryImpl.parametersOf(ProfileSearchRepositoryImpl.buildWhere(criteria));
+
+    // then
+    assertThat(parameters).hasSize(5);
+    assertThat(parameters.get(0)).isEqualTo("SEOUL");
+    assertThat(parameters.get(1)).isEqualTo('F');
+    assertThat(parameters.get(2).toString()).isEqualTo("%kim%");
+    assertThat(parameters.get(3)).isEqualTo(List.of(3, 1));
+    assertThat(parameters.get(4)).isEqualTo(List.of(2));
+  }
+
+  @Test
+  @DisplayName("정규화 조건은 빈 조건을 생략하고 ID 목록을 정렬·중복 제거")
+  void describe_Normalizes() {
+    // given
+    ProfileSearchCriteria criteria =
+        ProfileSearchCriteria.builder()
+            .city(" seoul ")
+            .nickName("")
+            .genres(List.of(3, 1, 3))
+            .build();
+
+    // when
+    Map<String, Object> described = ProfileSearchRepositoryImpl.describe(criteria);
+
+    // then
+    assertThat(described).containsOnlyKeys("city", "genres");
+    assertThat(described.get("city")).isEqualTo("SEOUL");
+    assertThat(described.get("genres")).isEqualTo(List.of(1, 3));
+  }
+}
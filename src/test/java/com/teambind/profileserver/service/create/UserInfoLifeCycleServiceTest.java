@@ -8,21 +8,29 @@ import static org.mockito.Mockito.*;
 import com.teambind.profileserver.entity.UserInfo;
 import com.teambind.profileserver.exceptions.ProfileErrorCode;
 import com.teambind.profileserver.exceptions.ProfileException;
+import com.teambind.profileserver.repository.HistoryRepository;
+import com.teambind.profileserver.repository.UserGenresRepository;
 import com.teambind.profileserver.repository.UserInfoRepository;
-import java.util.Optional;
+import com.teambind.profileserver.repository.UserInstrumentsRepository;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 /**
  * UserInfoLifeCycleService 단위 테스트
  *
- * <p>테스트 범위: 1. 사용자 프로필 생성 (createUserProfile) 2. 사용자 프로필 삭제 (deleteUserProfile)
+ * <p>테스트 범위: 1. 사용자 프로필 생성 (createUserProfile) 2. 사용자 프로필 삭제 (deleteUserProfile) 3. 일괄 삭제
+ * (deleteUserProfiles)
  *
  * <p>테스트 전략: - ArgumentCaptor로 실제 저장되는 객체 검증 - 닉네임 생성 로직 검증 - 예외 상황 처리 확인
  */
@@ -34,6 +42,10 @@ class UserInfoLifeCycleServiceTest {
   private static final String TEST_PROVIDER = "kakao";
   @InjectMocks private UserInfoLifeCycleService userInfoLifeCycleService;
   @Mock private UserInfoRepository userInfoRepository;
+  @Mock private UserGenresRepository userGenresRepository;
+  @Mock private UserInstrumentsRepository userInstrumentsRepository;
+  @Mock private HistoryRepository historyRepository;
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
 
   @Nested
   @DisplayName("사용자 프로필 생성 (createUserProfile)")
@@ -135,54 +147,131 @@ class UserInfoLifeCycleServiceTest {
   class DeleteUserProfile {
 
     @Test
-    @DisplayName("성공 - 존재하는 사용자 삭제")
+    @DisplayName("성공 - 존재하는 사용자 삭제 (엔티티 로딩 없이 일괄 삭제)")
     void deleteUserProfile_Success() {
       // given
-      UserInfo existingUser = createDefaultUserInfo(TEST_USER_ID);
-      when(userInfoRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(existingUser));
+      when(userInfoRepository.deleteByUserIdIn(List.of(TEST_USER_ID))).thenReturn(1);
 
       // when
       userInfoLifeCycleService.deleteUserProfile(TEST_USER_ID);
 
       // then
-      verify(userInfoRepository).findById(TEST_USER_ID);
-      verify(userInfoRepository).delete(existingUser);
+      verify(userInfoRepository).deleteByUserIdIn(List.of(TEST_USER_ID));
+      verify(userInfoRepository, never()).findById(any());
+      verify(userInfoRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("연관 속성과 이력은 자식 테이블부터 일괄 삭제 쿼리로 삭제")
+    void deleteUserProfile_DeletesChildrenInBulkFirst() {
+      // given
+      when(userInfoRepository.deleteByUserIdIn(List.of(TEST_USER_ID))).thenReturn(1);
+
+      // when
+      userInfoLifeCycleService.deleteUserProfile(TEST_USER_ID);
+
+      // then
+      InOrder inOrder =
+          inOrder(
+              userGenresRepository,
+              userInstrumentsRepository,
+              historyRepository,
+              userInfoRepository);
+      inOrder.verify(userGenresRepository).deleteByUserIdIn(List.of(TEST_USER_ID));
+      inOrder.verify(userInstrumentsRepository).deleteByUserIdIn(List.of(TEST_USER_ID));
+      inOrder.verify(historyRepository).deleteByUserIdIn(List.of(TEST_USER_ID));
+      inOrder.verify(userInfoRepository).deleteByUserIdIn(List.of(TEST_USER_ID));
     }
 
     @Test
     @DisplayName("실패 - 존재하지 않는 사용자 삭제 시 예외 발생")
     void deleteUserProfile_UserNotFound_ThrowsException() {
       // given
-      when(userInfoRepository.findById(TEST_USER_ID)).thenReturn(Optional.empty());
+      when(userInfoRepository.deleteByUserIdIn(List.of(TEST_USER_ID))).thenReturn(0);
 
       // when & then
       assertThatThrownBy(() -> userInfoLifeCycleService.deleteUserProfile(TEST_USER_ID))
           .isInstanceOf(ProfileException.class)
           .hasFieldOrPropertyWithValue("errorCode", ProfileErrorCode.USER_NOT_FOUND);
+    }
+  }
 
-      verify(userInfoRepository).findById(TEST_USER_ID);
-      verify(userInfoRepository, never()).delete(any());
+  @Nested
+  @DisplayName("사용자 프로필 일괄 삭제 (deleteUserProfiles)")
+  class DeleteUserProfiles {
+
+    @Test
+    @DisplayName("성공 - 중복/null 을 제거하고 한 번에 삭제")
+    void deleteUserProfiles_DistinctIds() {
+      // given
+      List<String> expected = List.of("u1", "u2");
+      when(userInfoRepository.deleteByUserIdIn(expected)).thenReturn(2);
+
+      // when
+      int deleted =
+          userInfoLifeCycleService.deleteUserProfiles(Arrays.asList("u1", "u2", "u1", null));
+
+      // then
+      assertThat(deleted).isEqualTo(2);
+      verify(userInfoRepository, times(1)).deleteByUserIdIn(any());
+      verify(historyRepository).deleteByUserIdIn(expected);
     }
 
     @Test
-    @DisplayName("연관된 데이터와 함께 삭제 (cascade)")
-    void deleteUserProfile_WithRelations() {
+    @DisplayName("존재하지 않는 사용자는 예외 없이 건너뜀 (재처리 멱등)")
+    void deleteUserProfiles_MissingUsers_Skipped() {
       // given
-      UserInfo userWithRelations =
-          userInfo()
-              .userId(TEST_USER_ID)
-              .withGenres(createGenres().subList(0, 2))
-              .withInstruments(createInstruments().subList(0, 2))
-              .build();
+      when(userInfoRepository.deleteByUserIdIn(any())).thenReturn(1);
 
-      when(userInfoRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(userWithRelations));
+      // when
+      int deleted = userInfoLifeCycleService.deleteUserProfiles(List.of("exists", "missing"));
+
+      // then
+      assertThat(deleted).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 프로필이 없으면 변경 이벤트를 발행하지 않음")
+    void deleteUserProfiles_NothingDeleted_NoEvent() {
+      // given
+      when(userInfoRepository.deleteByUserIdIn(any())).thenReturn(0);
 
       // when
-      userInfoLifeCycleService.deleteUserProfile(TEST_USER_ID);
+      int deleted = userInfoLifeCycleService.deleteUserProfiles(List.of("missing"));
+
+      // then
+      assertThat(deleted).isZero();
+      verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("대량 삭제는 500명 단위 청크로 나눠 실행")
+    void deleteUserProfiles_Chunked() {
+      // given
+      List<String> userIds = IntStream.range(0, 1200).mapToObj(i -> "user" + i).toList();
+      when(userInfoRepository.deleteByUserIdIn(any()))
+          .thenAnswer(inv -> inv.getArgument(0, List.class).size());
+
+      // when
+      int deleted = userInfoLifeCycleService.deleteUserProfiles(userIds);
+
+      // then - 3개 청크 * 청크당 4개 DELETE
+      assertThat(deleted).isEqualTo(1200);
+      verify(userInfoRepository, times(3)).deleteByUserIdIn(any());
+      verify(userGenresRepository, times(3)).deleteByUserIdIn(any());
+      verify(userInstrumentsRepository, times(3)).deleteByUserIdIn(any());
+      verify(historyRepository, times(3)).deleteByUserIdIn(any());
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 쿼리를 실행하지 않음")
+    void deleteUserProfiles_Empty() {
+      // when
+      int deleted = userInfoLifeCycleService.deleteUserProfiles(List.of());
 
       // then
-      verify(userInfoRepository).delete(userWithRelations);
-      // cascade 옵션으로 인해 연관 엔티티도 함께 삭제됨 (JPA 동작)
+      assertThat(deleted).isZero();
+      verifyNoInteractions(userInfoRepository, historyRepository);
     }
   }
 
@@ -253,13 +342,13 @@ class UserInfoLifeCycleServiceTest {
       UserInfo createdUser = userInfoCaptor.getValue();
 
       // given - 삭제 준비
-      when(userInfoRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(createdUser));
+      when(userInfoRepository.deleteByUserIdIn(List.of(createdUser.getUserId()))).thenReturn(1);
 
       // when - 삭제
       userInfoLifeCycleService.deleteUserProfile(TEST_USER_ID);
 
       // then
-      verify(userInfoRepository).delete(createdUser);
+      verify(userInfoRepository).deleteByUserIdIn(List.of(TEST_USER_ID));
     }
 
     @Test
@@ -302,15 +391,14 @@ class UserInfoLifeCycleServiceTest {
     @DisplayName("deleteUserProfile는 @Transactional 적용")
     void deleteUserProfile_IsTransactional() {
       // given
-      UserInfo existingUser = createDefaultUserInfo(TEST_USER_ID);
-      when(userInfoRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(existingUser));
+      when(userInfoRepository.deleteByUserIdIn(List.of(TEST_USER_ID))).thenReturn(1);
 
       // when
       userInfoLifeCycleService.deleteUserProfile(TEST_USER_ID);
 
       // then
-      // @Transactional 어노테이션이 있으므로 delete 호출됨
-      verify(userInfoRepository).delete(existingUser);
+      // @Transactional 어노테이션이 있으므로 일괄 삭제가 하나의 트랜잭션으로 묶임
+      verify(userInfoRepository).deleteByUserIdIn(List.of(TEST_USER_ID));
     }
   }
 }
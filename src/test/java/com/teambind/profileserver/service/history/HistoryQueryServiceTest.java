@@ -0,0 +1,145 @@
+package com.teambind.profileserver.service.history;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.teambind.profileserver.dto.response.HistoryPageResponse;
+import com.teambind.profileserver.dto.response.HistoryResponse;
+import com.teambind.profileserver.exceptions.ProfileErrorCode;
+import com.teambind.profileserver.exceptions.ProfileException;
+import com.teambind.profileserver.repository.HistoryRepository;
+import com.teambind.profileserver.repository.UserInfoRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * HistoryQueryService 단위 테스트
+ *
+ * <p>테스트 범위: 1. 페이지 크기 보정 및 hasNext/nextCursor 계산 2. 커서 인코딩/디코딩 3. 잘못된 커서, 존재하지 않는 사용자 예외
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HistoryQueryService 테스트")
+class HistoryQueryServiceTest {
+
+  private static final String USER_ID = "testUser123";
+  private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0, 30);
+
+  @InjectMocks private HistoryQueryService historyQueryService;
+  @Mock private HistoryRepository historyRepository;
+  @Mock private UserInfoRepository userInfoRepository;
+
+  private static List<HistoryResponse> histories(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            i ->
+                HistoryResponse.builder()
+                    .historyId(100L - i)
+                    .fieldName("nickname")
+                    .updatedAt(BASE.minusMinutes(i))
+                    .build())
+        .toList();
+  }
+
+  @Nested
+  @DisplayName("getHistory")
+  class GetHistory {
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 size 건만 반환하고 마지막 행으로 커서 생성")
+    void hasNext_ReturnsCursorOfLastRow() {
+      // given - size + 1 건 조회 요청
+      when(historyRepository.findHistoryPage(USER_ID, null, null, null, 3))
+          .thenReturn(histories(3));
+
+      // when
+      HistoryPageResponse page = historyQueryService.getHistory(USER_ID, " ", null, 2);
+
+      // then
+      assertThat(page.getContent()).hasSize(2);
+      assertThat(page.isHasNext()).isTrue();
+      HistoryQueryService.Cursor cursor = HistoryQueryService.decodeCursor(page.getNextCursor());
+      assertThat(cursor.historyId()).isEqualTo(99L);
+      assertThat(cursor.updatedAt()).isEqualTo(BASE.minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 nextCursor 는 null")
+    void lastPage_NoCursor() {
+      // given
+      when(historyRepository.findHistoryPage(eq(USER_ID), eq("city"), any(), any(), anyInt()))
+          .thenReturn(histories(1));
+
+      // when
+      HistoryPageResponse page = historyQueryService.getHistory(USER_ID, "city", null, 20);
+
+      // then
+      assertThat(page.isHasNext()).isFalse();
+      assertThat(page.getNextCursor()).isNull();
+      verifyNoInteractions(userInfoRepository);
+    }
+
+    @Test
+    @DisplayName("커서를 넘기면 커서의 정렬 키 이후부터 조회")
+    void withCursor_PassesKeyset() {
+      // given
+      String cursor = HistoryQueryService.encodeCursor(histories(1).get(0));
+      when(historyRepository.findHistoryPage(USER_ID, null, BASE, 100L, 21)).thenReturn(List.of());
+
+      // when
+      HistoryPageResponse page = historyQueryService.getHistory(USER_ID, null, cursor, 20);
+
+      // then - 커서 이후가 비어 있어도 사용자 존재 확인은 하지 않음
+      assertThat(page.getContent()).isEmpty();
+      verifyNoInteractions(userInfoRepository);
+    }
+
+    @Test
+    @DisplayName("size 는 1~100 으로 보정 (0 이하는 기본값 20)")
+    void size_Clamped() {
+      // given
+      when(historyRepository.findHistoryPage(any(), isNull(), isNull(), isNull(), anyInt()))
+          .thenReturn(histories(1));
+
+      // when
+      historyQueryService.getHistory(USER_ID, null, null, 1000);
+      historyQueryService.getHistory(USER_ID, null, null, 0);
+
+      // then
+      verify(historyRepository).findHistoryPage(USER_ID, null, null, null, 101);
+      verify(historyRepository).findHistoryPage(USER_ID, null, null, null, 21);
+    }
+
+    @Test
+    @DisplayName("실패 - 잘못된 커서")
+    void invalidCursor_ThrowsException() {
+      // when & then
+      assertThatThrownBy(() -> historyQueryService.getHistory(USER_ID, null, "not-a-cursor", 20))
+          .isInstanceOf(ProfileException.class)
+          .hasFieldOrPropertyWithValue("errorCode", ProfileErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("실패 - 이력도 없고 사용자도 없으면 USER_NOT_FOUND")
+    void userNotFound_ThrowsException() {
+      // given
+      when(historyRepository.findHistoryPage(USER_ID, null, null, null, 21)).thenReturn(List.of());
+      when(userInfoRepository.existsById(USER_ID)).thenReturn(false);
+
+      // when & then
+      assertThatThrownBy(() -> historyQueryService.getHistory(USER_ID, null, null, 20))
+          .isInstanceOf(ProfileException.class)
+          .hasFieldOrPropertyWithValue("errorCode", ProfileErrorCode.USER_NOT_FOUND);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.teambind.profileserver.service.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.teambind.profileserver.config.TestConfig;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * HistoryRetentionJob 테스트
+ *
+ * <p>테스트 전략: H2 는 파티션을 지원하지 않으므로 청크 단위 DELETE 대체 경로를 검증한다. 파티션 DROP 경로는 MariaDB 전용.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Transactional
+@DisplayName("HistoryRetentionJob 테스트")
+class HistoryRetentionJobTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+  @Autowired private HistoryRetentionJob historyRetentionJob;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private void insertHistory(String userId, LocalDateTime updatedAt) {
+    jdbcTemplate.update(
+        "INSERT INTO profile_update_history (user_id, field_name, old_val, new_val, updated_at)"
+            + " VALUES (?, 'nickname', 'old', 'new', ?)",
+        userId,
+        Timestamp.valueOf(updatedAt));
+  }
+
+  private long countHistory() {
+    Long count =
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM profile_update_history", Long.class);
+    return count == null ? 0L : count;
+  }
+
+  @Nested
+  @DisplayName("파티션 미지원 환경 (청크 삭제)")
+  class ChunkPurge {
+
+    @Test
+    @DisplayName("성공 - 보존 기간(12개월)이 지난 이력만 삭제")
+    void purgeExpired_DeletesOnlyExpiredRows() {
+      // given
+      insertHistory("user1", LocalDateTime.of(2024, 1, 15, 10, 0));
+      insertHistory("user1", LocalDateTime.of(2025, 9, 30, 23, 59));
+      insertHistory("user2", LocalDateTime.of(2025, 10, 1, 0, 0));
+      insertHistory("user2", LocalDateTime.of(2026, 9, 1, 12, 0));
+
+      // when
+      int purged = historyRetentionJob.purgeExpired(TODAY);
+
+      // then - 기준일 2025-10-01 이전 2건 삭제
+      assertThat(purged).isEqualTo(2);
+      assertThat(countHistory()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공 - 청크 크기보다 많은 만료 이력도 모두 삭제")
+    void purgeExpired_MultipleChunks() {
+      // given
+      HistoryRetentionJob target = AopTestUtils.getTargetObject(historyRetentionJob);
+      Object originalChunkSize = ReflectionTestUtils.getField(target, "deleteChunkSize");
+      ReflectionTestUtils.setField(target, "deleteChunkSize", 2);
+      try {
+        for (int i = 0; i < 5; i++) {
+          insertHistory("user" + i, LocalDateTime.of(2023, 3, 1, 0, 0).plusDays(i));
+        }
+        insertHistory("recent", LocalDateTime.of(2026, 10, 1, 0, 0));
+
+        // when
+        int purged = target.purgeExpired(TODAY);
+
+        // then
+        assertThat(purged).isEqualTo(5);
+        assertThat(countHistory()).isEqualTo(1);
+      } finally {
+        ReflectionTestUtils.setField(target, "deleteChunkSize", originalChunkSize);
+      }
+    }
+
+    @Test
+    @DisplayName("만료된 이력이 없으면 아무것도 삭제하지 않음")
+    void purgeExpired_NothingExpired() {
+      // given
+      insertHistory("user1", LocalDateTime.of(2026, 5, 1, 0, 0));
+
+      // when
+      int purged = historyRetentionJob.purgeExpired(TODAY);
+
+      // then
+      assertThat(purged).isZero();
+      assertThat(countHistory()).isEqualTo(1);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.teambind.profileserver.service.search;
+
+import com.teambind.profileserver.dto.response.UserResponse;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Redis 없이 공유 캐시 계층을 흉내 내는 테스트용 구현
+ *
+ * <p>여러 ProfileCache 인스턴스(노드)가 하나의 저장소를 공유하고, evict 는 구독한 모든 노드에 동기적으로 방송된다. fill-guard 는
+ * 만료되지 않는 것으로 본다 - 한 번 무효화된 사용자는 다시 채워지지 않는다.
+ */
+class InMemoryRemoteProfileStore implements RemoteProfileStore {
+
+  private final Map<String, UserResponse> values = new ConcurrentHashMap<>();
+  private final Set<String> guarded = ConcurrentHashMap.newKeySet();
+  private final List<Consumer<Collection<String>>> listeners = new CopyOnWriteArrayList<>();
+  private final AtomicInteger gets = new AtomicInteger();
+
+  @Override
+  public Optional<UserResponse> get(String userId) {
+    gets.incrementAndGet();
+    return Optional.ofNullable(values.get(userId));
+  }
+
+  @Override
+  public void put(String userId, UserResponse response) {
+    if (!guarded.contains(userId)) values.put(userId, response);
+  }
+
+  @Override
+  public void evict(Collection<String> userIds) {
+    userIds.forEach(values::remove);
+    guarded.addAll(userIds);
+    listeners.forEach(listener -> listener.accept(userIds));
+  }
+
+  @Override
+  public void onInvalidation(Consumer<Collection<String>> listener) {
+    listeners.add(listener);
+  }
+
+  boolean contains(String userId) {
+    return values.containsKey(userId);
+  }
+
+  int getCount() {
+    return gets.get();
+  }
+}
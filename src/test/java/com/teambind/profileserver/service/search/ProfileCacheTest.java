@@ -0,0 +1,194 @@
+package com.teambind.profileserver.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.events.local.ProfileChangedEvent;
+import com.teambind.profileserver.exceptions.ProfileErrorCode;
+import com.teambind.profileserver.exceptions.ProfileException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ProfileCache 테스트
+ *
+ * <p>테스트 전략: 공유 계층은 InMemoryRemoteProfileStore 로 대신하고, ProfileCache 인스턴스 두 개를 서로 다른 노드로 본다.
+ */
+@DisplayName("ProfileCache 테스트")
+class ProfileCacheTest {
+
+  private static final Duration NEAR_TTL = Duration.ofMinutes(1);
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private Supplier<UserResponse> loader(String userId, String nickname) {
+    return () -> {
+      loads.incrementAndGet();
+      return UserResponse.builder().userId(userId).nickname(nickname).build();
+    };
+  }
+
+  @Nested
+  @DisplayName("near cache 만 사용")
+  class NearOnly {
+
+    @Test
+    @DisplayName("성공 - 두 번째 조회는 near cache 에서 응답")
+    void secondLookupHitsNear() {
+      // given
+      ProfileCache cache = new ProfileCache(true, NEAR_TTL, 100, null);
+
+      // when
+      cache.get("user1", loader("user1", "first"));
+      UserResponse result = cache.get("user1", loader("user1", "second"));
+
+      // then
+      assertThat(result.getNickname()).isEqualTo("first");
+      assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프로필 변경 이벤트로 해당 사용자만 무효화")
+    void profileChangedEvictsOnlyChangedUser() {
+      // given
+      ProfileCache cache = new ProfileCache(true, NEAR_TTL, 100, null);
+      cache.get("user1", loader("user1", "old"));
+      cache.get("user2", loader("user2", "other"));
+
+      // when
+      cache.onProfileChanged(ProfileChangedEvent.of("user1"));
+
+      // then
+      assertThat(cache.get("user1", loader("user1", "new")).getNickname()).isEqualTo("new");
+      assertThat(cache.nearSize()).isEqualTo(2);
+      assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("near cache 비활성화 시 매번 로드")
+    void disabledNearAlwaysLoads() {
+      // given
+      ProfileCache cache = new ProfileCache(false, NEAR_TTL, 100, null);
+
+      // when
+      cache.get("user1", loader("user1", "a"));
+      cache.get("user1", loader("user1", "b"));
+
+      // then
+      assertThat(loads.get()).isEqualTo(2);
+      assertThat(cache.nearSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("로드 실패(사용자 없음)는 캐시하지 않음")
+    void loaderExceptionIsNotCached() {
+      // given
+      ProfileCache cache = new ProfileCache(true, NEAR_TTL, 100, null);
+
+      // when & then
+      assertThatThrownBy(
+              () ->
+                  cache.get(
+                      "ghost",
+                      () -> {
+                        throw new ProfileException(ProfileErrorCode.USER_NOT_FOUND);
+                      }))
+          .isInstanceOf(ProfileException.class);
+      assertThat(cache.nearSize()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("near cache + 공유 계층 (노드 2개)")
+  class TwoTier {
+
+    private final InMemoryRemoteProfileStore remote = new InMemoryRemoteProfileStore();
+    private final ProfileCache node1 = new ProfileCache(true, NEAR_TTL, 100, remote);
+    private final ProfileCache node2 = new ProfileCache(true, NEAR_TTL, 100, remote);
+
+    @Test
+    @DisplayName("성공 - 한 노드가 로드한 프로필을 다른 노드는 공유 계층에서 읽음")
+    void otherNodeReadsFromSharedTier() {
+      // given
+      node1.get("user1", loader("user1", "shared"));
+
+      // when
+      UserResponse result = node2.get("user1", loader("user1", "unused"));
+
+      // then
+      assertThat(result.getNickname()).isEqualTo("shared");
+      assertThat(loads.get()).isEqualTo(1);
+      assertThat(remote.contains("user1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공 - 공유 계층에서 읽은 값은 near cache 에도 채워 다음 조회는 공유 계층까지 가지 않음")
+    void sharedHitFillsNear() {
+      // given
+      node1.get("user1", loader("user1", "shared"));
+      node2.get("user1", loader("user1", "unused"));
+      int remoteGets = remote.getCount();
+
+      // when
+      node2.get("user1", loader("user1", "unused"));
+
+      // then
+      assertThat(remote.getCount()).isEqualTo(remoteGets);
+    }
+
+    @Test
+    @DisplayName("성공 - 한 노드의 변경이 모든 노드의 near cache 와 공유 계층에서 무효화")
+    void invalidationReachesAllNodes() {
+      // given
+      node1.get("user1", loader("user1", "old"));
+      node2.get("user1", loader("user1", "old"));
+
+      // when - node1 에서 수정 커밋
+      node1.onProfileChanged(new ProfileChangedEvent(List.of("user1")));
+
+      // then
+      assertThat(remote.contains("user1")).isFalse();
+      assertThat(node2.nearSize()).isZero();
+      assertThat(node2.get("user1", loader("user1", "new")).getNickname()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("무효화 직후 다른 노드가 무효화 전에 읽은 값으로 공유 계층을 채우지 못함")
+    void staleFillAfterInvalidationIsRejected() {
+      // given - node2 가 커밋 전에 읽기 시작한 조회
+      Supplier<UserResponse> staleRead =
+          () -> {
+            node1.onProfileChanged(ProfileChangedEvent.of("user1"));
+            return UserResponse.builder().userId("user1").nickname("old").build();
+          };
+
+      // when
+      UserResponse result = node2.get("user1", staleRead);
+
+      // then - 호출자에게는 돌려주지만 어느 계층에도 남기지 않는다
+      assertThat(result.getNickname()).isEqualTo("old");
+      assertThat(remote.contains("user1")).isFalse();
+      assertThat(node2.nearSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("fill-guard 안에서는 공유 계층에 다시 쓰지 않음")
+    void guardedUserIsNotWrittenToSharedTier() {
+      // given
+      node1.onProfileChanged(ProfileChangedEvent.of("user1"));
+
+      // when
+      node2.get("user1", loader("user1", "maybe-stale"));
+
+      // then
+      assertThat(remote.contains("user1")).isFalse();
+      assertThat(node2.isShared()).isTrue();
+    }
+  }
+}
@@ -0,0 +1,200 @@
+package com.teambind.profileserver.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.events.local.ProfileChangedEvent;
+import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
+import com.teambind.profileserver.utils.concurrent.SingleFlight;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+@DisplayName("ProfileSearchCache 테스트")
+class ProfileSearchCacheTest {
+
+  private static ProfileSearchCache newCache(boolean enabled) {
+    return new ProfileSearchCache(
+        enabled,
+        Duration.ofSeconds(30),
+        100,
+        new SingleFlight<>("search-first-page", Duration.ofSeconds(2)));
+  }
+
+  private static Slice<UserResponse> page(String userId) {
+    return new SliceImpl<>(
+        List.of(UserResponse.builder().userId(userId).build()), PageRequest.of(0, 10), false);
+  }
+
+  @Test
+  @DisplayName("성공 - 같은 키의 동시 미스는 한 번의 조회로 합쳐짐")
+  void concurrentMisses_LoadOnce() throws Exception {
+    // given
+    ProfileSearchCache cache = newCache(true);
+    ProfileSearchCriteria criteria = ProfileSearchCriteria.builder().city("SEOUL").build();
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    List<Future<Slice<UserResponse>>> results = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < 16; i++) {
+      results.add(
+          executor.submit(
+              () -> {
+                start.await();
+                return cache.getFirstPage(
+                    criteria,
+                    10,
+                    () -> {
+                      loads.incrementAndGet();
+                      sleep(50);
+                      return page("user1");
+                    });
+              }));
+    }
+    start.countDown();
+    for (Future<Slice<UserResponse>> result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS).getContent()).hasSize(1);
+    }
+    executor.shutdownNow();
+
+    // then
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("페이지 크기가 다르면 다른 키")
+  void differentSize_DifferentEntry() {
+    // given
+    ProfileSearchCache cache = newCache(true);
+    ProfileSearchCriteria criteria = ProfileSearchCriteria.builder().build();
+
+    // when
+    cache.getFirstPage(criteria, 10, () -> page("user1"));
+    cache.getFirstPage(criteria, 20, () -> page("user1"));
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("비활성화 시 항상 조회")
+  void disabled_AlwaysLoads() {
+    // given
+    ProfileSearchCache cache = newCache(false);
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      cache.getFirstPage(
+          null,
+          10,
+          () -> {
+            loads.incrementAndGet();
+            return page("user1");
+          });
+    }
+
+    // then
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("결과에 없는 사용자가 바뀌면 캐시를 유지")
+  void profileChanged_OtherUser_KeepsEntry() {
+    // given
+    ProfileSearchCache cache = newCache(true);
+    cache.getFirstPage(null, 10, () -> page("user1"));
+    cache.getFirstPage(ProfileSearchCriteria.builder().sex('M').build(), 10, () -> page("user2"));
+
+    // when
+    cache.onProfileChanged(ProfileChangedEvent.of("user2"));
+
+    // then
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getFirstPage(null, 10, () -> page("other")).getContent().get(0).getUserId())
+        .isEqualTo("user1");
+  }
+
+  @Test
+  @DisplayName("조회 도중 무효화가 있으면 결과를 캐시하지 않음")
+  void invalidatedDuringLoad_NotCached() {
+    // given
+    ProfileSearchCache cache = newCache(true);
+
+    // when
+    Slice<UserResponse> result =
+        cache.getFirstPage(
+            null,
+            10,
+            () -> {
+              cache.onProfileChanged(ProfileChangedEvent.of("user9"));
+              return page("user1");
+            });
+
+    // then
+    assertThat(result.getContent()).hasSize(1);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("한 키의 조회가 오래 걸려도 다른 키의 조회는 막히지 않음")
+  void slowLoad_DoesNotBlockOtherKeys() throws Exception {
+    // given
+    ProfileSearchCache cache = newCache(true);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    Future<Slice<UserResponse>> slow =
+        executor.submit(
+            () ->
+                cache.getFirstPage(
+                    null,
+                    10,
+                    () -> {
+                      loading.countDown();
+                      await(release);
+                      return page("user1");
+                    }));
+    loading.await(5, TimeUnit.SECONDS);
+
+    // when
+    Slice<UserResponse> other =
+        cache.getFirstPage(
+            ProfileSearchCriteria.builder().city("SEOUL").build(), 10, () -> page("user2"));
+
+    // then
+    assertThat(other.getContent().get(0).getUserId()).isEqualTo("user2");
+    release.countDown();
+    assertThat(slow.get(5, TimeUnit.SECONDS).getContent()).hasSize(1);
+    executor.shutdownNow();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -3,15 +3,22 @@ package com.teambind.profileserver.service.search;
 import static com.teambind.profileserver.fixture.TestFixtureFactory.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.teambind.profileserver.config.datasource.ReadYourWritesTracker;
 import com.teambind.profileserver.dto.response.BatchUserSummaryResponse;
 import com.teambind.profileserver.dto.response.UserResponse;
 import com.teambind.profileserver.entity.UserInfo;
+import com.teambind.profileserver.events.local.ProfileChangedEvent;
 import com.teambind.profileserver.exceptions.ProfileErrorCode;
 import com.teambind.profileserver.exceptions.ProfileException;
 import com.teambind.profileserver.repository.ProfileSearchRepository;
 import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
+import com.teambind.profileserver.utils.concurrent.SingleFlight;
+import com.teambind.profileserver.utils.diagnostics.QueryBudget;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -19,10 +26,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.function.ThrowingConsumer;
 
 /**
  * ProfileSearchService 단위 테스트
@@ -38,6 +49,24 @@ class ProfileSearchServiceTest {
   private static final String TEST_USER_ID = "testUser123";
   @InjectMocks private ProfileSearchService profileSearchService;
   @Mock private ProfileSearchRepository repository;
+  @Mock private ReadYourWritesTracker readYourWritesTracker;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Mock private QueryBudget queryBudget;
+
+  @Spy
+  private ProfileSearchCache searchCache =
+      new ProfileSearchCache(
+          true,
+          Duration.ofSeconds(30),
+          100,
+          new SingleFlight<>("search-first-page", Duration.ofSeconds(2)));
+
+  @Spy
+  private SingleFlight<String, UserResponse> profileByIdSingleFlight =
+      new SingleFlight<>("profile-by-id", Duration.ofSeconds(2));
+
+  @Spy
+  private ProfileCache profileCache = new ProfileCache(true, Duration.ofSeconds(5), 100, null);
 
   @Nested
   @DisplayName("ID로 프로필 조회 (searchProfileById)")
@@ -112,6 +141,50 @@ class ProfileSearchServiceTest {
       assertThat(result.getUserId()).isEqualTo(TEST_USER_ID);
       verify(repository).search(TEST_USER_ID);
     }
+
+    @Test
+    @DisplayName("단건 조회는 single-flight 를 거쳐 한 번 로드")
+    void searchProfileById_GoesThroughSingleFlight() {
+      // given
+      when(repository.search(TEST_USER_ID)).thenReturn(createDefaultUserInfo(TEST_USER_ID));
+
+      // when
+      profileSearchService.searchProfileById(TEST_USER_ID);
+
+      // then
+      verify(profileByIdSingleFlight).execute(eq(TEST_USER_ID), any());
+      assertThat(profileByIdSingleFlight.getLeaderCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("방금 수정한 사용자는 single-flight 를 거치지 않고 프라이머리에서 조회")
+    void searchProfileById_RecentlyWritten_BypassesSingleFlight() {
+      // given
+      when(readYourWritesTracker.isRecentlyWritten(TEST_USER_ID)).thenReturn(true);
+      when(repository.search(TEST_USER_ID)).thenReturn(createDefaultUserInfo(TEST_USER_ID));
+
+      // when
+      UserResponse result = profileSearchService.searchProfileById(TEST_USER_ID);
+
+      // then
+      assertThat(result.getUserId()).isEqualTo(TEST_USER_ID);
+      verify(profileByIdSingleFlight, never()).execute(any(), any());
+    }
+
+    @Test
+    @DisplayName("성공 - 두 번째 조회는 프로필 캐시에서 응답")
+    void searchProfileById_SecondLookupServedFromCache() {
+      // given
+      when(repository.search(TEST_USER_ID)).thenReturn(createDefaultUserInfo(TEST_USER_ID));
+
+      // when
+      profileSearchService.searchProfileById(TEST_USER_ID);
+      UserResponse second = profileSearchService.searchProfileById(TEST_USER_ID);
+
+      // then
+      assertThat(second.getUserId()).isEqualTo(TEST_USER_ID);
+      verify(repository, times(1)).search(TEST_USER_ID);
+    }
   }
 
   @Nested
@@ -329,6 +402,168 @@ class ProfileSearchServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("큰 배치 스트리밍 조회")
+  class StreamByIds {
+
+    @Test
+    @DisplayName("성공 - 조각 크기만큼 나눠 조회하고 조각마다 트랜잭션을 커밋")
+    void streamDetailProfilesByIds_Chunks() {
+      // given
+      List<String> userIds = List.of("user1", "user2", "user3", "user4", "user5");
+      when(repository.searchDetailByUserIds(anyList()))
+          .thenAnswer(
+              invocation ->
+                  invocation.<List<String>>getArgument(0).stream()
+                      .map(id -> createDefaultUserInfo(id))
+                      .toList());
+      List<String> written = new ArrayList<>();
+
+      // when
+      profileSearchService.streamDetailProfilesByIds(
+          userIds, 2, response -> written.add(response.getUserId()));
+
+      // then
+      assertThat(written).containsExactlyElementsOf(userIds);
+      verify(repository).searchDetailByUserIds(List.of("user1", "user2"));
+      verify(repository).searchDetailByUserIds(List.of("user3", "user4"));
+      verify(repository).searchDetailByUserIds(List.of("user5"));
+      verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("성공 - 요약 응답도 조각 단위로 내보냄")
+    void streamProfilesByIds_Chunks() {
+      // given
+      List<String> userIds = List.of("user1", "user2", "user3");
+      when(repository.searchByUserIds(anyList()))
+          .thenAnswer(
+              invocation ->
+                  invocation.<List<String>>getArgument(0).stream()
+                      .map(id -> createDefaultUserInfo(id))
+                      .toList());
+      List<BatchUserSummaryResponse> written = new ArrayList<>();
+
+      // when
+      profileSearchService.streamProfilesByIds(userIds, 2, written::add);
+
+      // then
+      assertThat(written).extracting(BatchUserSummaryResponse::getUserId).isEqualTo(userIds);
+      verify(repository, times(2)).searchByUserIds(anyList());
+      verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("응답은 조각의 트랜잭션이 끝난 뒤에 내보냄 (쓰는 동안 커넥션을 잡지 않음)")
+    @SuppressWarnings("unchecked")
+    void streamProfilesByIds_WritesAfterCommit() {
+      // given
+      when(repository.searchByUserIds(anyList()))
+          .thenReturn(List.of(createDefaultUserInfo("user1")));
+      ThrowingConsumer<BatchUserSummaryResponse> consumer = mock(ThrowingConsumer.class);
+
+      // when
+      profileSearchService.streamProfilesByIds(List.of("user1"), 10, consumer);
+
+      // then
+      InOrder inOrder = inOrder(transactionManager, consumer);
+      inOrder.verify(transactionManager).commit(any());
+      inOrder.verify(consumer).accept(any());
+    }
+
+    @Test
+    @DisplayName("SQL 수 집계가 켜져 있으면 조각마다 범위를 열어 기록")
+    void streamProfilesByIds_CountsPerChunk() {
+      // given
+      when(queryBudget.isEnabled()).thenReturn(true);
+      when(repository.searchByUserIds(anyList())).thenReturn(List.of());
+
+      // when
+      profileSearchService.streamProfilesByIds(List.of("user1", "user2", "user3"), 2, r -> {});
+
+      // then
+      verify(queryBudget, times(2)).open();
+      verify(queryBudget, times(2))
+          .finish(any(), eq("http"), eq(ProfileSearchService.STREAM_ENDPOINT));
+    }
+  }
+
+  @Nested
+  @DisplayName("첫 페이지 캐시")
+  class FirstPageCache {
+
+    private Slice<UserInfo> slice(String... userIds) {
+      List<UserInfo> users = Arrays.stream(userIds).map(id -> createDefaultUserInfo(id)).toList();
+      return new SliceImpl<>(users, PageRequest.of(0, 10), false);
+    }
+
+    @Test
+    @DisplayName("성공 - 같은 조건의 첫 페이지는 한 번만 조회")
+    void firstPage_CachedForSameCriteria() {
+      // given
+      ProfileSearchCriteria criteria = ProfileSearchCriteria.builder().city("SEOUL").build();
+      when(repository.searchByCursor(criteria, null, 10)).thenReturn(slice("user1", "user2"));
+
+      // when
+      Slice<UserResponse> first = profileSearchService.searchProfilesByCursor(criteria, null, 10);
+      Slice<UserResponse> second = profileSearchService.searchProfilesByCursor(criteria, null, 10);
+
+      // then
+      assertThat(second.getContent()).isEqualTo(first.getContent());
+      verify(repository, times(1)).searchByCursor(criteria, null, 10);
+    }
+
+    @Test
+    @DisplayName("성공 - 지역 대소문자, 장르 순서/중복이 달라도 같은 키")
+    void firstPage_NormalizedCriteriaShareEntry() {
+      // given
+      ProfileSearchCriteria lower =
+          ProfileSearchCriteria.builder().city(" seoul").genres(List.of(3, 1, 3)).build();
+      ProfileSearchCriteria upper =
+          ProfileSearchCriteria.builder().city("SEOUL").genres(List.of(1, 3)).build();
+      when(repository.searchByCursor(lower, null, 10)).thenReturn(slice("user1"));
+
+      // when
+      profileSearchService.searchProfilesByCursor(lower, null, 10);
+      Slice<UserResponse> result = profileSearchService.searchProfilesByCursor(upper, null, 10);
+
+      // then
+      assertThat(result.getContent()).hasSize(1);
+      verify(repository, never()).searchByCursor(upper, null, 10);
+    }
+
+    @Test
+    @DisplayName("커서가 있는 다음 페이지는 캐시하지 않음")
+    void nextPage_NotCached() {
+      // given
+      ProfileSearchCriteria criteria = ProfileSearchCriteria.builder().build();
+      when(repository.searchByCursor(criteria, "user5", 10)).thenReturn(slice("user4"));
+
+      // when
+      profileSearchService.searchProfilesByCursor(criteria, "user5", 10);
+      profileSearchService.searchProfilesByCursor(criteria, "user5", 10);
+
+      // then
+      verify(repository, times(2)).searchByCursor(criteria, "user5", 10);
+    }
+
+    @Test
+    @DisplayName("프로필 변경 이벤트를 받으면 캐시를 비움")
+    void profileChanged_InvalidatesCache() {
+      // given
+      ProfileSearchCriteria criteria = ProfileSearchCriteria.builder().build();
+      when(repository.searchByCursor(criteria, null, 10)).thenReturn(slice("user1"));
+      profileSearchService.searchProfilesByCursor(criteria, null, 10);
+
+      // when
+      searchCache.onProfileChanged(ProfileChangedEvent.of("user1"));
+      profileSearchService.searchProfilesByCursor(criteria, null, 10);
+
+      // then
+      verify(repository, times(2)).searchByCursor(criteria, null, 10);
+    }
+  }
+
   @Nested
   @DisplayName("여러 ID로 배치 조회 (searchProfilesByIds)")
   class SearchProfilesByIds {
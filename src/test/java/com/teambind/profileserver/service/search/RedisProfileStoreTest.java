@@ -0,0 +1,139 @@
+package com.teambind.profileserver.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.utils.json.JsonUtilWithObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * RedisProfileStore 단위 테스트
+ *
+ * <p>테스트 전략: Redis 서버 없이 StringRedisTemplate 을 Mock 으로 두고 키/값 형식, 장애 시 미스 처리, 무효화 메시지 처리를 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisProfileStore 테스트")
+class RedisProfileStoreTest {
+
+  private static final String CHANNEL = "profile:cache:invalidate";
+  private static final Duration TTL = Duration.ofMinutes(1);
+  private static final Duration FILL_GUARD = Duration.ofSeconds(10);
+
+  @Mock private StringRedisTemplate redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+
+  private final JsonUtilWithObjectMapper jsonUtil = new JsonUtilWithObjectMapper();
+  private RedisProfileStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new RedisProfileStore(redisTemplate, jsonUtil, TTL, FILL_GUARD, CHANNEL);
+  }
+
+  @Test
+  @DisplayName("성공 - 저장한 JSON 을 UserResponse 로 복원")
+  void putThenGet_RoundTrip() {
+    // given
+    UserResponse response =
+        UserResponse.builder()
+            .userId("user1")
+            .nickname("nick")
+            .genres(List.of("ROCK"))
+            .isChattable(true)
+            .build();
+
+    // when
+    store.put("user1", response);
+
+    // then - 표식이 없을 때만 쓰는 스크립트로 저장
+    String json = jsonUtil.toJson(response);
+    verify(redisTemplate)
+        .execute(
+            RedisProfileStore.PUT_UNLESS_GUARDED,
+            List.of("profile:v1:user1", "profile:v1:guard:user1"),
+            json,
+            "60000");
+    when(valueOperations.get("profile:v1:user1")).thenReturn(json);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    assertThat(store.get("user1")).contains(response);
+  }
+
+  @Test
+  @DisplayName("Redis 장애 시 예외 없이 미스 처리")
+  void get_RedisDown_ReturnsEmpty() {
+    // given
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get(anyString()))
+        .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+    // when & then
+    assertThat(store.get("user1")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("성공 - evict 는 키 삭제와 fill-guard 표식을 남긴 뒤 무효화 채널에 ID 목록 발행")
+  void evict_DeletesGuardsAndPublishes() {
+    // when
+    store.evict(List.of("user1", "user2"));
+
+    // then
+    verify(redisTemplate)
+        .execute(
+            RedisProfileStore.EVICT_AND_GUARD,
+            List.of(
+                "profile:v1:user1",
+                "profile:v1:guard:user1",
+                "profile:v1:user2",
+                "profile:v1:guard:user2"),
+            "10000");
+    verify(redisTemplate).convertAndSend(CHANNEL, "[\"user1\",\"user2\"]");
+  }
+
+  @Test
+  @DisplayName("성공 - 무효화 메시지를 받으면 구독자에게 ID 전달")
+  void onMessage_NotifiesListeners() {
+    // given
+    List<Collection<String>> received = new ArrayList<>();
+    store.onInvalidation(received::add);
+    byte[] body = "[\"user1\"]".getBytes(StandardCharsets.UTF_8);
+
+    // when
+    store.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+    // then
+    assertThat(received).containsExactly(List.of("user1"));
+  }
+
+  @Test
+  @DisplayName("형식이 잘못된 메시지는 무시")
+  void onMessage_Malformed_Ignored() {
+    // given
+    List<Collection<String>> received = new ArrayList<>();
+    store.onInvalidation(received::add);
+
+    // when
+    store.onMessage(
+        new DefaultMessage(
+            CHANNEL.getBytes(StandardCharsets.UTF_8), "oops".getBytes(StandardCharsets.UTF_8)),
+        null);
+
+    // then
+    assertThat(received).isEmpty();
+  }
+}
@@ -13,6 +13,8 @@ import com.teambind.profileserver.exceptions.ProfileErrorCode;
 import com.teambind.profileserver.exceptions.ProfileException;
 import com.teambind.profileserver.repository.UserInfoRepository;
 import com.teambind.profileserver.utils.InitTableMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +24,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 /**
  * ProfileUpdateService 단위 테스트
@@ -38,6 +42,8 @@ class ProfileUpdateServiceTest {
   @InjectMocks private ProfileUpdateService profileUpdateService;
   @Mock private UserInfoRepository userInfoRepository;
   @Mock private EventPublisher eventPublisher;
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
+  @Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
   private UserInfo testUser;
 
   @BeforeEach
@@ -525,6 +531,27 @@ class ProfileUpdateServiceTest {
 
       verify(userInfoRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("실패한 업데이트는 오류 코드를 outcome 태그로 기록")
+    void updateProfile_UserNotFound_RecordsOutcome() {
+      // given
+      ProfileUpdateRequest request = createBasicUpdateRequest();
+      when(userInfoRepository.findById(TEST_USER_ID)).thenReturn(Optional.empty());
+
+      // when
+      assertThatThrownBy(() -> profileUpdateService.updateProfile(TEST_USER_ID, request))
+          .isInstanceOf(ProfileException.class);
+
+      // then
+      assertThat(
+              meterRegistry
+                  .get(ProfileUpdateService.UPDATE_TIMER)
+                  .tags("operation", "profile", "outcome", "USER_NOT_FOUND")
+                  .timer()
+                  .count())
+          .isEqualTo(1);
+    }
   }
 
   @Nested
@@ -0,0 +1,161 @@
+package com.teambind.profileserver.service.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.repository.search.ProfileSearchCriteria;
+import com.teambind.profileserver.service.search.ProfileSearchService;
+import com.teambind.profileserver.utils.InitTableMapper;
+import com.teambind.profileserver.utils.diagnostics.SlowQueryRecorder;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarmupRunner 테스트")
+class WarmupRunnerTest {
+
+  @Mock private ProfileSearchService profileSearchService;
+  @Mock private ObjectProvider<HikariDataSource> dataSources;
+  @Mock private SlowQueryRecorder slowQueryRecorder;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<UserResponse> firstPage =
+      List.of(
+          UserResponse.builder().userId("u2").build(), UserResponse.builder().userId("u1").build());
+
+  @BeforeEach
+  void setUp() {
+    when(dataSources.orderedStream()).thenAnswer(invocation -> Stream.empty());
+  }
+
+  private void givenFirstPage() {
+    when(profileSearchService.searchProfilesByCursor(any(), isNull(), anyInt()))
+        .thenReturn(new SliceImpl<>(firstPage, PageRequest.of(0, 20), false));
+  }
+
+  private long warmups(String outcome) {
+    return meterRegistry.get(WarmupRunner.WARMUP_TIMER).tag("outcome", outcome).timer().count();
+  }
+
+  private WarmupRunner runner(int iterations, Duration timeout) {
+    return new WarmupRunner(
+        profileSearchService,
+        dataSources,
+        new ObjectMapper(),
+        slowQueryRecorder,
+        meterRegistry,
+        iterations,
+        20,
+        timeout);
+  }
+
+  @Test
+  @DisplayName("대표 검색과 배치 조회를 반복하고 첫 페이지 사용자로 프로필 캐시를 채운다")
+  void run_WarmsSearchesAndCache() {
+    // given
+    givenFirstPage();
+
+    // when
+    runner(3, Duration.ofSeconds(30)).run(null);
+
+    // then
+    verify(profileSearchService, times(3)).searchProfilesByIds(List.of("u2", "u1"));
+    verify(profileSearchService, times(3)).searchDetailProfilesByIds(List.of("u2", "u1"));
+    verify(profileSearchService).searchProfileById("u2");
+    verify(profileSearchService).searchProfileById("u1");
+    verify(slowQueryRecorder).clear();
+    assertThat(warmups("completed")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("개별 호출이 실패해도 기동을 막지 않고 끝까지 진행")
+  void run_ToleratesFailures() {
+    // given
+    givenFirstPage();
+    when(profileSearchService.searchProfilesByIds(anyList()))
+        .thenThrow(new IllegalStateException("db down"));
+
+    // when
+    runner(2, Duration.ofSeconds(30)).run(null);
+
+    // then
+    verify(profileSearchService, times(2)).searchDetailProfilesByIds(anyList());
+    assertThat(warmups("completed")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("제한 시간을 넘기면 중단하고 timeout 으로 기록")
+  void run_StopsAtDeadline() {
+    // when - 이미 지난 제한 시간
+    runner(5, Duration.ofMillis(-1)).run(null);
+
+    // then
+    verify(profileSearchService, never()).searchProfileById(anyString());
+    assertThat(warmups("timeout")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("닉네임 부분 일치, 성별 단독, 조건 없는 페이지 검색처럼 전체를 훑는 조회는 쓰지 않음")
+  void representativeCriteria_AreSelective() {
+    // given
+    HashMap<String, String> savedLocations = InitTableMapper.locationNamesTable;
+    HashMap<String, String> locations = new HashMap<>();
+    locations.put("SEOUL", "서울");
+    InitTableMapper.locationNamesTable = locations;
+    try {
+      // when
+      List<ProfileSearchCriteria> criteria = WarmupRunner.representativeCriteria();
+
+      // then
+      assertThat(criteria).noneMatch(each -> each.getNickName() != null);
+      assertThat(criteria)
+          .filteredOn(each -> each.getSex() != null)
+          .allMatch(each -> "SEOUL".equals(each.getCity()));
+      assertThat(criteria.get(criteria.size() - 1).getCity()).isEqualTo("SEOUL");
+    } finally {
+      InitTableMapper.locationNamesTable = savedLocations;
+    }
+  }
+
+  @Test
+  @DisplayName("지역이 없으면 COUNT 를 동반하는 페이지 검색을 건너뜀")
+  void run_SkipsPageSearchWithoutCity() {
+    // given
+    HashMap<String, String> savedLocations = InitTableMapper.locationNamesTable;
+    InitTableMapper.locationNamesTable = new HashMap<>();
+    givenFirstPage();
+    try {
+      // when
+      runner(1, Duration.ofSeconds(30)).run(null);
+
+      // then
+      verify(profileSearchService, never()).searchProfiles(any(), any());
+    } finally {
+      InitTableMapper.locationNamesTable = savedLocations;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.teambind.profileserver.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.teambind.profileserver.utils.diagnostics.QueryCounter;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+/**
+ * SQL 문 수 예산 검증
+ *
+ * <p>action 을 현재 스레드에서 실행하는 동안 Hibernate 가 실행한 SQL 수가 max 이하인지 검증한다. MockMvc 요청도 같은 스레드에서 처리되므로
+ * 감쌀 수 있다. 같은 트랜잭션에서 저장한 엔티티는 영속성 컨텍스트에서 바로 읽히므로 측정 전에 flush/clear 해야 실제 조회 수가 나온다.
+ *
+ * <pre>{@code
+ * List<UserResponse> result =
+ *     assertMaxQueries(3, () -> profileSearchService.searchDetailProfilesByIds(userIds));
+ * }</pre>
+ */
+public final class QueryCountAssertions {
+
+  private QueryCountAssertions() {}
+
+  public static <T> T assertMaxQueries(int max, ThrowingSupplier<T> action) throws Throwable {
+    try (QueryCounter.Scope scope = QueryCounter.open(0)) {
+      T result = action.get();
+      assertThat(scope.count()).as("executed SQL statements").isLessThanOrEqualTo(max);
+      return result;
+    }
+  }
+
+  public static void assertMaxQueries(int max, Executable action) throws Throwable {
+    assertMaxQueries(
+        max,
+        () -> {
+          action.execute();
+          return null;
+        });
+  }
+}
@@ -0,0 +1,204 @@
+package com.teambind.profileserver.utils.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+  private static final int CALLERS = 16;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  /** 리더가 loader 안에서 대기하는 동안 나머지 호출을 모두 진입시킨다 */
+  private List<Future<String>> submitConcurrently(
+      SingleFlight<String, String> singleFlight,
+      String key,
+      CountDownLatch release,
+      AtomicInteger loads) {
+    List<Future<String>> futures = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      futures.add(
+          executor.submit(
+              () ->
+                  singleFlight.execute(
+                      key,
+                      () -> {
+                        loads.incrementAndGet();
+                        await(release);
+                        return "value-" + key;
+                      })));
+    }
+    return futures;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void waitUntilMerged(SingleFlight<?, ?> singleFlight, long expected)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (singleFlight.getMergedCount() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  @Test
+  @DisplayName("성공 - 같은 키의 동시 호출은 한 번만 로드하고 결과를 공유")
+  void concurrentCallsShareOneLoad() throws Exception {
+    // given
+    SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5));
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    List<Future<String>> futures = submitConcurrently(singleFlight, "user1", release, loads);
+    waitUntilMerged(singleFlight, CALLERS - 1);
+    release.countDown();
+
+    // then
+    for (Future<String> future : futures) {
+      assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("value-user1");
+    }
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(singleFlight.getLeaderCount()).isEqualTo(1);
+    assertThat(singleFlight.getMergedCount()).isEqualTo(CALLERS - 1);
+    assertThat(singleFlight.getInFlightCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("성공 - 완료된 뒤의 호출은 결과를 보관하지 않고 다시 로드")
+  void completedFlightIsNotCached() {
+    // given
+    SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(1));
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    singleFlight.execute("user1", () -> "v" + loads.incrementAndGet());
+    String second = singleFlight.execute("user1", () -> "v" + loads.incrementAndGet());
+
+    // then
+    assertThat(second).isEqualTo("v2");
+    assertThat(singleFlight.getMergedCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("리더의 예외는 대기 중인 호출에도 그대로 전달")
+  void leaderExceptionPropagatesToFollowers() throws Exception {
+    // given
+    SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5));
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Future<String> leader =
+        executor.submit(
+            () ->
+                singleFlight.execute(
+                    "user1",
+                    () -> {
+                      leaderStarted.countDown();
+                      await(release);
+                      throw new IllegalArgumentException("not found");
+                    }));
+    leaderStarted.await(5, TimeUnit.SECONDS);
+    Future<String> follower = executor.submit(() -> singleFlight.execute("user1", () -> "other"));
+    waitUntilMerged(singleFlight, 1);
+
+    // when
+    release.countDown();
+
+    // then
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("대기 시간을 넘긴 호출은 직접 로드")
+  void followerTimeoutFallsBackToOwnLoad() throws Exception {
+    // given
+    SingleFlight<String, String> singleFlight =
+        new SingleFlight<>("test", Duration.ofMillis(50));
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    executor.submit(
+        () ->
+            singleFlight.execute(
+                "user1",
+                () -> {
+                  leaderStarted.countDown();
+                  await(release);
+                  return "slow";
+                }));
+    leaderStarted.await(5, TimeUnit.SECONDS);
+
+    // when
+    String result = singleFlight.execute("user1", () -> "direct");
+    release.countDown();
+
+    // then
+    assertThat(result).isEqualTo("direct");
+    assertThat(singleFlight.getTimeoutCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("다른 키는 서로 합쳐지지 않음")
+  void differentKeysLoadIndependently() throws Exception {
+    // given
+    SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5));
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    Future<String> a =
+        executor.submit(
+            () ->
+                singleFlight.execute(
+                    "a",
+                    () -> {
+                      loads.incrementAndGet();
+                      await(release);
+                      return "A";
+                    }));
+    Future<String> b =
+        executor.submit(
+            () ->
+                singleFlight.execute(
+                    "b",
+                    () -> {
+                      loads.incrementAndGet();
+                      await(release);
+                      return "B";
+                    }));
+    release.countDown();
+
+    // then
+    assertThat(a.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+    assertThat(b.get(5, TimeUnit.SECONDS)).isEqualTo("B");
+    assertThat(loads.get()).isEqualTo(2);
+    assertThat(singleFlight.getMergedCount()).isZero();
+  }
+}
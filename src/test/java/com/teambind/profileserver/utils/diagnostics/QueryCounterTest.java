@@ -0,0 +1,81 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.teambind.profileserver.utils.diagnostics.QueryCounter.QueryBudgetExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("QueryCounter 테스트")
+class QueryCounterTest {
+
+  private final QueryCountInspector inspector = new QueryCountInspector();
+
+  @Test
+  @DisplayName("열린 범위 안에서 실행된 SQL 수를 센다")
+  void open_CountsStatements() {
+    // given
+    try (QueryCounter.Scope scope = QueryCounter.open(0)) {
+      // when
+      inspector.inspect("select 1");
+      inspector.inspect("select 2");
+
+      // then
+      assertThat(scope.count()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  @DisplayName("중첩 범위는 바깥 범위에도 함께 집계되고, 닫으면 바깥 범위로 돌아간다")
+  void nestedScopes_CountTogether() {
+    try (QueryCounter.Scope outer = QueryCounter.open(0)) {
+      inspector.inspect("select 1");
+      try (QueryCounter.Scope inner = QueryCounter.open(0)) {
+        inspector.inspect("select 2");
+        assertThat(inner.count()).isEqualTo(1);
+      }
+      inspector.inspect("select 3");
+
+      assertThat(outer.count()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  @DisplayName("열린 범위가 없으면 아무것도 하지 않고 SQL 을 그대로 돌려준다")
+  void noScope_NoOp() {
+    assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+  }
+
+  @Test
+  @DisplayName("실패 한도를 넘는 SQL 은 실행 전에 예외로 막는다")
+  void failLimit_Throws() {
+    try (QueryCounter.Scope scope = QueryCounter.open(2)) {
+      assertThatNoException()
+          .isThrownBy(
+              () -> {
+                inspector.inspect("select 1");
+                inspector.inspect("select 2");
+              });
+
+      assertThatThrownBy(() -> inspector.inspect("select 3"))
+          .isInstanceOf(QueryBudgetExceededException.class)
+          .hasMessageContaining("3 > 2");
+    }
+  }
+
+  @Test
+  @DisplayName("SQL 수집 범위만 실행된 SQL 을 순서대로 보관한다")
+  void captureSql_KeepsStatements() {
+    try (QueryCounter.Scope outer = QueryCounter.open(0);
+        QueryCounter.Scope capturing = QueryCounter.open(0, true)) {
+      inspector.inspect("select 1");
+      inspector.inspect("select 2");
+
+      assertThat(capturing.statements()).containsExactly("select 1", "select 2");
+      assertThat(outer.statements()).isEmpty();
+      assertThat(outer.count()).isEqualTo(2);
+    }
+  }
+}
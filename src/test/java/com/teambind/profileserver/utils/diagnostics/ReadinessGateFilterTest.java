@@ -0,0 +1,62 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("ReadinessGateFilter 테스트")
+class ReadinessGateFilterTest {
+
+  private final ApplicationAvailability availability = mock(ApplicationAvailability.class);
+  private final ReadinessGateFilter filter = new ReadinessGateFilter(availability);
+
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  // 요청이 다음 필터로 넘어갔는지
+  private boolean passes(String uri) throws Exception {
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(new MockHttpServletRequest("GET", uri), response, chain);
+    return chain.getRequest() != null;
+  }
+
+  @Test
+  @DisplayName("준비 전에는 API 요청을 503 으로 거절")
+  void notReady_RejectsApiRequests() throws Exception {
+    // given
+    when(availability.getReadinessState()).thenReturn(ReadinessState.REFUSING_TRAFFIC);
+
+    // when
+    boolean passed = passes("/api/v1/profiles/user1");
+
+    // then
+    assertThat(passed).isFalse();
+    assertThat(response.getStatus()).isEqualTo(503);
+    assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+  }
+
+  @Test
+  @DisplayName("준비 전에도 헬스체크와 actuator 는 통과")
+  void notReady_AllowsHealthAndActuator() throws Exception {
+    // when & then - shouldNotFilter 이므로 준비 상태를 묻지 않는다
+    assertThat(passes("/health/ready")).isTrue();
+    assertThat(passes("/actuator/prometheus")).isTrue();
+  }
+
+  @Test
+  @DisplayName("준비되면 요청을 그대로 통과")
+  void ready_PassesThrough() throws Exception {
+    // given
+    when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+
+    // when & then
+    assertThat(passes("/api/v1/profiles/user1")).isTrue();
+  }
+}
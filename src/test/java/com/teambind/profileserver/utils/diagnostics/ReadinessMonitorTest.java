@@ -0,0 +1,146 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.teambind.profileserver.entity.attribute.nameTable.GenreNameTable;
+import com.teambind.profileserver.entity.attribute.nameTable.InstrumentNameTable;
+import com.teambind.profileserver.utils.InitTableMapper;
+import com.teambind.profileserver.utils.diagnostics.ReadinessMonitor.Snapshot;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+
+@DisplayName("ReadinessMonitor 테스트")
+class ReadinessMonitorTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ApplicationAvailability availability = mock(ApplicationAvailability.class);
+  private final HikariDataSource dataSource = mock(HikariDataSource.class);
+  private final HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+  private final AtomicLong kafkaLag = new AtomicLong();
+
+  private HashMap<Integer, GenreNameTable> savedGenres;
+  private HashMap<Integer, InstrumentNameTable> savedInstruments;
+  private ReadinessMonitor monitor;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    savedGenres = InitTableMapper.genreNameTable;
+    savedInstruments = InitTableMapper.instrumentNameTable;
+    loadNameTables();
+
+    when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+    when(dataSource.getPoolName()).thenReturn("profile-primary");
+    when(dataSource.getMaximumPoolSize()).thenReturn(9);
+    when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+    Gauge.builder(ReadinessMonitor.KAFKA_LAG_METRIC, kafkaLag, AtomicLong::get)
+        .tag("partition", "0")
+        .register(meterRegistry);
+
+    ObjectProvider<HikariDataSource> dataSources = mock(ObjectProvider.class);
+    when(dataSources.orderedStream()).thenAnswer(invocation -> Stream.of(dataSource));
+    monitor = new ReadinessMonitor(dataSources, meterRegistry, availability, 5, 1000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    InitTableMapper.genreNameTable = savedGenres;
+    InitTableMapper.instrumentNameTable = savedInstruments;
+  }
+
+  private static void loadNameTables() {
+    HashMap<Integer, GenreNameTable> genres = new HashMap<>();
+    genres.put(1, new GenreNameTable());
+    HashMap<Integer, InstrumentNameTable> instruments = new HashMap<>();
+    instruments.put(1, new InstrumentNameTable());
+    InitTableMapper.genreNameTable = genres;
+    InitTableMapper.instrumentNameTable = instruments;
+  }
+
+  @Test
+  @DisplayName("모든 항목이 정상이면 준비 상태")
+  void refresh_AllUp() {
+    // when
+    Snapshot snapshot = monitor.refresh();
+
+    // then
+    assertThat(snapshot.ready()).isTrue();
+    assertThat(snapshot.checks())
+        .containsOnlyKeys("application", "db.profile-primary", "kafka.lag", "init-table");
+    assertThat(snapshot.checks().get("db.profile-primary").detail())
+        .isEqualTo("active 0/9, pending 0");
+    assertThat(meterRegistry.get("profile.readiness").gauge().value()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("커넥션 대기 스레드가 한도를 넘으면 미준비")
+  void refresh_PoolSaturated() {
+    // given
+    when(pool.getActiveConnections()).thenReturn(9);
+    when(pool.getThreadsAwaitingConnection()).thenReturn(6);
+
+    // when
+    Snapshot snapshot = monitor.refresh();
+
+    // then
+    assertThat(snapshot.ready()).isFalse();
+    assertThat(snapshot.checks().get("db.profile-primary").up()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Kafka 소비 지연이 한도를 넘으면 미준비")
+  void refresh_KafkaLagging() {
+    // given
+    kafkaLag.set(1001);
+
+    // when
+    Snapshot snapshot = monitor.refresh();
+
+    // then
+    assertThat(snapshot.ready()).isFalse();
+    assertThat(snapshot.checks().get("kafka.lag").detail()).isEqualTo("max lag 1001");
+  }
+
+  @Test
+  @DisplayName("이름 테이블이 비어 있거나 애플리케이션이 트래픽을 거부 중이면 미준비")
+  void refresh_NotLoadedOrRefusing() {
+    // given
+    InitTableMapper.genreNameTable = new HashMap<>();
+    when(availability.getReadinessState()).thenReturn(ReadinessState.REFUSING_TRAFFIC);
+
+    // when
+    Snapshot snapshot = monitor.refresh();
+
+    // then
+    assertThat(snapshot.ready()).isFalse();
+    assertThat(snapshot.checks().get("init-table").up()).isFalse();
+    assertThat(snapshot.checks().get("application").detail()).isEqualTo("REFUSING_TRAFFIC");
+  }
+
+  @Test
+  @DisplayName("current 는 갱신 전까지 캐시된 결과를 돌려준다")
+  void current_ReturnsCached() {
+    // given
+    Snapshot first = monitor.refresh();
+    kafkaLag.set(5000);
+
+    // when & then
+    assertThat(monitor.current()).isSameAs(first);
+    assertThat(monitor.refresh().ready()).isFalse();
+  }
+}
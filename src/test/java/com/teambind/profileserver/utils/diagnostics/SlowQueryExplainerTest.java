@@ -0,0 +1,105 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlowQueryExplainer 테스트")
+class SlowQueryExplainerTest {
+
+  private static final String CURSOR_SQL =
+      "select u.user_id from user_info u where u.city=? and exists(select 1 from user_genres g"
+          + " where g.user_id=u.user_id and g.genre_id in (?,?,?,?)) order by u.user_id desc"
+          + " limit ?";
+
+  @InjectMocks private SlowQueryExplainer explainer;
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private SlowQuery entry() {
+    return new SlowQuery(1L, "cursor", "city+genres", Map.of(), List.of(CURSOR_SQL), 250L);
+  }
+
+  @Nested
+  @DisplayName("바인딩 값 구성")
+  class BindValues {
+
+    @Test
+    @DisplayName("IN 목록 패딩을 켜면 2의 거듭제곱 개수까지 마지막 값을 반복하고, 남은 자리는 limit 으로 채움")
+    void bindValues_PadsInClauseAndLimit() {
+      List<Object> values =
+          SlowQueryExplainer.bindValues(CURSOR_SQL, List.of("SEOUL", List.of(1, 2, 3)), 21, true);
+
+      assertThat(values).containsExactly("SEOUL", 1, 2, 3, 3, 21);
+    }
+
+    @Test
+    @DisplayName("값이 자리표시자보다 많으면 실패")
+    void bindValues_TooManyValues() {
+      assertThatThrownBy(
+              () ->
+                  SlowQueryExplainer.bindValues(
+                      "select 1 from t where a=?", List.of("x", "y"), 1, false))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("mismatch");
+    }
+
+    @Test
+    @DisplayName("문자열 리터럴 안의 ? 는 자리표시자로 세지 않음")
+    void countPlaceholders_IgnoresQuoted() {
+      assertThat(SlowQueryExplainer.countPlaceholders("select '?' from t where a=? and b like ?"))
+          .isEqualTo(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("EXPLAIN 실행")
+  class Explain {
+
+    @Test
+    @DisplayName("재바인딩한 값으로 EXPLAIN 을 실행하고 결과를 기록에 붙임")
+    void explain_AttachesPlan() {
+      // given
+      SlowQuery entry = entry();
+      List<Map<String, Object>> plan = List.of(Map.of("table", "u", "key", "idx_city"));
+      when(jdbcTemplate.queryForList(
+              eq("EXPLAIN " + CURSOR_SQL), eq("SEOUL"), eq(1), eq(2), eq(3), eq(3), eq(21)))
+          .thenReturn(plan);
+      entry.explainPending();
+
+      // when
+      explainer.explain(entry, CURSOR_SQL, List.of("SEOUL", List.of(1, 2, 3, 3)), 21);
+
+      // then
+      assertThat(entry.getExplainStatus()).isEqualTo(SlowQuery.ExplainStatus.DONE);
+      assertThat(entry.getExplain()).isEqualTo(plan);
+    }
+
+    @Test
+    @DisplayName("SELECT 가 아니면 실행하지 않고 실패로 기록")
+    void explain_RejectsNonSelect() {
+      // given
+      SlowQuery entry = entry();
+
+      // when
+      explainer.explain(entry, "delete from user_info where user_id=?", List.of("u1"), 1);
+
+      // then
+      assertThat(entry.getExplainStatus()).isEqualTo(SlowQuery.ExplainStatus.FAILED);
+      verifyNoInteractions(jdbcTemplate);
+    }
+  }
+}
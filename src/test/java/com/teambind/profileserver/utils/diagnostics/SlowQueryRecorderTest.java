@@ -0,0 +1,101 @@
+package com.teambind.profileserver.utils.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SlowQueryRecorder 테스트")
+class SlowQueryRecorderTest {
+
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(300);
+
+  private final SlowQueryExplainer explainer = mock(SlowQueryExplainer.class);
+
+  private SlowQueryRecorder recorder(int capacity, double sampleRate) {
+    return new SlowQueryRecorder(explainer, true, Duration.ofMillis(200), capacity, sampleRate);
+  }
+
+  private SlowQuery record(SlowQueryRecorder recorder, String method) {
+    return recorder.record(
+        method, "city", Map.of("city", "SEOUL"), List.of("select 1"), SLOW, List::of, 20);
+  }
+
+  @Test
+  @DisplayName("임계값 이상만 느린 조회로 보고, 꺼져 있으면 항상 false")
+  void isSlow_Threshold() {
+    SlowQueryRecorder recorder = recorder(10, 0);
+    SlowQueryRecorder disabled =
+        new SlowQueryRecorder(explainer, false, Duration.ofMillis(200), 10, 0);
+
+    assertThat(recorder.isSlow(TimeUnit.MILLISECONDS.toNanos(199))).isFalse();
+    assertThat(recorder.isSlow(TimeUnit.MILLISECONDS.toNanos(200))).isTrue();
+    assertThat(disabled.isSlow(SLOW)).isFalse();
+  }
+
+  @Test
+  @DisplayName("용량을 넘으면 가장 오래된 기록부터 버리고, 최근 기록부터 돌려준다")
+  void record_EvictsOldest() {
+    // given
+    SlowQueryRecorder recorder = recorder(2, 0);
+
+    // when
+    record(recorder, "byId");
+    record(recorder, "page");
+    record(recorder, "cursor");
+
+    // then
+    assertThat(recorder.recent())
+        .extracting(SlowQuery::getMethod)
+        .containsExactly("cursor", "page");
+    assertThat(recorder.recent().get(0).getElapsedMillis()).isEqualTo(300);
+    assertThat(recorder.recent().get(0).getExplainStatus())
+        .isEqualTo(SlowQuery.ExplainStatus.NOT_SAMPLED);
+    verifyNoInteractions(explainer);
+  }
+
+  @Test
+  @DisplayName("표본으로 뽑히면 첫 SQL 로 EXPLAIN 을 요청하고, 실행 중에는 다음 요청을 건너뛴다")
+  void record_ExplainsOneAtATime() {
+    // given
+    SlowQueryRecorder recorder = recorder(10, 1.0);
+    CompletableFuture<Void> running = new CompletableFuture<>();
+    when(explainer.explain(any(), anyString(), anyList(), anyInt())).thenReturn(running);
+
+    // when
+    SlowQuery first = record(recorder, "cursor");
+    SlowQuery second = record(recorder, "cursor");
+    running.complete(null);
+    record(recorder, "cursor");
+
+    // then
+    assertThat(first.getExplainStatus()).isEqualTo(SlowQuery.ExplainStatus.PENDING);
+    assertThat(second.getExplainStatus()).isEqualTo(SlowQuery.ExplainStatus.NOT_SAMPLED);
+    verify(explainer, times(2)).explain(any(), anyString(), anyList(), anyInt());
+  }
+
+  @Test
+  @DisplayName("clear 는 기록을 모두 비운다")
+  void clear_Empties() {
+    SlowQueryRecorder recorder = recorder(10, 0);
+    record(recorder, "byId");
+
+    recorder.clear();
+
+    assertThat(recorder.recent()).isEmpty();
+  }
+}
@@ -0,0 +1,79 @@
+package com.teambind.profileserver.utils.generator.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Snowflake 테스트")
+class SnowflakeTest {
+
+  private final Snowflake snowflake = new Snowflake();
+
+  @Nested
+  @DisplayName("nextId")
+  class NextId {
+
+    @Test
+    @DisplayName("성공 - 단일 스레드에서 단조 증가")
+    void nextId_MonotonicInSingleThread() {
+      // given
+      long previous = snowflake.nextId();
+
+      // when & then
+      for (int i = 0; i < 10_000; i++) {
+        long current = snowflake.nextId();
+        assertThat(current).isGreaterThan(previous);
+        previous = current;
+      }
+    }
+
+    @Test
+    @DisplayName("성공 - 가상 스레드 동시 호출에서도 중복 없음")
+    void nextId_UniqueAcrossVirtualThreads() throws Exception {
+      // given
+      int threads = 200;
+      int perThread = 500;
+      Set<Long> ids = ConcurrentHashMap.newKeySet();
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Boolean>> results = new ArrayList<>();
+
+      // when
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (int t = 0; t < threads; t++) {
+          results.add(
+              executor.submit(
+                  () -> {
+                    start.await();
+                    long previous = Long.MIN_VALUE;
+                    boolean monotonic = true;
+                    for (int i = 0; i < perThread; i++) {
+                      long id = snowflake.nextId();
+                      monotonic &= id > previous;
+                      previous = id;
+                      ids.add(id);
+                    }
+                    return monotonic;
+                  }));
+        }
+        start.countDown();
+        for (Future<Boolean> result : results) {
+          // then - 각 스레드가 받은 ID 도 순서대로 증가
+          assertThat(result.get()).isTrue();
+        }
+      }
+
+      // then
+      assertThat(ids).hasSize(threads * perThread);
+    }
+  }
+}
@@ -5,6 +5,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.teambind.profileserver.dto.request.ProfileUpdateRequest;
 import com.teambind.profileserver.dto.response.UserResponse;
+import com.teambind.profileserver.events.event.ProfileCreateRequest;
+import com.teambind.profileserver.events.event.UserDeletedEvent;
+import com.teambind.profileserver.events.event.UserNickNameChangedEvent;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -406,4 +411,72 @@ class JsonUtilWithObjectMapperTest {
       assertThat(result.getInstruments()).isEqualTo(original.getInstruments());
     }
   }
+
+  @Nested
+  @DisplayName("바이트 경로 - byte[] / ByteBuffer")
+  class BytesTests {
+
+    @Test
+    @DisplayName("성공 - 이벤트를 바이트로 직렬화 후 역직렬화")
+    void roundTrip_Bytes_Success() {
+      // given
+      UserNickNameChangedEvent event = new UserNickNameChangedEvent("user123", "새닉네임");
+
+      // when
+      byte[] bytes = jsonUtil.toJsonBytes(event);
+      UserNickNameChangedEvent result = jsonUtil.fromJson(bytes, UserNickNameChangedEvent.class);
+
+      // then - 문자열 경로와 같은 UTF-8 JSON
+      assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(jsonUtil.toJson(event));
+      assertThat(result.getUserId()).isEqualTo("user123");
+      assertThat(result.getNickName()).isEqualTo("새닉네임");
+    }
+
+    @Test
+    @DisplayName("성공 - 오프셋이 있는 heap 버퍼와 direct 버퍼 모두 position 을 보존하며 역직렬화")
+    void fromJson_ByteBuffer_Success() {
+      // given
+      byte[] json = "{\"userId\":\"user123\"}".getBytes(StandardCharsets.UTF_8);
+      byte[] padded = new byte[json.length + 4];
+      System.arraycopy(json, 0, padded, 2, json.length);
+      ByteBuffer heap = ByteBuffer.wrap(padded, 2, json.length).slice();
+      ByteBuffer direct = ByteBuffer.allocateDirect(json.length).put(json).flip();
+
+      // when
+      UserDeletedEvent fromHeap = jsonUtil.fromJson(heap, UserDeletedEvent.class);
+      UserDeletedEvent fromDirect = jsonUtil.fromJson(direct, UserDeletedEvent.class);
+
+      // then
+      assertThat(fromHeap.getUserId()).isEqualTo("user123");
+      assertThat(fromDirect.getUserId()).isEqualTo("user123");
+      assertThat(direct.position()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공 - 알 수 없는 필드는 무시 (다른 서비스가 필드를 추가해도 소비 가능)")
+    void fromJson_UnknownProperty_Ignored() {
+      // given
+      byte[] json =
+          "{\"userId\":\"user123\",\"provider\":\"kakao\",\"extra\":1}"
+              .getBytes(StandardCharsets.UTF_8);
+
+      // when
+      ProfileCreateRequest result = jsonUtil.fromJson(json, ProfileCreateRequest.class);
+
+      // then
+      assertThat(result.getUserId()).isEqualTo("user123");
+      assertThat(result.getProvider()).isEqualTo("kakao");
+    }
+
+    @Test
+    @DisplayName("실패 - 잘못된 JSON 바이트")
+    void fromJson_InvalidBytes_ThrowsException() {
+      // given
+      byte[] invalid = "{invalid".getBytes(StandardCharsets.UTF_8);
+
+      // when & then
+      assertThatThrownBy(() -> jsonUtil.fromJson(invalid, UserDeletedEvent.class))
+          .isInstanceOf(RuntimeException.class);
+    }
+  }
 }
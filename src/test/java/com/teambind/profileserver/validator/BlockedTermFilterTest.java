@@ -0,0 +1,130 @@
+package com.teambind.profileserver.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * BlockedTermFilter 단위 테스트
+ *
+ * <p>테스트 전략: 1. Aho-Corasick 결과를 단순 contains 반복과 비교 2. 대소문자/전각/기호/한글 자모 변형 정규화 검증 3. 목록 파일 변경 시
+ * 재로딩 검증
+ */
+@DisplayName("BlockedTermFilter 단위 테스트")
+class BlockedTermFilterTest {
+
+  private static BlockedTermFilter filterOf(String... terms) {
+    String body = String.join("\n", terms);
+    return new BlockedTermFilter(new ByteArrayResource(body.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Nested
+  @DisplayName("AhoCorasickMatcher")
+  class Matcher {
+
+    @Test
+    @DisplayName("겹치는 접두사/접미사 단어도 단순 contains 와 결과가 동일")
+    void containsAny_SameAsNaiveContains() {
+      // given - 실패 링크가 필요한 단어 조합
+      List<String> words = List.of("he", "she", "his", "hers", "abcd", "bc", "ccb");
+      AhoCorasickMatcher matcher = AhoCorasickMatcher.build(words);
+      Random random = new Random(7);
+
+      for (int n = 0; n < 20_000; n++) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(12);
+        for (int i = 0; i < length; i++) {
+          sb.append("abcdehirs".charAt(random.nextInt(9)));
+        }
+        String text = sb.toString();
+
+        // when
+        boolean expected = words.stream().anyMatch(text::contains);
+
+        // then
+        assertThat(matcher.containsAny(text)).as(text).isEqualTo(expected);
+      }
+    }
+
+    @Test
+    @DisplayName("단어가 없으면 아무것도 포함하지 않음")
+    void empty_MatchesNothing() {
+      AhoCorasickMatcher matcher = AhoCorasickMatcher.build(new ArrayList<>(List.of("")));
+
+      assertThat(matcher.isEmpty()).isTrue();
+      assertThat(matcher.containsAny("anything")).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("정규화")
+  class Normalization {
+
+    @Test
+    @DisplayName("대소문자, 전각, 공백/기호 삽입 변형을 차단")
+    void latinVariants_Blocked() {
+      BlockedTermFilter filter = filterOf("fuck");
+
+      assertThat(filter.containsBlockedTerm("xxFUCKxx")).isTrue();
+      assertThat(filter.containsBlockedTerm("Ｆｕｃｋ")).isTrue();
+      assertThat(filter.containsBlockedTerm("f_u.c k")).isTrue();
+      assertThat(filter.containsBlockedTerm("duck")).isFalse();
+    }
+
+    @Test
+    @DisplayName("한글 음절과 호환 자모로 풀어 쓴 변형을 동일하게 차단")
+    void hangulJamoVariants_Blocked() {
+      BlockedTermFilter filter = filterOf("시발");
+
+      assertThat(filter.containsBlockedTerm("시발")).isTrue();
+      assertThat(filter.containsBlockedTerm("ㅅㅣㅂㅏㄹ")).isTrue();
+      assertThat(filter.containsBlockedTerm("시 발 점")).isTrue();
+      assertThat(filter.containsBlockedTerm("시바")).isFalse();
+    }
+
+    @Test
+    @DisplayName("겹받침은 두 자음으로 분리해 비교")
+    void compoundFinalConsonant_Split() {
+      assertThat(NicknameNormalizer.normalize("없"))
+          .isEqualTo(NicknameNormalizer.normalize("ㅇㅓㅂㅅ"));
+    }
+  }
+
+  @Nested
+  @DisplayName("재로딩")
+  class Reload {
+
+    @Test
+    @DisplayName("목록 파일이 수정되면 새 목록으로 교체")
+    void reloadIfModified_ReplacesTerms(@TempDir Path dir) throws IOException {
+      // given
+      Path file = dir.resolve("blocked-terms.txt");
+      Files.writeString(file, "# comment\nfoo\n", StandardCharsets.UTF_8);
+      Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000L));
+      BlockedTermFilter filter = new BlockedTermFilter(new FileSystemResource(file));
+      assertThat(filter.containsBlockedTerm("myfoo")).isTrue();
+
+      // when
+      Files.writeString(file, "bar\n", StandardCharsets.UTF_8);
+      Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000L));
+      filter.reloadIfModified();
+
+      // then
+      assertThat(filter.containsBlockedTerm("myfoo")).isFalse();
+      assertThat(filter.containsBlockedTerm("mybar")).isTrue();
+    }
+  }
+}
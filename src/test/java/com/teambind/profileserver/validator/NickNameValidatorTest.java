@@ -3,6 +3,7 @@ package com.teambind.profileserver.validator;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import jakarta.validation.ConstraintValidatorContext;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.test.util.ReflectionTestUtils;
 
 /**
@@ -385,4 +387,22 @@ class NickNameValidatorTest {
       assertThat(result).isFalse();
     }
   }
+
+  @Nested
+  @DisplayName("금칙어 검증")
+  class BlockedTerms {
+
+    @Test
+    @DisplayName("실패 - 형식은 맞지만 금칙어가 포함된 닉네임")
+    void validate_ContainsBlockedTerm_Fail() {
+      // given
+      BlockedTermFilter filter =
+          new BlockedTermFilter(new ByteArrayResource("fuck\n".getBytes(StandardCharsets.UTF_8)));
+      NickNameValidator filtered = new NickNameValidator("^[a-zA-Z0-9_]{3,15}$", filter);
+
+      // when & then
+      assertThat(filtered.isValid("F_U_C_K_123", context)).isFalse();
+      assertThat(filtered.isValid("good_name", context)).isTrue();
+    }
+  }
 }
@@ -0,0 +1,84 @@
+package com.teambind.profileserver.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NicknamePattern 단위 테스트
+ *
+ * <p>테스트 전략: 1. 단순 문자 클래스 규칙은 스캐너 경로로 컴파일되는지 확인 2. 그 외 규칙은 정규식 경로로 처리되는지 확인 3. 무작위 입력에 대해
+ * String.matches 와 결과가 같은지 비교
+ */
+@DisplayName("NicknamePattern 단위 테스트")
+class NicknamePatternTest {
+
+  private static final String ALPHABET = "abcXYZ019_-가힣ㄱ !@한😀";
+
+  private static void assertSameAsRegex(String regex) {
+    NicknamePattern pattern = NicknamePattern.compile(regex);
+    Random random = new Random(42);
+    for (int n = 0; n < 20_000; n++) {
+      int length = random.nextInt(20);
+      StringBuilder sb = new StringBuilder();
+      for (int i = 0; i < length; i++) {
+        sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+      }
+      String value = sb.toString();
+      assertThat(pattern.matches(value))
+          .as("%s / [%s]", regex, value)
+          .isEqualTo(value.matches(regex));
+    }
+  }
+
+  @Nested
+  @DisplayName("스캐너 경로")
+  class Scanner {
+
+    @Test
+    @DisplayName("단순 문자 클래스 규칙은 스캐너로 처리하고 결과는 정규식과 동일")
+    void simpleRules_UseScanner() {
+      List<String> regexes =
+          List.of(
+              "^[a-zA-Z0-9_]{3,15}$",
+              "[a-z가-힣0-9]{2,10}",
+              "^[-a-z]+$",
+              "^[a-z-]*$",
+              "^[a-zA-Z]{4}$",
+              "^[0-9]{2,}$");
+      for (String regex : regexes) {
+        assertThat(NicknamePattern.compile(regex).isScanner()).as(regex).isTrue();
+        assertSameAsRegex(regex);
+      }
+    }
+
+    @Test
+    @DisplayName("기본 규칙 - 길이 경계값")
+    void defaultRule_LengthBoundary() {
+      NicknamePattern pattern = NicknamePattern.compile("^[a-zA-Z0-9_]{3,15}$");
+
+      assertThat(pattern.matches("ab")).isFalse();
+      assertThat(pattern.matches("abc")).isTrue();
+      assertThat(pattern.matches("a".repeat(15))).isTrue();
+      assertThat(pattern.matches("a".repeat(16))).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("정규식 경로")
+  class RegexFallback {
+
+    @Test
+    @DisplayName("부정 클래스, 플래그, 이스케이프가 있는 규칙은 컴파일된 Pattern 으로 처리")
+    void complexRules_UsePattern() {
+      for (String regex : List.of("^[^a-z]{3,15}$", "(?i)^[a-z]{3,15}$", "^[\\w]{3,15}$")) {
+        assertThat(NicknamePattern.compile(regex).isScanner()).as(regex).isFalse();
+        assertSameAsRegex(regex);
+      }
+    }
+  }
+}